@@ -0,0 +1,127 @@
+package com.tinubu.insurance.policymanager.admission;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.tinubu.insurance.policymanager.config.AdmissionControlProperties.LimitSettings;
+
+/**
+ * AIMD concurrency limiter driven by observed request latency.
+ * The limit grows by roughly one permit per round trip while requests finish under
+ * the latency target and is cut multiplicatively as soon as one does not, at most once
+ * per round trip: requests already in flight when the limit was cut do not cut it again.
+ * Callers that find no free permit may wait briefly in a bounded queue; everything
+ * beyond that is rejected immediately so it can be shed.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    // Guarded by lock, read without it by the metrics gauges
+    private volatile double limit;
+    private volatile int inFlight;
+    private volatile int queued;
+
+    // Guarded by lock
+    private boolean backedOff;
+    private long lastBackoffNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, LimitSettings settings, double backoffRatio) {
+        if (settings.getMinLimit() < 1 || settings.getMaxLimit() < settings.getMinLimit()) {
+            throw new IllegalArgumentException("Invalid limits for " + name + " limiter");
+        }
+        this.name = name;
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.maxQueue = settings.getMaxQueue();
+        this.maxWaitNanos = settings.getMaxWait().toNanos();
+        this.latencyTargetNanos = settings.getLatencyTarget().toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, settings.getInitialLimit()));
+    }
+
+    /**
+     * Takes a permit, waiting at most the configured queue time for one to free up.
+     * Returns false when the request should be shed.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= maxQueue || maxWaitNanos <= 0) {
+                return false;
+            }
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit and feeds the request latency back into the limit.
+     */
+    public void release(long latencyNanos) {
+        lock.lock();
+        try {
+            int inFlightBefore = inFlight;
+            inFlight = inFlightBefore - 1;
+            if (latencyNanos > latencyTargetNanos) {
+                long now = System.nanoTime();
+                // A request that started before the last cut was admitted under the old
+                // limit, so its latency is already accounted for
+                if (!backedOff || now - latencyNanos - lastBackoffNanos >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    backedOff = true;
+                    lastBackoffNanos = now;
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                // Only grow while the limit is actually being used, otherwise an idle
+                // service would ratchet up to maxLimit and lose its protection
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tinubu.insurance.policymanager.admission;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.tinubu.insurance.policymanager.config.AdmissionControlProperties;
+import com.tinubu.insurance.policymanager.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admits requests to the policy API through separate adaptive limiters for reads
+ * and writes. Requests that cannot get a permit within the short queue time are
+ * rejected with a {@link ServiceOverloadedException}, which the
+ * GlobalExceptionHandler turns into a 503 with a Retry-After header.
+ */
+@Component
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private final AdmissionControlProperties properties;
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final Counter readRejections;
+    private final Counter writeRejections;
+
+    public AdmissionControlInterceptor(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.readLimiter = new AdaptiveConcurrencyLimiter("read", properties.getRead(), properties.getBackoffRatio());
+        this.writeLimiter = new AdaptiveConcurrencyLimiter("write", properties.getWrite(), properties.getBackoffRatio());
+        this.readRejections = registerMetrics(readLimiter, meterRegistry);
+        this.writeRejections = registerMetrics(writeLimiter, meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        // An async re-dispatch only completes a request admitted on its initial dispatch,
+        // whose permit was returned when the async handling started
+        if (!properties.isEnabled() || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        boolean read = isRead(request);
+        AdaptiveConcurrencyLimiter limiter = read ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            (read ? readRejections : writeRejections).increment();
+            throw new ServiceOverloadedException(
+                    "Service is overloaded, please retry later", properties.getRetryAfter());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        releasePermit(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        // Long-lived async responses must not hold a permit for their whole lifetime
+        releasePermit(request);
+    }
+
+    private void releasePermit(HttpServletRequest request) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof Permit p) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            p.limiter().release(System.nanoTime() - p.startNanos());
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        // POST /batch only carries a long id list in its body, it is still a read
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method) || request.getRequestURI().endsWith("/batch");
+    }
+
+    private static Counter registerMetrics(AdaptiveConcurrencyLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("policy.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("class", limiter.getName())
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("policy.admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("class", limiter.getName())
+                .description("Requests currently holding a permit")
+                .register(registry);
+        Gauge.builder("policy.admission.queued", limiter, AdaptiveConcurrencyLimiter::getQueued)
+                .tag("class", limiter.getName())
+                .description("Requests waiting for a permit")
+                .register(registry);
+        return Counter.builder("policy.admission.rejected")
+                .tag("class", limiter.getName())
+                .description("Requests shed with 503")
+                .register(registry);
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+    }
+}
@@ -0,0 +1,267 @@
+package com.tinubu.insurance.policymanager.audit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.config.AuditProperties;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.model.PolicyAuditEntry;
+import com.tinubu.insurance.policymanager.repository.PolicyAuditRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Records committed policy changes in the audit history without slowing down writes.
+ * The after-commit listener only enqueues the event; a background thread computes the
+ * field diffs and inserts whatever has accumulated in one transaction.
+ * When the queue is full or the database rejects a batch, entries are appended to a
+ * local spool file instead and replayed once the writer is idle again. Replay is at
+ * least once: a crash between commit and deleting the spool file repeats its entries.
+ */
+@Component
+@EnableConfigurationProperties(AuditProperties.class)
+public class PolicyAuditWriter {
+    private static final Logger log = LoggerFactory.getLogger(PolicyAuditWriter.class);
+
+    static final String SPOOL_FILE = "audit-spool.ndjson";
+    static final String REPLAY_SUFFIX = ".replay";
+    private static final long POLL_TIMEOUT_MILLIS = 1000;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private final PolicyAuditRepository auditRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingAudit> queue;
+    private final int batchSize;
+    private final Path spoolDirectory;
+    private final long replayIntervalNanos;
+    private final Counter persisted;
+    private final Counter spooled;
+    private final Object spoolLock = new Object();
+
+    private volatile boolean running;
+    private Thread writer;
+    private long lastReplayNanos = System.nanoTime();
+
+    public PolicyAuditWriter(PolicyAuditRepository auditRepository, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, AuditProperties properties, MeterRegistry meterRegistry) {
+        this.auditRepository = auditRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.spoolDirectory = properties.getSpoolDirectory();
+        this.replayIntervalNanos = properties.getReplayInterval().toNanos();
+        this.persisted = meterRegistry.counter("policy.audit.entries", "outcome", "persisted");
+        this.spooled = meterRegistry.counter("policy.audit.entries", "outcome", "spooled");
+        meterRegistry.gauge("policy.audit.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "policy-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Let the writer flush the queue while the database is still up
+        running = false;
+        writer.join(STOP_TIMEOUT_MILLIS);
+        writer.interrupt();
+        List<PendingAudit> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spool(remaining.stream().map(this::toEntry).toList());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        PendingAudit pending = new PendingAudit(event, Instant.now());
+        if (!queue.offer(pending)) {
+            spool(List.of(toEntry(pending)));
+        }
+    }
+
+    /**
+     * Persists everything currently queued. Returns false when the queue was empty.
+     */
+    boolean flush() {
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return false;
+        }
+        persist(batch.stream().map(this::toEntry).toList());
+        return true;
+    }
+
+    /**
+     * Moves the current spool file aside and inserts every spooled entry. Files that
+     * fail are kept and retried on the next replay.
+     */
+    void replaySpool() {
+        synchronized (spoolLock) {
+            Path spoolFile = spoolDirectory.resolve(SPOOL_FILE);
+            if (Files.exists(spoolFile)) {
+                try {
+                    Files.move(spoolFile, spoolDirectory.resolve(SPOOL_FILE + "." + System.nanoTime() + REPLAY_SUFFIX),
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.warn("Could not rotate audit spool file {}", spoolFile, e);
+                    return;
+                }
+            }
+        }
+        if (!Files.isDirectory(spoolDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDirectory, "*" + REPLAY_SUFFIX)) {
+            for (Path file : files) {
+                replayFile(file);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Replaying the audit spool failed, will retry", e);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAudit first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpoolIfDue();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch.stream().map(this::toEntry).toList());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Audit writer failed on a batch of {} entries", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void replaySpoolIfDue() {
+        long now = System.nanoTime();
+        if (now - lastReplayNanos >= replayIntervalNanos) {
+            lastReplayNanos = now;
+            replaySpool();
+        }
+    }
+
+    private void persist(List<PolicyAuditEntry> entries) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> auditRepository.saveAll(entries));
+            persisted.increment(entries.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not persist {} audit entries, spooling them", entries.size(), e);
+            entries.forEach(entry -> entry.setId(null));
+            spool(entries);
+        }
+    }
+
+    private void replayFile(Path file) throws IOException {
+        List<PolicyAuditEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    entries.add(objectMapper.readValue(line, PolicyAuditEntry.class));
+                }
+            }
+        }
+        // One transaction for the whole file, so a failure never leaves it half applied
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                auditRepository.saveAll(entries.subList(from, Math.min(entries.size(), from + batchSize)));
+            }
+        });
+        Files.delete(file);
+        persisted.increment(entries.size());
+        log.info("Replayed {} spooled audit entries from {}", entries.size(), file.getFileName());
+    }
+
+    private void spool(List<PolicyAuditEntry> entries) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (PolicyAuditEntry entry : entries) {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Dropping {} audit entries that could not be serialized", entries.size(), e);
+            return;
+        }
+        synchronized (spoolLock) {
+            try {
+                Files.createDirectories(spoolDirectory);
+                try (FileChannel channel = FileChannel.open(spoolDirectory.resolve(SPOOL_FILE),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                }
+                spooled.increment(entries.size());
+            } catch (IOException e) {
+                log.error("Lost {} audit entries: spool directory {} is not writable",
+                        entries.size(), spoolDirectory, e);
+            }
+        }
+    }
+
+    private PolicyAuditEntry toEntry(PendingAudit pending) {
+        PolicyChangedEvent event = pending.event();
+        try {
+            return PolicyAuditEntry.builder()
+                    .policyId(event.policyId())
+                    .changeSeq(event.changeSeq())
+                    .changeType(event.type())
+                    .changedAt(pending.changedAt())
+                    .changes(objectMapper.writeValueAsString(PolicyDiff.between(event.before(), event.after())))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize audit diff for policy " + event.policyId(), e);
+        }
+    }
+
+    private record PendingAudit(PolicyChangedEvent event, Instant changedAt) {
+    }
+}
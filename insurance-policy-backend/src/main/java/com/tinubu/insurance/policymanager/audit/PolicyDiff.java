@@ -0,0 +1,45 @@
+package com.tinubu.insurance.policymanager.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.tinubu.insurance.policymanager.dto.FieldChange;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+
+/**
+ * Field-level difference between two states of a policy. A missing state (before a
+ * create, after a delete) compares as all fields null. Technical columns such as the
+ * version or timestamps are left out; they change on every write.
+ */
+public final class PolicyDiff {
+
+    private static final List<AuditedField> FIELDS = List.of(
+            new AuditedField("policyName", InsurancePolicy::getPolicyName),
+            new AuditedField("status", InsurancePolicy::getStatus),
+            new AuditedField("coverageStartDate", InsurancePolicy::getCoverageStartDate),
+            new AuditedField("coverageEndDate", InsurancePolicy::getCoverageEndDate));
+
+    private PolicyDiff() {
+    }
+
+    public static List<FieldChange> between(InsurancePolicy before, InsurancePolicy after) {
+        List<FieldChange> changes = new ArrayList<>(FIELDS.size());
+        for (AuditedField field : FIELDS) {
+            String oldValue = field.read(before);
+            String newValue = field.read(after);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new FieldChange(field.name(), oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    private record AuditedField(String name, Function<InsurancePolicy, Object> getter) {
+        String read(InsurancePolicy policy) {
+            Object value = policy == null ? null : getter.apply(policy);
+            return value == null ? null : value.toString();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.tinubu.insurance.policymanager.cache;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.config.PageCacheProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PagedResponse;
+import com.tinubu.insurance.policymanager.invalidation.InvalidationListener;
+import com.tinubu.insurance.policymanager.service.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Serialized JSON of the first few list pages per sort order, so the hot default view
+ * is answered without a query or Jackson.
+ * Every policy change bumps a generation counter; an entry is only served while its
+ * generation is current, and a load that overlapped a change is never stored.
+ */
+@Component
+@EnableConfigurationProperties(PageCacheProperties.class)
+public class PageResponseCache implements InvalidationListener {
+
+    public record CachedPage(byte[] body, String etag) {
+    }
+
+    private record PageKey(int page, int size, String sortBy, String direction) {
+    }
+
+    private record Entry(long generation, CachedPage page) {
+    }
+
+    private record FlightKey(PageKey key, long generation) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final PageCacheProperties properties;
+    private final ConcurrentMap<PageKey, Entry> pages = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    // Misses coalesce per generation, so a request never joins a load older than the last write
+    private final SingleFlight<FlightKey, Entry> loads;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    public PageResponseCache(ObjectMapper objectMapper, PageCacheProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.loads = new SingleFlight<>("pageResponseCache", meterRegistry);
+        this.hits = meterRegistry.counter("policy.page.cache", "result", "hit");
+        this.misses = meterRegistry.counter("policy.page.cache", "result", "miss");
+        this.bypasses = meterRegistry.counter("policy.page.cache", "result", "bypass");
+        Gauge.builder("policy.page.cache.hit.ratio", this, PageResponseCache::hitRatio)
+                .description("Share of cacheable list page requests served from memory")
+                .register(meterRegistry);
+        Gauge.builder("policy.page.cache.size", pages, ConcurrentMap::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the serialized page, from memory when possible. Pages beyond the cached
+     * range are loaded on every call. Concurrent misses on the same page and generation
+     * share one call to the loader, so the loader needs no deduplication of its own.
+     */
+    public CachedPage get(int page, int size, String sortBy, String direction,
+            Supplier<PagedResponse<InsurancePolicyDTO>> loader) {
+        // Anything other than "asc" sorts descending, so all such requests share one entry
+        PageKey key = new PageKey(page, size, sortBy, "asc".equalsIgnoreCase(direction) ? "asc" : "desc");
+        long loadGeneration = generation.get();
+        if (!properties.isEnabled() || page >= properties.getMaxPages() || size > properties.getMaxPageSize()) {
+            bypasses.increment();
+            return load(key, loadGeneration, loader).page();
+        }
+
+        Entry entry = pages.get(key);
+        if (entry != null && entry.generation() == loadGeneration) {
+            hits.increment();
+            return entry.page();
+        }
+
+        misses.increment();
+        Entry loaded = load(key, loadGeneration, loader);
+        if (generation.get() == loaded.generation()) {
+            if (pages.size() >= properties.getMaxEntries() && !pages.containsKey(key)) {
+                evictOne();
+            }
+            pages.put(key, loaded);
+        }
+        return loaded.page();
+    }
+
+    @Override
+    public void invalidatePolicies(Set<Long> policyIds) {
+        // Any change can move rows between pages, so every page is affected
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        pages.clear();
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private Entry load(PageKey key, long loadGeneration, Supplier<PagedResponse<InsurancePolicyDTO>> loader) {
+        return loads.execute(new FlightKey(key, loadGeneration),
+                () -> new Entry(loadGeneration, serialize(loader.get())));
+    }
+
+    private CachedPage serialize(PagedResponse<InsurancePolicyDTO> response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new CachedPage(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize policy page", e);
+        }
+    }
+
+    private void evictOne() {
+        Iterator<PageKey> keys = pages.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tinubu.insurance.policymanager.cache;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.invalidation.InvalidationListener;
+
+/**
+ * Bounded in-process cache of policies by id, kept correct by the InvalidationBus.
+ * A load only populates the cache if no invalidation happened since it started, so a
+ * slow read can never put back a value that a concurrent write just evicted.
+ */
+@Component
+public class PolicyCache implements InvalidationListener {
+    private final ConcurrentMap<Long, InsurancePolicyDTO> policies = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final int maxEntries;
+
+    public PolicyCache(@Value("${policy.cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public InsurancePolicyDTO get(Long id) {
+        return policies.get(id);
+    }
+
+    /**
+     * Returns the token a loader must pass back to {@link #put} once it has read the policy.
+     */
+    public long startLoad() {
+        return epoch.get();
+    }
+
+    public void put(long loadToken, InsurancePolicyDTO policy) {
+        if (policies.size() >= maxEntries) {
+            evictOne();
+        }
+        policies.put(policy.getId(), policy);
+        // An invalidation raced with this load; whatever it evicted may be what we just stored
+        if (epoch.get() != loadToken) {
+            policies.remove(policy.getId(), policy);
+        }
+    }
+
+    @Override
+    public void invalidatePolicies(Set<Long> policyIds) {
+        epoch.incrementAndGet();
+        policyIds.forEach(policies::remove);
+    }
+
+    @Override
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        policies.clear();
+    }
+
+    public int size() {
+        return policies.size();
+    }
+
+    private void evictOne() {
+        Iterator<Long> keys = policies.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings for the adaptive admission control in front of the policy API.
+ * Reads and writes get their own limiter so a slow write path cannot starve reads.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.admission")
+public class AdmissionControlProperties {
+    private boolean enabled = true;
+
+    // Multiplicative decrease applied when a request exceeds its latency target
+    private double backoffRatio = 0.9;
+
+    // Value of the Retry-After header sent with shed requests
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private LimitSettings read = new LimitSettings(64, 8, 256, 64, Duration.ofMillis(50), Duration.ofMillis(200));
+    private LimitSettings write = new LimitSettings(16, 4, 64, 32, Duration.ofMillis(50), Duration.ofMillis(500));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LimitSettings {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private int maxQueue;
+        private Duration maxWait;
+        private Duration latencyTarget;
+    }
+}
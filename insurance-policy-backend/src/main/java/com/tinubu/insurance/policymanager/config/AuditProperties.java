@@ -0,0 +1,25 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the asynchronous policy audit history.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.audit")
+public class AuditProperties {
+    private int queueCapacity = 10_000;
+    private int batchSize = 200;
+
+    // Entries that cannot be queued or persisted are appended here. The temporary
+    // directory default is for development; prod points this at a persistent volume
+    private Path spoolDirectory = Path.of(System.getProperty("java.io.tmpdir"), "policy-audit-spool");
+
+    // How often an idle writer retries persisting spooled entries
+    private Duration replayInterval = Duration.ofSeconds(30);
+}
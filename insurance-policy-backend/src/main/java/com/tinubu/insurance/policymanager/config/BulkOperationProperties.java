@@ -0,0 +1,26 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Limits for set-based bulk operations. Each chunk runs in its own transaction, so
+ * row locks are held for one chunk at most.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.bulk")
+public class BulkOperationProperties {
+    private int chunkSize = 500;
+
+    // Transaction timeout of a single chunk; its statements are cancelled past this
+    private Duration chunkTimeout = Duration.ofSeconds(5);
+
+    // Total time one request may spend; remaining rows are left for a follow-up call
+    private Duration maxDuration = Duration.ofSeconds(60);
+
+    // Upper bound on the ids accepted by one bulk status change
+    private int maxIds = 100_000;
+}
@@ -0,0 +1,21 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the change feed served at /api/policies/changes.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.change-feed")
+public class ChangeFeedProperties {
+    // Longest a write transaction may hold a change sequence value before it commits;
+    // must exceed policy.bulk.chunk-timeout. Zero trusts every committed value at once.
+    private Duration visibilityWindow = Duration.ofSeconds(10);
+
+    // How often every shard's highest committed change sequence value is read
+    private Duration sampleInterval = Duration.ofMillis(500);
+}
@@ -0,0 +1,19 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The clock behind date rules such as "coverage cannot start in the past", so tests
+ * can pin "today".
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
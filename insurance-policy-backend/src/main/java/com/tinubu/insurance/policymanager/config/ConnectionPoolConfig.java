@@ -0,0 +1,40 @@
+package com.tinubu.insurance.policymanager.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tinubu.insurance.policymanager.pool.HoldTimingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wraps the application DataSource so connection hold times are recorded per service
+ * method. Pool-level metrics (acquire time, active, idle and pending connections) come
+ * from Hikari itself.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "policy.pool", name = "hold-timing", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(PoolProperties.class)
+public class ConnectionPoolConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor holdTimingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new HoldTimingDataSource(dataSource, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the asynchronous policy export jobs.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.export")
+public class ExportProperties {
+    // Where the compressed export files are written; emptied at startup
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "policy-exports");
+
+    // Jobs running at the same time; the others wait in the queue
+    private int threads = 1;
+
+    // Jobs that can wait; beyond this, starting an export is rejected with 503
+    private int maxQueued = 8;
+
+    // Policies read per query while exporting
+    private int batchSize = 1000;
+
+    // Finished jobs and their files are removed this long after completion
+    private Duration retention = Duration.ofHours(24);
+}
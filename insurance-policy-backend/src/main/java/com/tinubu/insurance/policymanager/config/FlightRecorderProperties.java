@@ -0,0 +1,34 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Settings for the custom JDK Flight Recorder events and the recording endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.jfr")
+public class FlightRecorderProperties {
+    // Emits the policy operation and request events; they cost nothing while no recording runs
+    private boolean events = true;
+
+    // Exposes /api/admin/recordings to start, stop and download recordings
+    private boolean endpointEnabled = false;
+
+    // JDK settings the recordings start from: "default" (about 1% overhead) or "profile"
+    private String settings = "default";
+
+    // Minimum duration of a policy event for it to be recorded
+    private Duration eventThreshold = Duration.ZERO;
+
+    private Duration defaultDuration = Duration.ofMinutes(1);
+    private Duration maxDuration = Duration.ofMinutes(10);
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    // Finished recordings kept for download; older ones are discarded when a new one starts
+    private int retained = 3;
+}
@@ -0,0 +1,50 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+import lombok.Data;
+
+/**
+ * Settings for the synthetic data generator run by the "generate" profile.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.generator")
+public class GeneratorProperties {
+    private long count = 1_000_000;
+
+    // The same seed and settings always produce the same rows
+    private long seed = 42;
+
+    private int batchSize = 5000;
+
+    private int threads = 4;
+
+    // Relative weights; statuses left out are never generated
+    private Map<PolicyStatus, Double> statusWeights = new EnumMap<>(Map.of(
+            PolicyStatus.ACTIVE, 0.8,
+            PolicyStatus.INACTIVE, 0.2));
+
+    // Coverage starts are spread uniformly over coverage-start-days from this date
+    private LocalDate coverageStartFrom = LocalDate.of(2020, 1, 1);
+    private int coverageStartDays = 3650;
+    private int minCoverageDays = 30;
+    private int maxCoverageDays = 730;
+
+    // Number of distinct policy names
+    private int nameCardinality = 10_000;
+
+    // Generating into a table that already has policies is refused unless set
+    private boolean append = false;
+
+    // Uses COPY instead of batched INSERTs when the database is PostgreSQL
+    private boolean copy = true;
+
+    // Stops the application once the rows are written, for populate-only runs
+    private boolean exitOnCompletion = false;
+}
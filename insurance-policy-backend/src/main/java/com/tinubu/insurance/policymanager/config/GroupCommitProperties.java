@@ -0,0 +1,31 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for grouping concurrent policy creates into shared transactions.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.group-commit")
+public class GroupCommitProperties {
+    // Off by default: each create then commits on its own, on the request thread
+    private boolean enabled = false;
+
+    // How long the first create of a batch waits for others to join it
+    private Duration window = Duration.ofMillis(2);
+
+    private int maxBatchSize = 64;
+
+    // Threads committing batches; each holds one connection while it commits
+    private int committers = 2;
+
+    // Creates waiting for a batch; beyond this they commit on their own
+    private int queueCapacity = 10_000;
+
+    // How long a request waits for its batch to commit before giving up on it
+    private Duration commitTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,50 @@
+package com.tinubu.insurance.policymanager.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.tinubu.insurance.policymanager.invalidation.InJvmInvalidationTransport;
+import com.tinubu.insurance.policymanager.invalidation.InvalidationTransport;
+import com.tinubu.insurance.policymanager.invalidation.PostgresInvalidationTransport;
+
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(InvalidationProperties properties, DataSource dataSource,
+            DataSourceProperties dataSourceProperties, ObjectProvider<ShardingProperties> shardingProperties) {
+        return switch (properties.getTransport()) {
+            case POSTGRES -> new PostgresInvalidationTransport(dataSource,
+                    listenDataSource(dataSourceProperties, shardingProperties.getIfAvailable()),
+                    properties.getChannel());
+            case IN_JVM -> new InJvmInvalidationTransport();
+        };
+    }
+
+    /**
+     * Opens a new physical connection on every call, outside any pool. The channel
+     * lives on shard 0 when sharding is enabled.
+     */
+    private DataSource listenDataSource(DataSourceProperties dataSourceProperties, ShardingProperties sharding) {
+        DriverManagerDataSource listenDataSource = new DriverManagerDataSource();
+        if (sharding != null && sharding.isEnabled()) {
+            ShardingProperties.ShardSettings shard = sharding.getShards().get(0);
+            listenDataSource.setUrl(shard.getUrl());
+            listenDataSource.setUsername(shard.getUsername());
+            listenDataSource.setPassword(shard.getPassword());
+        } else {
+            listenDataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            listenDataSource.setUrl(dataSourceProperties.determineUrl());
+            listenDataSource.setUsername(dataSourceProperties.determineUsername());
+            listenDataSource.setPassword(dataSourceProperties.determinePassword());
+        }
+        return listenDataSource;
+    }
+}
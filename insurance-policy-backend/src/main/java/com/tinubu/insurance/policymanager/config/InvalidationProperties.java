@@ -0,0 +1,30 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the cross-node cache invalidation bus.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.invalidation")
+public class InvalidationProperties {
+    private Transport transport = Transport.IN_JVM;
+
+    // LISTEN/NOTIFY channel used by the postgres transport
+    private String channel = "policy_invalidation";
+
+    // Identifies this node so it can skip its own events, which it has already applied
+    private String nodeId = UUID.randomUUID().toString();
+
+    private int queueCapacity = 10_000;
+    private int maxBatchSize = 500;
+
+    public enum Transport {
+        IN_JVM,
+        POSTGRES
+    }
+}
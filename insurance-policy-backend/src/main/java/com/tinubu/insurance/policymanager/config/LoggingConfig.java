@@ -0,0 +1,42 @@
+package com.tinubu.insurance.policymanager.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.tinubu.insurance.policymanager.logging.SqlCaptureDataSource;
+
+/**
+ * Wraps the application DataSource so slow and sampled statements reach the logs with
+ * their bind values. This replaces spring.jpa.show-sql, which prints every statement
+ * synchronously on the request thread.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "policy.logging.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LoggingProperties.class)
+public class LoggingConfig {
+
+    // Only the DataSource that JPA and the other components use, not the pools behind it
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlCaptureDataSourcePostProcessor(Environment environment) {
+        LoggingProperties properties = Binder.get(environment)
+                .bindOrCreate("policy.logging", LoggingProperties.class);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new SqlCaptureDataSource(dataSource, properties.getSql());
+                }
+                return bean;
+            }
+        };
+    }
+}
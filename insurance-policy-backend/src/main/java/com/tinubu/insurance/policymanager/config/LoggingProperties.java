@@ -0,0 +1,33 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for request correlation and for the SQL statements captured in the logs.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.logging")
+public class LoggingProperties {
+    // Capacity of the asynchronous console appender queue, read by logback-spring.xml
+    private int queueSize = 8192;
+
+    private Sql sql = new Sql();
+
+    @Data
+    public static class Sql {
+        private boolean enabled = true;
+
+        // Statements running at least this long are always logged with their bind values
+        private Duration slowThreshold = Duration.ofMillis(200);
+
+        // Fraction of the remaining statements logged anyway, 0 to disable
+        private double sampleRate = 0.0;
+
+        // Longer bind values are truncated in the log
+        private int maxBindLength = 64;
+    }
+}
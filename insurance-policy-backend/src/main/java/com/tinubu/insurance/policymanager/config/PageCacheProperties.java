@@ -0,0 +1,19 @@
+package com.tinubu.insurance.policymanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the serialized response cache of the first list pages.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.page-cache")
+public class PageCacheProperties {
+    private boolean enabled = true;
+
+    // Pages 0 to maxPages - 1 of each sort order are cached
+    private int maxPages = 3;
+    private int maxPageSize = 100;
+    private int maxEntries = 256;
+}
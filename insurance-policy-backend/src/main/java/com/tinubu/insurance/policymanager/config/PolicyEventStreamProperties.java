@@ -0,0 +1,23 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the server-sent events stream of policy changes.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.events")
+public class PolicyEventStreamProperties {
+    private int maxSubscribers = 1000;
+
+    // Events buffered per client before it is considered too slow and disconnected
+    private int bufferSize = 256;
+
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private int senderThreads = 4;
+}
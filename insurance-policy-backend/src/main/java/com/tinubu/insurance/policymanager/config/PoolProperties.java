@@ -0,0 +1,38 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for connection pool telemetry and adaptive pool sizing. The pools themselves
+ * are configured under spring.datasource.hikari, which also applies to every shard.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.pool")
+public class PoolProperties {
+    // Times how long each service method keeps a connection checked out
+    private boolean holdTiming = true;
+
+    private Adaptive adaptive = new Adaptive();
+
+    @Data
+    public static class Adaptive {
+        private boolean enabled = false;
+        private int minSize = 4;
+        private int maxSize = 32;
+        private Duration interval = Duration.ofSeconds(5);
+
+        // Mean wait for a connection above which the pool grows by grow-step
+        private Duration waitTarget = Duration.ofMillis(5);
+
+        // Mean hold time above which the pool shrinks by backoff-ratio: the database is
+        // slowing down and more connections would only add to its load
+        private Duration holdTarget = Duration.ofMillis(200);
+
+        private int growStep = 2;
+        private double backoffRatio = 0.8;
+    }
+}
@@ -0,0 +1,20 @@
+package com.tinubu.insurance.policymanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the in-memory columnar read model serving policy lists.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.read-model")
+public class ReadModelProperties {
+    private boolean enabled = true;
+
+    // Keeps the column arrays in direct memory instead of on the Java heap
+    private boolean offHeap = false;
+
+    // Sort indexes are built on first use; the least recently used is dropped beyond this
+    private int maxSortIndexes = 16;
+}
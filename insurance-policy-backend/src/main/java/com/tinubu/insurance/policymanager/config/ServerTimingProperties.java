@@ -0,0 +1,17 @@
+package com.tinubu.insurance.policymanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the Server-Timing header on policy API responses.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.server-timing")
+public class ServerTimingProperties {
+    private boolean enabled = true;
+
+    // Fraction of requests that are timed; a timed response is buffered until it is complete
+    private double sampleRate = 1.0;
+}
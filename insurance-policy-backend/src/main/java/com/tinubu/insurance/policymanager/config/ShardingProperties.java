@@ -0,0 +1,36 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings for spreading policies over several databases. When disabled, the regular
+ * spring.datasource is the only shard.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.sharding")
+public class ShardingProperties {
+    private boolean enabled = false;
+
+    // Shard i owns the policies whose id modulo the shard count is i, so shards may be
+    // appended to this list only after moving the rows whose owner changes
+    private List<ShardSettings> shards = new ArrayList<>();
+
+    // Threads running the per-shard parts of a scatter-gather query
+    private int scatterThreads = 8;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShardSettings {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tinubu.insurance.policymanager.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the on-disk snapshot of the coverage index used for warm restarts.
+ */
+@Data
+@ConfigurationProperties(prefix = "policy.snapshot")
+public class SnapshotProperties {
+    // Off by default: the file has to outlive the process and belong to a single database
+    private boolean enabled = false;
+
+    private Path file = Path.of(System.getProperty("java.io.tmpdir"), "policy-snapshot", "coverage-index.snap");
+
+    // How often a fresh snapshot is written while running, besides the one written on shutdown
+    private Duration interval = Duration.ofMinutes(10);
+
+    // Changes re-read below the snapshot's high-water mark, for writes that committed
+    // after it was taken although their sequence value was drawn before
+    private long catchUpOverlap = 1000;
+}
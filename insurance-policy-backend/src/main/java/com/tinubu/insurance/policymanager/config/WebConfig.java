@@ -1,18 +1,47 @@
 package com.tinubu.insurance.policymanager.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.tinubu.insurance.policymanager.admission.AdmissionControlInterceptor;
+import com.tinubu.insurance.policymanager.jfr.PolicyRequestEventInterceptor;
+import com.tinubu.insurance.policymanager.logging.RequestIdFilter;
+import com.tinubu.insurance.policymanager.timing.ServerTimingFilter;
+
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+    public static final List<String> ALLOWED_ORIGINS =
+            List.of("http://localhost:5173", "http://localhost:80", "http://localhost");
+    public static final String EXPORT_DOWNLOADS = "/api/policies/exports/*/file";
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+    private final ObjectProvider<PolicyRequestEventInterceptor> requestEventInterceptor;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
-                .allowedOrigins("http://localhost:5173", "http://localhost:80", "http://localhost")
+                .allowedOrigins(ALLOWED_ORIGINS.toArray(String[]::new))
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Retry-After", "ETag", RequestIdFilter.HEADER, ServerTimingFilter.HEADER)
                 .allowCredentials(true);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Downloads can take minutes and would distort the latency the limits adapt to
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/policies", "/api/policies/**")
+                .excludePathPatterns(EXPORT_DOWNLOADS);
+        requestEventInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/policies", "/api/policies/**"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.tinubu.insurance.policymanager.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.tinubu.insurance.policymanager.dto.RecordingResponse;
+import com.tinubu.insurance.policymanager.jfr.FlightRecordingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * On-demand flight recordings for profiling, only mapped with policy.jfr.endpoint-enabled.
+ * The application has no authentication, so this must stay behind an admin-only route.
+ */
+@RestController
+@RequestMapping("/api/admin/recordings")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "policy.jfr", name = "endpoint-enabled", havingValue = "true")
+public class FlightRecordingController {
+
+    private final FlightRecordingService recordingService;
+
+    /**
+     * Starts a recording; the duration is written like the configuration, e.g. "30s" or "5m".
+     */
+    @PostMapping
+    public ResponseEntity<RecordingResponse> startRecording(
+            @RequestParam(value = "duration", required = false) String duration) {
+        Duration parsed = duration != null ? DurationStyle.detectAndParse(duration) : null;
+        return ResponseEntity.status(HttpStatus.CREATED).body(recordingService.start(parsed));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RecordingResponse>> getRecordings() {
+        return ResponseEntity.ok(recordingService.list());
+    }
+
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<RecordingResponse> stopRecording(@PathVariable long id) {
+        return ResponseEntity.ok(recordingService.stop(id));
+    }
+
+    /**
+     * The recording as a .jfr file; a running recording returns what it holds so far.
+     */
+    @GetMapping("/{id}/file")
+    public ResponseEntity<StreamingResponseBody> downloadRecording(@PathVariable long id) throws IOException {
+        Path file = recordingService.dump(id);
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("policy-" + id + ".jfr").build().toString())
+                .body(body);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> discardRecording(@PathVariable long id) {
+        recordingService.discard(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,8 +1,13 @@
 package com.tinubu.insurance.policymanager.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,14 +15,33 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.tinubu.insurance.policymanager.cache.PageResponseCache;
+import com.tinubu.insurance.policymanager.cache.PageResponseCache.CachedPage;
 import com.tinubu.insurance.policymanager.config.PaginationConfig;
+import com.tinubu.insurance.policymanager.dto.BatchPolicyRequest;
+import com.tinubu.insurance.policymanager.dto.BatchPolicyResponse;
+import com.tinubu.insurance.policymanager.dto.BulkOperationResponse;
+import com.tinubu.insurance.policymanager.dto.BulkStatusRequest;
+import com.tinubu.insurance.policymanager.dto.ChangeFeedResponse;
 import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
 import com.tinubu.insurance.policymanager.dto.PagedResponse;
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+import com.tinubu.insurance.policymanager.dto.PolicyHistoryResponse;
+import com.tinubu.insurance.policymanager.event.PolicyEventBroadcaster;
+import com.tinubu.insurance.policymanager.exception.ErrorResponse;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.service.BulkPolicyService;
+import com.tinubu.insurance.policymanager.service.ChangeFeedService;
 import com.tinubu.insurance.policymanager.service.InsurancePolicyService;
+import com.tinubu.insurance.policymanager.service.PolicyCreateBatcher;
+import com.tinubu.insurance.policymanager.service.PolicyHistoryService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,42 +52,146 @@ import lombok.RequiredArgsConstructor;
 public class InsurancePolicyController {
 
     private final InsurancePolicyService policyService;
+    private final PolicyEventBroadcaster eventBroadcaster;
+    private final ChangeFeedService changeFeedService;
+    private final PolicyHistoryService historyService;
+    private final BulkPolicyService bulkPolicyService;
+    private final PageResponseCache pageCache;
+    private final PolicyCreateBatcher createBatcher;
 
     @GetMapping
     public ResponseEntity<List<InsurancePolicyDTO>> getAllPolicies() {
         List<InsurancePolicyDTO> policies = policyService.getAllPolicies();
         return ResponseEntity.ok(policies);
     }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllPolicies(@RequestParam("fields") String fields) {
+        return ResponseEntity.ok(policyService.getAllPolicies(PolicyField.parse(fields)));
+    }
     
+    /**
+     * Returns the page as pre-serialized JSON (a PagedResponse of InsurancePolicyDTO)
+     * from the response cache, with an ETag so unchanged pages can be revalidated.
+     */
     @GetMapping("/paged")
-    public ResponseEntity<PagedResponse<InsurancePolicyDTO>> getPoliciesPaginated(
+    public ResponseEntity<byte[]> getPoliciesPaginated(
             @RequestParam(value = "page", defaultValue = ""+PaginationConfig.DEFAULT_PAGE) int page,
             @RequestParam(value = "size", defaultValue = ""+PaginationConfig.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(value = "sort", defaultValue = PaginationConfig.DEFAULT_SORT_FIELD) String sort,
-            @RequestParam(value = "direction", defaultValue = PaginationConfig.DEFAULT_SORT_DIRECTION) String direction) {
+            @RequestParam(value = "direction", defaultValue = PaginationConfig.DEFAULT_SORT_DIRECTION) String direction,
+            WebRequest request) {
         
-        PagedResponse<InsurancePolicyDTO> pagedResponse = policyService.getPoliciesPaginated(page, size, sort, direction);
-        return ResponseEntity.ok(pagedResponse);
+        CachedPage cachedPage = pageCache.get(page, size, sort, direction,
+                () -> policyService.loadPoliciesPage(page, size, sort, direction));
+        if (request.checkNotModified(cachedPage.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cachedPage.etag())
+                .body(cachedPage.body());
+    }
+
+    /**
+     * A page of the policies with one status. Not cached, as it is answered from the
+     * in-memory read model once that has loaded.
+     */
+    @GetMapping(value = "/paged", params = {"status", "!fields"})
+    public ResponseEntity<PagedResponse<InsurancePolicyDTO>> getPoliciesByStatus(
+            @RequestParam(value = "page", defaultValue = ""+PaginationConfig.DEFAULT_PAGE) int page,
+            @RequestParam(value = "size", defaultValue = ""+PaginationConfig.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(value = "sort", defaultValue = PaginationConfig.DEFAULT_SORT_FIELD) String sort,
+            @RequestParam(value = "direction", defaultValue = PaginationConfig.DEFAULT_SORT_DIRECTION) String direction,
+            @RequestParam("status") PolicyStatus status) {
+        return ResponseEntity.ok(policyService.getPoliciesByStatus(status, page, size, sort, direction));
+    }
+
+    @GetMapping(value = "/paged", params = "fields")
+    public ResponseEntity<PagedResponse<Map<String, Object>>> getPoliciesPaginated(
+            @RequestParam(value = "page", defaultValue = ""+PaginationConfig.DEFAULT_PAGE) int page,
+            @RequestParam(value = "size", defaultValue = ""+PaginationConfig.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(value = "sort", defaultValue = PaginationConfig.DEFAULT_SORT_FIELD) String sort,
+            @RequestParam(value = "direction", defaultValue = PaginationConfig.DEFAULT_SORT_DIRECTION) String direction,
+            @RequestParam("fields") String fields,
+            @RequestParam(value = "status", required = false) PolicyStatus status) {
+        if (status != null) {
+            throw new IllegalArgumentException("'status' cannot be combined with 'fields'");
+        }
+        return ResponseEntity.ok(policyService.getPoliciesPaginated(page, size, sort, direction,
+                PolicyField.parse(fields)));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(value = "since", defaultValue = "0") String since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+        return ResponseEntity.ok(changeFeedService.getChangesSince(since, limit));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPolicyEvents() {
+        return eventBroadcaster.subscribe();
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<BatchPolicyResponse> getPoliciesByIds(@RequestParam("ids") List<Long> ids) {
+        return ResponseEntity.ok(policyService.getPoliciesByIds(ids));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchPolicyResponse> getPoliciesByIds(@Valid @RequestBody BatchPolicyRequest request) {
+        return ResponseEntity.ok(policyService.getPoliciesByIds(request.getIds()));
+    }
+
+    @GetMapping("/in-force")
+    public ResponseEntity<List<InsurancePolicyDTO>> getPoliciesInForce(
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (date != null && from == null && to == null) {
+            return ResponseEntity.ok(policyService.getPoliciesInForce(date, date));
+        }
+        if (date == null && from != null && to != null) {
+            return ResponseEntity.ok(policyService.getPoliciesInForce(from, to));
+        }
+        throw new IllegalArgumentException("Provide either 'date' or both 'from' and 'to'");
+    }
+
+    /**
+     * Misses are answered directly with the 404 body rather than through
+     * PolicyNotFoundException, as scans of unknown ids are common.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<InsurancePolicyDTO> getPolicyById(@PathVariable Long id) {
-        InsurancePolicyDTO policy = policyService.getPolicyById(id);
-        return ResponseEntity.ok(policy);
+    public ResponseEntity<Object> getPolicyById(@PathVariable Long id) {
+        InsurancePolicyDTO policy = policyService.findPolicyById(id);
+        if (policy == null) {
+            return ErrorResponse.policyNotFound(id);
+        }
+        return ResponseEntity.ok().eTag(versionTag(policy)).body(policy);
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<PolicyHistoryResponse> getPolicyHistory(
+            @PathVariable Long id,
+            @RequestParam(value = "after", defaultValue = "0") long after,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(historyService.getHistory(id, after, limit));
     }
 
     @PostMapping
     public ResponseEntity<InsurancePolicyDTO> createPolicy(
-            @Valid @RequestBody InsurancePolicyDTO policyDTO) {
-        InsurancePolicyDTO createdPolicy = policyService.createPolicy(policyDTO);
+            @RequestBody InsurancePolicyDTO policyDTO) {
+        InsurancePolicyDTO createdPolicy = createBatcher.create(policyDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdPolicy);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<InsurancePolicyDTO> updatePolicy(
-            @PathVariable Long id, @Valid @RequestBody InsurancePolicyDTO policyDTO) {
-        InsurancePolicyDTO updatedPolicy = policyService.updatePolicy(id, policyDTO);
-        return ResponseEntity.ok(updatedPolicy);
+            @PathVariable Long id, @RequestBody InsurancePolicyDTO policyDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        InsurancePolicyDTO updatedPolicy = policyService.updatePolicy(id, policyDTO, parseVersionTag(ifMatch));
+        return ResponseEntity.ok().eTag(versionTag(updatedPolicy)).body(updatedPolicy);
     }
 
     @DeleteMapping("/{id}")
@@ -71,4 +199,41 @@ public class InsurancePolicyController {
         policyService.deletePolicy(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @PostMapping("/bulk-status")
+    public ResponseEntity<BulkOperationResponse> updateStatusInBulk(@Valid @RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(bulkPolicyService.updateStatus(request.getIds(), request.getStatus()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<BulkOperationResponse> deletePoliciesInBulk(
+            @RequestParam(value = "status", required = false) PolicyStatus status,
+            @RequestParam(value = "endBefore", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endBefore) {
+        return ResponseEntity.ok(bulkPolicyService.deleteMatching(status, endBefore));
+    }
+
+    private static String versionTag(InsurancePolicyDTO policy) {
+        return policy.getVersion() != null ? "\"" + policy.getVersion() + "\"" : null;
+    }
+
+    /**
+     * Extracts the policy version from an If-Match header such as "3" or W/"3".
+     * A missing header or "*" means the update is not conditional.
+     */
+    private static Long parseVersionTag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must carry a policy version, got: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.tinubu.insurance.policymanager.controller;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tinubu.insurance.policymanager.dto.ExportJobResponse;
+import com.tinubu.insurance.policymanager.dto.ExportRequest;
+import com.tinubu.insurance.policymanager.export.FileRangeResponse;
+import com.tinubu.insurance.policymanager.export.PolicyExportService;
+import com.tinubu.insurance.policymanager.export.PolicyExportService.ExportFile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/policies/exports")
+@RequiredArgsConstructor
+public class PolicyExportController {
+
+    private static final String GZIP = "application/gzip";
+
+    private final PolicyExportService exportService;
+
+    /**
+     * Starts an export in the background; the Location header points to its status.
+     */
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> startExport(@Valid @RequestBody ExportRequest request) {
+        ExportJobResponse job = exportService.startExport(request.getFormat());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/policies/exports/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ExportJobResponse>> getExports() {
+        return ResponseEntity.ok(exportService.getExports());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobResponse> getExport(@PathVariable String id) {
+        return ResponseEntity.ok(exportService.getExport(id));
+    }
+
+    /**
+     * The gzip-compressed export, with Range support so interrupted downloads can resume.
+     */
+    @GetMapping("/{id}/file")
+    public void downloadExport(@PathVariable String id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ExportFile file = exportService.getExportFile(id);
+        FileRangeResponse.send(file.path(), file.fileName(), GZIP, request, response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteExport(@PathVariable String id) {
+        exportService.deleteExport(id);
+        return ResponseEntity.noContent().build();
+    }
+}
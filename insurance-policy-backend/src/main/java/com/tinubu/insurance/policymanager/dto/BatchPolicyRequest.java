@@ -0,0 +1,18 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchPolicyRequest {
+    @NotEmpty(message = "At least one id is required")
+    private List<Long> ids;
+}
@@ -0,0 +1,18 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchPolicyResponse {
+    // Found policies, in the order their ids were requested
+    private List<InsurancePolicyDTO> policies;
+    private List<Long> missingIds;
+}
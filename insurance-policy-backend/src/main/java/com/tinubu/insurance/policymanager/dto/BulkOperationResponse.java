@@ -0,0 +1,18 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOperationResponse {
+    private long affected;
+    private int chunks;
+
+    // False when the time budget ran out first; repeating the request continues
+    private boolean completed;
+}
@@ -0,0 +1,24 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.util.List;
+
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusRequest {
+    @NotEmpty(message = "At least one id is required")
+    private List<Long> ids;
+
+    @NotNull(message = "Policy status is required")
+    private PolicyStatus status;
+}
@@ -0,0 +1,22 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedResponse {
+    private List<PolicyChangeDTO> changes;
+
+    // Value to pass as "since" on the next call: one position per shard, comma-separated.
+    // It stops before changes that a late commit could still precede, so those are
+    // returned again: apply changes idempotently, keyed by (policyId, seq).
+    private String nextSince;
+    private boolean hasMore;
+}
@@ -0,0 +1,33 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportJobResponse {
+    private String id;
+    private String format;
+
+    // QUEUED, RUNNING, COMPLETED, FAILED or CANCELLED
+    private String state;
+
+    // Policies in the database when the job started; rows written can differ slightly
+    private long totalRows;
+    private long rowsWritten;
+
+    // Compressed size written so far
+    private long sizeBytes;
+    private Instant createdAt;
+    private Instant completedAt;
+    private String error;
+
+    // Only set once the file is complete
+    private String downloadUrl;
+}
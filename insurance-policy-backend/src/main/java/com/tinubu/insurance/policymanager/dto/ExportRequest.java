@@ -0,0 +1,18 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import com.tinubu.insurance.policymanager.export.ExportFormat;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportRequest {
+    @NotNull(message = "Format is required (CSV or NDJSON)")
+    private ExportFormat format;
+}
@@ -0,0 +1,16 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FieldChange {
+    private String field;
+    private String oldValue;
+    private String newValue;
+}
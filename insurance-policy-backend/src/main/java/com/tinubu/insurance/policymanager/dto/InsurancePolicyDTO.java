@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class InsurancePolicyDTO {
     private Long id;
     
@@ -32,20 +32,7 @@ public class InsurancePolicyDTO {
     
     private LocalDate createdAt;
     private LocalDate updatedAt;
-    
-    // Custom validation to ensure end date is after start date
-    public void validateDates() {
-        LocalDate today = LocalDate.now();
-        
-        // Validate that start date is not in the past
-        if (coverageStartDate != null && coverageStartDate.isBefore(today)) {
-            throw new IllegalArgumentException("Coverage start date cannot be in the past");
-        }
-        
-        // Validate that end date is after start date
-        if (coverageEndDate != null && coverageStartDate != null 
-                && coverageEndDate.isBefore(coverageStartDate)) {
-            throw new IllegalArgumentException("Coverage end date must be after start date");
-        }
-    }
-}
\ No newline at end of file
+
+    // Version the client last saw; when set, updates are rejected if the policy changed since
+    private Long version;
+}
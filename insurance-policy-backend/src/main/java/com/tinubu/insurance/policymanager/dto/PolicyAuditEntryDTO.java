@@ -0,0 +1,24 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.tinubu.insurance.policymanager.event.ChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyAuditEntryDTO {
+    private Long id;
+    private Long policyId;
+    private Long changeSeq;
+    private ChangeType changeType;
+    private Instant changedAt;
+    private List<FieldChange> changes;
+}
@@ -0,0 +1,24 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyChangeDTO {
+    private long seq;
+    private Operation operation;
+    private Long policyId;
+
+    // Latest state of the policy, null for deletions
+    private InsurancePolicyDTO policy;
+
+    public enum Operation {
+        UPSERT,
+        DELETE
+    }
+}
@@ -0,0 +1,20 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import com.tinubu.insurance.policymanager.event.ChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyChangeNotification {
+    private ChangeType type;
+    private Long policyId;
+
+    // Current state of the policy, null for deletions
+    private InsurancePolicyDTO policy;
+}
@@ -0,0 +1,62 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of InsurancePolicyDTO a client may select with {@code fields=}.
+ * The JSON name of each field is also the entity attribute it is read from.
+ */
+public enum PolicyField {
+    ID("id"),
+    POLICY_NAME("policyName"),
+    STATUS("status"),
+    COVERAGE_START_DATE("coverageStartDate"),
+    COVERAGE_END_DATE("coverageEndDate"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    private static final Map<String, PolicyField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(PolicyField::getName, Function.identity()));
+
+    private final String name;
+
+    PolicyField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static Optional<PolicyField> find(String name) {
+        return Optional.ofNullable(BY_NAME.get(name));
+    }
+
+    /**
+     * Parses a comma-separated field list. The id is always included so clients can
+     * correlate rows; unknown names are rejected.
+     */
+    public static Set<PolicyField> parse(String fields) {
+        Set<PolicyField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            PolicyField field = BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown field '" + trimmed + "', allowed fields are "
+                        + BY_NAME.keySet().stream().sorted().collect(Collectors.joining(", ")));
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,20 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyHistoryResponse {
+    private List<PolicyAuditEntryDTO> entries;
+
+    // Value to pass as "after" to fetch the next page
+    private long nextAfter;
+    private boolean hasMore;
+}
@@ -0,0 +1,23 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecordingResponse {
+    private long id;
+    private String name;
+
+    // NEW, RUNNING, STOPPED or CLOSED, as reported by the JDK
+    private String state;
+    private Instant startTime;
+    private Long durationSeconds;
+    private long maxSizeBytes;
+}
@@ -0,0 +1,7 @@
+package com.tinubu.insurance.policymanager.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,27 @@
+package com.tinubu.insurance.policymanager.event;
+
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+
+/**
+ * Published by InsurancePolicyService for every write. Listeners that keep derived
+ * state should consume it with {@code @TransactionalEventListener} so they only see
+ * committed changes. The before/after states are detached copies and safe to keep.
+ */
+public record PolicyChangedEvent(ChangeType type, Long policyId, Long changeSeq,
+        InsurancePolicy before, InsurancePolicy after) {
+
+    public static PolicyChangedEvent created(InsurancePolicy after) {
+        return new PolicyChangedEvent(ChangeType.CREATED, after.getId(), after.getChangeSeq(),
+                null, after.toBuilder().build());
+    }
+
+    public static PolicyChangedEvent updated(InsurancePolicy before, InsurancePolicy after) {
+        return new PolicyChangedEvent(ChangeType.UPDATED, after.getId(), after.getChangeSeq(),
+                before, after.toBuilder().build());
+    }
+
+    public static PolicyChangedEvent deleted(InsurancePolicy before, Long changeSeq) {
+        return new PolicyChangedEvent(ChangeType.DELETED, before.getId(), changeSeq,
+                before.toBuilder().build(), null);
+    }
+}
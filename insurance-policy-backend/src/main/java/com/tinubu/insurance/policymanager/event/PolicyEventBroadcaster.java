@@ -0,0 +1,201 @@
+package com.tinubu.insurance.policymanager.event;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.config.PolicyEventStreamProperties;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeNotification;
+import com.tinubu.insurance.policymanager.exception.ServiceOverloadedException;
+import com.tinubu.insurance.policymanager.service.PolicyMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans committed policy changes out to server-sent event subscribers.
+ * Each change is serialized once and offered to every subscriber's bounded buffer
+ * without blocking the committing thread; a small sender pool drains the buffers.
+ * A subscriber whose buffer is full is disconnected rather than slowing down others,
+ * and is expected to reconnect and reload the data it displays.
+ */
+@Component
+@EnableConfigurationProperties(PolicyEventStreamProperties.class)
+public class PolicyEventBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(PolicyEventBroadcaster.class);
+
+    private final PolicyEventStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter slowConsumerEvictions;
+
+    public PolicyEventBroadcaster(PolicyEventStreamProperties properties, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.sender = Executors.newFixedThreadPool(properties.getSenderThreads(), daemonThreads("policy-sse-sender"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("policy-sse-heartbeat"));
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("policy.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Connected policy event stream subscribers")
+                .register(meterRegistry);
+        this.slowConsumerEvictions = Counter.builder("policy.events.evictions")
+                .description("Subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(() -> new SseEmitter(properties.getTimeout().toMillis()));
+    }
+
+    // Package-private so tests can observe what a subscriber is sent
+    SseEmitter subscribe(Supplier<SseEmitter> emitterFactory) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceOverloadedException("Too many event stream subscribers", Duration.ofSeconds(5));
+        }
+        SseEmitter emitter = emitterFactory.get();
+        Subscriber subscriber = new Subscriber(emitter, properties.getBufferSize());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        PolicyChangeNotification notification = PolicyChangeNotification.builder()
+                .type(event.type())
+                .policyId(event.policyId())
+                .policy(event.after() != null ? PolicyMapper.toDTO(event.after()) : null)
+                .build();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change event for policy {}", event.policyId(), e);
+            return;
+        }
+
+        // Built once: the frames are immutable and shared by every subscriber
+        Set<DataWithMediaType> sseEvent = SseEmitter.event()
+                .id(Long.toString(eventIds.incrementAndGet()))
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(sseEvent);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void sendHeartbeat() {
+        Set<DataWithMediaType> comment = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(comment);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (!buffer.offer(event)) {
+                slowConsumerEvictions.increment();
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter callbacks take care of removal
+                remove(this);
+                buffer.clear();
+            } finally {
+                draining.set(false);
+            }
+            // An event may have arrived between the last poll and releasing the flag
+            if (!buffer.isEmpty() && subscribers.contains(this)) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.tinubu.insurance.policymanager.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Body of the simple error responses: when it happened, what went wrong and the HTTP
+ * status, serialized in that order.
+ */
+@JsonPropertyOrder({ "timestamp", "message", "status" })
+public record ErrorResponse(LocalDateTime timestamp, String message, int status) {
+
+    private static final HttpHeaders JSON_HEADERS = HttpHeaders.readOnlyHttpHeaders(jsonHeaders());
+
+    // The policy 404 body around its timestamp and id, as Jackson writes this record
+    private static final String NOT_FOUND_PREFIX = "{\"timestamp\":\"";
+    private static final String NOT_FOUND_MIDDLE = "\",\"message\":\"" + PolicyNotFoundException.NOT_FOUND_MESSAGE;
+    private static final String NOT_FOUND_SUFFIX = "\",\"status\":" + HttpStatus.NOT_FOUND.value() + "}";
+
+    public static ResponseEntity<Object> of(String message, HttpStatus status) {
+        return new ResponseEntity<>(new ErrorResponse(LocalDateTime.now(), message, status.value()),
+                JSON_HEADERS, status);
+    }
+
+    public static ResponseEntity<Object> of(String message, HttpStatus status, HttpHeaders headers) {
+        if (headers.isEmpty()) {
+            return of(message, status);
+        }
+        HttpHeaders merged = new HttpHeaders();
+        merged.putAll(JSON_HEADERS);
+        merged.putAll(headers);
+        return new ResponseEntity<>(new ErrorResponse(LocalDateTime.now(), message, status.value()),
+                merged, status);
+    }
+
+    /**
+     * The 404 for a policy id, as GlobalExceptionHandler would render PolicyNotFoundException.
+     * Only the timestamp and the id vary, so the body is written straight to bytes
+     * instead of going through Jackson. The timestamp and the entity are still per call.
+     */
+    public static ResponseEntity<Object> policyNotFound(Long policyId) {
+        String timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now());
+        byte[] body = (NOT_FOUND_PREFIX + timestamp + NOT_FOUND_MIDDLE + policyId + NOT_FOUND_SUFFIX)
+                .getBytes(StandardCharsets.UTF_8);
+        return new ResponseEntity<>(body, JSON_HEADERS, HttpStatus.NOT_FOUND);
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+}
@@ -0,0 +1,7 @@
+package com.tinubu.insurance.policymanager.exception;
+
+public class ExportNotFoundException extends StacklessException {
+    public ExportNotFoundException(String exportId) {
+        super("Export not found with id: " + exportId);
+    }
+}
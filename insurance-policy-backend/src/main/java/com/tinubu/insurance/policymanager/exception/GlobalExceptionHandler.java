@@ -1,7 +1,5 @@
 package com.tinubu.insurance.policymanager.exception;
 
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -9,6 +7,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -32,14 +31,78 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(PolicyNotFoundException.class)
     public ResponseEntity<Object> handlePolicyNotFoundException(
             PolicyNotFoundException ex, WebRequest request) {
+        if (ex.getPolicyId() != null) {
+            return ErrorResponse.policyNotFound(ex.getPolicyId());
+        }
         return createErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles ExportNotFoundException and RecordingNotFoundException, which occur when an
+     * export job or flight recording is unknown, or was removed once no longer retained.
+     * Returns a 404 Not Found status with the exception message.
+     */
+    @ExceptionHandler({ ExportNotFoundException.class, RecordingNotFoundException.class })
+    public ResponseEntity<Object> handleResourceNotFoundException(
+            StacklessException ex, WebRequest request) {
+        return createErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles PolicyConflictException and optimistic locking failures, which occur when a
+     * policy was modified by someone else between reading and updating it, or when a
+     * flight recording is started while another one runs.
+     * Returns a 409 Conflict status; for a policy, the client can reload it and retry.
+     */
+    @ExceptionHandler({ PolicyConflictException.class, ObjectOptimisticLockingFailureException.class })
+    public ResponseEntity<Object> handleConflictException(RuntimeException ex, WebRequest request) {
+        String message = ex instanceof PolicyConflictException
+                ? ex.getMessage()
+                : "Policy was modified concurrently, reload it and retry";
+        return createErrorResponse(message, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles PolicyPreconditionFailedException which occurs when the If-Match header of an
+     * update does not match the current version of the policy.
+     * Returns a 412 Precondition Failed status.
+     */
+    @ExceptionHandler(PolicyPreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedException(
+            PolicyPreconditionFailedException ex, WebRequest request) {
+        return createErrorResponse(ex.getMessage(), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles ServiceOverloadedException which occurs when admission control sheds a request.
+     * Returns a 503 Service Unavailable status with a Retry-After header so well-behaved
+     * clients back off instead of retrying immediately.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Object> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        return createErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, headers);
+    }
+
+    /**
+     * Handles PolicyValidationException which occurs when PolicyValidator finds missing
+     * fields in a policy write.
+     * Returns a 400 Bad Request status with one message per invalid field, in the same
+     * shape as request body validation failures.
+     */
+    @ExceptionHandler(PolicyValidationException.class)
+    public ResponseEntity<Object> handlePolicyValidationException(
+            PolicyValidationException ex, WebRequest request) {
+        return ValidationErrorResponse.of(ex.getErrors(), ex.getMessage());
+    }
+
     /**
      * Handles IllegalArgumentException which occurs when invalid data is provided.
      * Returns a 400 Bad Request status with the exception message.
-     * This exception is thrown from business validation like the date validation in 
-     * InsurancePolicy's validateDates method.
+     * This exception is thrown from business validation like the date rules in
+     * PolicyValidator.
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Object> handleIllegalArgumentException(
@@ -59,10 +122,6 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             HttpHeaders headers, 
             HttpStatusCode status, 
             WebRequest request) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        
         // Get all validation errors
         Map<String, String> errors = ex.getBindingResult()
                 .getFieldErrors()
@@ -73,10 +132,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                     (existingMessage, newMessage) -> existingMessage + "; " + newMessage
                 ));
         
-        body.put("errors", errors);
-        body.put("message", "Validation failed");
-        
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+        return ValidationErrorResponse.of(errors, "Validation failed");
     }
     
     /**
@@ -88,10 +144,6 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<Object> handleConstraintViolation(
             ConstraintViolationException ex, WebRequest request) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        
         // Get all constraint violations
         Map<String, String> errors = ex.getConstraintViolations()
                 .stream()
@@ -101,10 +153,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                     (existingMessage, newMessage) -> existingMessage + "; " + newMessage
                 ));
         
-        body.put("errors", errors);
-        body.put("message", "Validation failed");
-        
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+        return ValidationErrorResponse.of(errors, "Validation failed");
     }
     
     /**
@@ -125,11 +174,10 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
      * Creates a standardized error response with timestamp, message, and status code.
      */
     private ResponseEntity<Object> createErrorResponse(String message, HttpStatus status) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("message", message);
-        body.put("status", status.value());
-        
-        return new ResponseEntity<>(body, status);
+        return ErrorResponse.of(message, status);
+    }
+
+    private ResponseEntity<Object> createErrorResponse(String message, HttpStatus status, HttpHeaders headers) {
+        return ErrorResponse.of(message, status, headers);
     }
 }
\ No newline at end of file
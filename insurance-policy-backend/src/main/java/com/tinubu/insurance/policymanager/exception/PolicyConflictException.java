@@ -0,0 +1,7 @@
+package com.tinubu.insurance.policymanager.exception;
+
+public class PolicyConflictException extends StacklessException {
+    public PolicyConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,37 @@
 package com.tinubu.insurance.policymanager.exception;
 
-public class PolicyNotFoundException extends RuntimeException {
+public class PolicyNotFoundException extends StacklessException {
+    static final String NOT_FOUND_MESSAGE = "Policy not found with id: ";
+
+    private final Long policyId;
+
     public PolicyNotFoundException(String message) {
         super(message);
+        this.policyId = null;
+    }
+
+    /**
+     * The message is only built if something reads it.
+     */
+    public PolicyNotFoundException(Long policyId) {
+        super(null);
+        this.policyId = policyId;
+    }
+
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message != null ? message : notFoundMessage(policyId);
+    }
+
+    /**
+     * The id that was looked up, or null when the exception was built from a message.
+     */
+    public Long getPolicyId() {
+        return policyId;
+    }
+
+    public static String notFoundMessage(Long policyId) {
+        return NOT_FOUND_MESSAGE + policyId;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.tinubu.insurance.policymanager.exception;
+
+public class PolicyPreconditionFailedException extends StacklessException {
+    public PolicyPreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tinubu.insurance.policymanager.exception;
+
+import java.util.Map;
+
+public class PolicyValidationException extends StacklessException {
+    private final Map<String, String> errors;
+
+    public PolicyValidationException(Map<String, String> errors) {
+        super("Validation failed");
+        this.errors = errors;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,7 @@
+package com.tinubu.insurance.policymanager.exception;
+
+public class RecordingNotFoundException extends StacklessException {
+    public RecordingNotFoundException(long recordingId) {
+        super("Recording not found with id: " + recordingId);
+    }
+}
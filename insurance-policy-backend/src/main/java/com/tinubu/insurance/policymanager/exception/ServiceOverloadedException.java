@@ -0,0 +1,16 @@
+package com.tinubu.insurance.policymanager.exception;
+
+import java.time.Duration;
+
+public class ServiceOverloadedException extends StacklessException {
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,13 @@
+package com.tinubu.insurance.policymanager.exception;
+
+/**
+ * Base of the domain exceptions. They describe expected outcomes (a missing policy, a
+ * stale version, a shed request) that GlobalExceptionHandler turns into a response, so
+ * nobody reads their stack trace and it is not captured.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.tinubu.insurance.policymanager.exception;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Body of the 400 responses for invalid fields: when it happened, the status, one
+ * message per field and a summary, serialized in that order.
+ */
+@JsonPropertyOrder({ "timestamp", "status", "errors", "message" })
+public record ValidationErrorResponse(LocalDateTime timestamp, int status, Map<String, String> errors,
+        String message) {
+
+    public static ResponseEntity<Object> of(Map<String, String> errors, String message) {
+        return new ResponseEntity<>(new ValidationErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(),
+                errors, message), HttpStatus.BAD_REQUEST);
+    }
+}
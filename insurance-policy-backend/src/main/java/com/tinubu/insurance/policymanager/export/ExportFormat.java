@@ -0,0 +1,86 @@
+package com.tinubu.insurance.policymanager.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.service.PolicyMapper;
+
+/**
+ * File formats of policy exports, one policy per line in both.
+ */
+public enum ExportFormat {
+    CSV("csv") {
+        @Override
+        void writeHeader(Writer out) throws IOException {
+            out.write("id,policyName,status,coverageStartDate,coverageEndDate,createdAt,updatedAt,version\n");
+        }
+
+        @Override
+        void writeRow(Writer out, InsurancePolicy policy, ObjectWriter json) throws IOException {
+            out.write(String.valueOf(policy.getId()));
+            out.write(',');
+            out.write(quote(policy.getPolicyName()));
+            out.write(',');
+            out.write(value(policy.getStatus()));
+            out.write(',');
+            out.write(value(policy.getCoverageStartDate()));
+            out.write(',');
+            out.write(value(policy.getCoverageEndDate()));
+            out.write(',');
+            out.write(value(policy.getCreatedAt()));
+            out.write(',');
+            out.write(value(policy.getUpdatedAt()));
+            out.write(',');
+            out.write(value(policy.getVersion()));
+            out.write('\n');
+        }
+    },
+    NDJSON("ndjson") {
+        @Override
+        void writeRow(Writer out, InsurancePolicy policy, ObjectWriter json) throws IOException {
+            out.write(json.writeValueAsString(PolicyMapper.toDTO(policy)));
+            out.write('\n');
+        }
+    };
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    void writeHeader(Writer out) throws IOException {
+    }
+
+    abstract void writeRow(Writer out, InsurancePolicy policy, ObjectWriter json) throws IOException;
+
+    private static String value(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    // RFC 4180: quote fields holding a separator, a quote or a line break, doubling quotes.
+    // Text that a spreadsheet would run as a formula gets a leading apostrophe and quotes.
+    static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
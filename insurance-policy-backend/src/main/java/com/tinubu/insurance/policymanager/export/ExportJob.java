@@ -0,0 +1,58 @@
+package com.tinubu.insurance.policymanager.export;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.Future;
+
+import com.tinubu.insurance.policymanager.dto.ExportJobResponse;
+
+/**
+ * An export job and its progress. Written by the job's thread, read by status requests.
+ */
+class ExportJob {
+    enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    final String id;
+    final ExportFormat format;
+    final Path file;
+    final Instant createdAt = Instant.now();
+
+    volatile State state = State.QUEUED;
+    volatile long totalRows;
+    volatile long rowsWritten;
+    volatile long sizeBytes;
+    volatile Instant completedAt;
+    volatile String error;
+    volatile Future<?> execution;
+
+    ExportJob(String id, ExportFormat format, Path file) {
+        this.id = id;
+        this.format = format;
+        this.file = file;
+    }
+
+    boolean isFinished() {
+        return state != State.QUEUED && state != State.RUNNING;
+    }
+
+    String fileName() {
+        return "policies-" + id + "." + format.getExtension() + ".gz";
+    }
+
+    ExportJobResponse toResponse() {
+        return ExportJobResponse.builder()
+                .id(id)
+                .format(format.name())
+                .state(state.name())
+                .totalRows(totalRows)
+                .rowsWritten(rowsWritten)
+                .sizeBytes(sizeBytes)
+                .createdAt(createdAt)
+                .completedAt(completedAt)
+                .error(error)
+                .downloadUrl(state == State.COMPLETED ? "/api/policies/exports/" + id + "/file" : null)
+                .build();
+    }
+}
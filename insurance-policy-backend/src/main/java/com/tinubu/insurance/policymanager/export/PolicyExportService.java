@@ -0,0 +1,267 @@
+package com.tinubu.insurance.policymanager.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tinubu.insurance.policymanager.config.ExportProperties;
+import com.tinubu.insurance.policymanager.dto.ExportJobResponse;
+import com.tinubu.insurance.policymanager.exception.ExportNotFoundException;
+import com.tinubu.insurance.policymanager.exception.PolicyConflictException;
+import com.tinubu.insurance.policymanager.exception.ServiceOverloadedException;
+import com.tinubu.insurance.policymanager.export.ExportJob.State;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs full-portfolio exports in the background. A job walks every shard in id order,
+ * batch-size policies per query, and streams them as gzip-compressed CSV or NDJSON to
+ * a file under policy.export.directory, so memory use does not grow with the
+ * portfolio. The file only gets its final name once complete.
+ * Jobs are kept in memory: a restart forgets them and removes their files.
+ */
+@Service
+@EnableConfigurationProperties(ExportProperties.class)
+public class PolicyExportService {
+    private static final Logger log = LoggerFactory.getLogger(PolicyExportService.class);
+    private static final String FILE_PREFIX = "policies-";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InsurancePolicyRepository policyRepository;
+    private final ShardRouter shardRouter;
+    private final ExportProperties properties;
+    private final ObjectWriter json;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(
+            daemonThreads("policy-export-cleaner"));
+
+    public PolicyExportService(InsurancePolicyRepository policyRepository, ShardRouter shardRouter,
+            ExportProperties properties, ObjectMapper objectMapper) {
+        this.policyRepository = policyRepository;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.json = objectMapper.writer();
+        int threads = Math.max(1, properties.getThreads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getMaxQueued())), daemonThreads("policy-export"));
+    }
+
+    /**
+     * Creates the export directory and removes the files of jobs from a previous run.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(properties.getDirectory());
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(properties.getDirectory(), FILE_PREFIX + "*")) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+        cleaner.scheduleWithFixedDelay(this::removeExpiredJobs, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cleaner.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    public ExportJobResponse startExport(ExportFormat format) {
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, format, properties.getDirectory().resolve(FILE_PREFIX + id));
+        jobs.put(id, job);
+        try {
+            job.execution = executor.submit(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw new ServiceOverloadedException("Too many exports in progress, please retry later",
+                    Duration.ofMinutes(1));
+        }
+        return job.toResponse();
+    }
+
+    public ExportJobResponse getExport(String id) {
+        return job(id).toResponse();
+    }
+
+    public List<ExportJobResponse> getExports() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((ExportJob job) -> job.createdAt).reversed())
+                .map(ExportJob::toResponse)
+                .toList();
+    }
+
+    /**
+     * The finished file of an export, for download.
+     */
+    public ExportFile getExportFile(String id) {
+        ExportJob job = job(id);
+        if (job.state != State.COMPLETED) {
+            throw new PolicyConflictException("Export " + id + " is " + job.state + ", its file is not available");
+        }
+        return new ExportFile(job.file, job.fileName());
+    }
+
+    /**
+     * Stops the export if it is still running and deletes it with its file.
+     */
+    public void deleteExport(String id) {
+        ExportJob job = job(id);
+        jobs.remove(id);
+        // Serialized with the job putting its file in place, so the file cannot appear
+        // after it was deleted
+        synchronized (job) {
+            if (!job.isFinished()) {
+                job.state = State.CANCELLED;
+                if (job.execution != null) {
+                    job.execution.cancel(true);
+                }
+            }
+            deleteQuietly(job.file);
+        }
+    }
+
+    public record ExportFile(Path path, String fileName) {
+    }
+
+    private ExportJob job(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ExportNotFoundException(id);
+        }
+        return job;
+    }
+
+    private void run(ExportJob job) {
+        synchronized (job) {
+            if (job.state == State.CANCELLED) {
+                return;
+            }
+            job.state = State.RUNNING;
+        }
+        Path part = job.file.resolveSibling(job.file.getFileName() + ".part");
+        try {
+            long total = 0;
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                total += shardRouter.onShard(shard, policyRepository::count);
+            }
+            job.totalRows = total;
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(part), BUFFER_SIZE), StandardCharsets.UTF_8),
+                    BUFFER_SIZE)) {
+                job.format.writeHeader(out);
+                for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                    shardRouter.onShard(shard, () -> writeShard(job, out, part));
+                }
+            }
+            synchronized (job) {
+                if (job.state == State.CANCELLED) {
+                    throw new CancellationException();
+                }
+                Files.move(part, job.file, StandardCopyOption.REPLACE_EXISTING);
+                job.sizeBytes = Files.size(job.file);
+                job.completedAt = Instant.now();
+                job.state = State.COMPLETED;
+            }
+            log.info("Export {} completed: {} policies as {}, {} bytes", job.id, job.rowsWritten, job.format,
+                    job.sizeBytes);
+        } catch (CancellationException e) {
+            job.completedAt = Instant.now();
+            job.state = State.CANCELLED;
+            deleteQuietly(part);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Export {} failed", job.id, e);
+            job.error = e.getMessage();
+            job.completedAt = Instant.now();
+            job.state = job.state == State.CANCELLED ? State.CANCELLED : State.FAILED;
+            deleteQuietly(part);
+        }
+    }
+
+    private Void writeShard(ExportJob job, Writer out, Path part) {
+        long afterId = 0;
+        List<InsurancePolicy> batch;
+        try {
+            do {
+                if (job.state == State.CANCELLED || Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException();
+                }
+                batch = policyRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(properties.getBatchSize()));
+                for (InsurancePolicy policy : batch) {
+                    job.format.writeRow(out, policy, json);
+                    afterId = policy.getId();
+                }
+                job.rowsWritten += batch.size();
+                // Policies created since the count are exported too
+                job.totalRows = Math.max(job.totalRows, job.rowsWritten);
+                job.sizeBytes = Files.size(part);
+            } while (batch.size() == properties.getBatchSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+
+    private void removeExpiredJobs() {
+        Instant expiry = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> {
+            boolean expired = job.isFinished() && job.completedAt != null && job.completedAt.isBefore(expiry);
+            if (expired) {
+                deleteQuietly(job.file);
+            }
+            return expired;
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
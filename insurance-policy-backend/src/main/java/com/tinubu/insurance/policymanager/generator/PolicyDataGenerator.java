@@ -0,0 +1,190 @@
+package com.tinubu.insurance.policymanager.generator;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tinubu.insurance.policymanager.config.GeneratorProperties;
+import com.tinubu.insurance.policymanager.generator.SyntheticPolicies.Row;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.repository.ChangeSequenceRepository;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+/**
+ * Fills insurance_policies with synthetic policies when the application starts with
+ * the "generate" profile, so that benchmarks and load tests run on realistic volumes.
+ * Batches are written in parallel, each in its own transaction, and spread over the
+ * shards round-robin. On PostgreSQL rows are streamed with COPY; elsewhere they go
+ * through batched INSERTs. Every row gets a change sequence value, so mirrors following
+ * the change feed receive generated policies like any other.
+ * The runner finishes before the application reports ready, so the in-memory indexes
+ * load the generated rows.
+ */
+@Component
+@Profile("generate")
+@EnableConfigurationProperties(GeneratorProperties.class)
+public class PolicyDataGenerator implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(PolicyDataGenerator.class);
+
+    private static final String COLUMNS =
+            "policy_name, status, coverage_start_date, coverage_end_date, created_at, updated_at, version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final GeneratorProperties properties;
+    private final ConfigurableApplicationContext context;
+    private final String insertSql;
+
+    public PolicyDataGenerator(DataSource dataSource, PlatformTransactionManager transactionManager,
+            ShardRouter shardRouter, ChangeSequenceRepository changeSequence, GeneratorProperties properties,
+            ConfigurableApplicationContext context) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.context = context;
+        this.insertSql = "INSERT INTO insurance_policies (" + COLUMNS + ", change_seq)"
+                + " VALUES (?, ?, ?, ?, ?, ?, 0, " + changeSequence.nextValueExpression() + ")";
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long existing = shardRouter.onEveryShard(shard -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM insurance_policies", Long.class)).stream().mapToLong(Long::longValue).sum();
+        if (existing > 0 && !properties.isAppend()) {
+            log.warn("Not generating policies: the table already holds {}, set policy.generator.append=true to add more",
+                    existing);
+        } else {
+            generate();
+        }
+        if (properties.isExitOnCompletion()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    /**
+     * Writes policy.generator.count rows and returns the number written.
+     */
+    public long generate() {
+        SyntheticPolicies policies = new SyntheticPolicies(properties);
+        long count = properties.getCount();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long batches = (count + batchSize - 1) / batchSize;
+        boolean copy = properties.isCopy() && shardRouter.onShard(0, this::isPostgres);
+        log.info("Generating {} policies with seed {} in batches of {} on {} threads using {}", count,
+                properties.getSeed(), batchSize, properties.getThreads(), copy ? "COPY" : "batched INSERTs");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "policy-generator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong written = new AtomicLong();
+        long progressStep = Math.max(batchSize, count / 10);
+        long started = System.nanoTime();
+        List<Future<?>> parts = new ArrayList<>();
+        try {
+            for (long batch = 0; batch < batches; batch++) {
+                int shard = (int) (batch % shardRouter.shardCount());
+                long from = batch * batchSize;
+                int size = (int) Math.min(batchSize, count - from);
+                parts.add(workers.submit(() -> {
+                    shardRouter.onShard(shard, () -> transactionTemplate.execute(
+                            status -> copy ? copyBatch(policies, from, size) : insertBatch(policies, from, size)));
+                    long total = written.addAndGet(size);
+                    if (total / progressStep != (total - size) / progressStep) {
+                        log.info("Generated {} of {} policies", total, count);
+                    }
+                }));
+            }
+            for (Future<?> part : parts) {
+                part.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating policies", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Generating policies failed after " + written.get() + " rows", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Generated {} policies in {} ms ({} rows/s)", written.get(), elapsedMillis,
+                written.get() * 1000 / elapsedMillis);
+        return written.get();
+    }
+
+    private int insertBatch(SyntheticPolicies policies, long from, int size) {
+        List<Object[]> rows = new ArrayList<>(size);
+        for (long index = from; index < from + size; index++) {
+            Row row = policies.row(index);
+            rows.add(new Object[] { row.policyName(), row.status().name(), row.coverageStartDate(),
+                    row.coverageEndDate(), row.createdAt(), row.updatedAt() });
+        }
+        jdbcTemplate.batchUpdate(insertSql, rows);
+        return size;
+    }
+
+    /**
+     * Streams the batch through COPY. COPY cannot evaluate the sequence, so the batch
+     * draws its change sequence values up front.
+     */
+    private int copyBatch(SyntheticPolicies policies, long from, int size) {
+        List<Long> changeSeqs = jdbcTemplate.queryForList(
+                "SELECT nextval('" + PolicyTombstone.CHANGE_SEQUENCE + "') FROM generate_series(1, ?)", Long.class, size);
+        StringBuilder data = new StringBuilder(size * 96);
+        for (long index = from; index < from + size; index++) {
+            Row row = policies.row(index);
+            data.append(row.policyName()).append('\t')
+                    .append(row.status().name()).append('\t')
+                    .append(row.coverageStartDate()).append('\t')
+                    .append(row.coverageEndDate()).append('\t')
+                    .append(row.createdAt()).append('\t')
+                    .append(row.updatedAt()).append('\t')
+                    .append('0').append('\t')
+                    .append(changeSeqs.get((int) (index - from))).append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn("COPY insurance_policies (" + COLUMNS + ", change_seq) FROM STDIN",
+                                new StringReader(data.toString()));
+            } catch (IOException e) {
+                throw new IllegalStateException("COPY into insurance_policies failed", e);
+            }
+        });
+        return size;
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+    }
+}
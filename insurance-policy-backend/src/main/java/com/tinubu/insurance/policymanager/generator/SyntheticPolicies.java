@@ -0,0 +1,102 @@
+package com.tinubu.insurance.policymanager.generator;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.tinubu.insurance.policymanager.config.GeneratorProperties;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+/**
+ * Deterministic source of realistic policy rows. Row {@code index} only depends on the
+ * seed, the settings and the index itself, so rows can be produced in any order and
+ * on any number of threads and still come out the same.
+ */
+public class SyntheticPolicies {
+
+    /**
+     * The column values of one generated policy.
+     */
+    public record Row(String policyName, PolicyStatus status, LocalDate coverageStartDate,
+            LocalDate coverageEndDate, LocalDate createdAt, LocalDate updatedAt) {
+    }
+
+    private static final String[] PRODUCTS = { "Home", "Motor", "Travel", "Health", "Life", "Pet",
+            "Business", "Liability", "Cyber", "Marine", "Property", "Income" };
+    private static final String[] TIERS = { "Essential", "Standard", "Plus", "Premium", "Gold", "Platinum" };
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final PolicyStatus[] statuses;
+    private final double[] cumulativeWeights;
+    private final LocalDate coverageStartFrom;
+    private final int coverageStartDays;
+    private final int minCoverageDays;
+    private final int coverageDaysRange;
+    private final int nameCardinality;
+
+    public SyntheticPolicies(GeneratorProperties properties) {
+        Map<PolicyStatus, Double> weights = new EnumMap<>(PolicyStatus.class);
+        properties.getStatusWeights().forEach((status, weight) -> {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Status weight of " + status + " must not be negative");
+            }
+            if (weight > 0) {
+                weights.put(status, weight);
+            }
+        });
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("policy.generator.status-weights needs at least one positive weight");
+        }
+        if (properties.getMinCoverageDays() < 0 || properties.getMaxCoverageDays() < properties.getMinCoverageDays()) {
+            throw new IllegalArgumentException("policy.generator coverage days must satisfy 0 <= min <= max");
+        }
+        this.seed = properties.getSeed();
+        this.statuses = weights.keySet().toArray(PolicyStatus[]::new);
+        this.cumulativeWeights = new double[statuses.length];
+        double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        double cumulative = 0;
+        for (int i = 0; i < statuses.length; i++) {
+            cumulative += weights.get(statuses[i]) / total;
+            cumulativeWeights[i] = cumulative;
+        }
+        this.coverageStartFrom = properties.getCoverageStartFrom();
+        this.coverageStartDays = Math.max(1, properties.getCoverageStartDays());
+        this.minCoverageDays = properties.getMinCoverageDays();
+        this.coverageDaysRange = properties.getMaxCoverageDays() - properties.getMinCoverageDays() + 1;
+        this.nameCardinality = Math.max(1, properties.getNameCardinality());
+    }
+
+    public Row row(long index) {
+        SplittableRandom random = new SplittableRandom(seed + index * GOLDEN_GAMMA);
+        String name = name(random.nextInt(nameCardinality));
+        PolicyStatus status = status(random.nextDouble());
+        LocalDate start = coverageStartFrom.plusDays(random.nextInt(coverageStartDays));
+        LocalDate end = start.plusDays(minCoverageDays + random.nextInt(coverageDaysRange));
+        // Policies are usually taken out a few weeks before cover begins
+        LocalDate created = start.minusDays(random.nextInt(60));
+        LocalDate updated = created.plusDays(random.nextInt(30));
+        return new Row(name, status, start, end, created, updated);
+    }
+
+    /**
+     * Distinct readable names for every value below the cardinality, e.g.
+     * "Motor Premium 17".
+     */
+    static String name(int nameIndex) {
+        int product = nameIndex % PRODUCTS.length;
+        int tier = (nameIndex / PRODUCTS.length) % TIERS.length;
+        int series = nameIndex / (PRODUCTS.length * TIERS.length);
+        return PRODUCTS[product] + " " + TIERS[tier] + " " + series;
+    }
+
+    private PolicyStatus status(double draw) {
+        for (int i = 0; i < cumulativeWeights.length - 1; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return statuses[i];
+            }
+        }
+        return statuses[statuses.length - 1];
+    }
+}
@@ -0,0 +1,210 @@
+package com.tinubu.insurance.policymanager.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Interval tree over closed day ranges, used to answer "which policies overlap
+ * [from, to]" without scanning. It is a treap ordered by (start, id) where every node
+ * also carries the largest end in its subtree: a search skips any subtree whose max
+ * end is before {@code from} and everything right of a start after {@code to}.
+ * Expected cost is O(log n + k) when most candidate nodes overlap, degrading towards
+ * O(k log n) for long intervals far from the query window.
+ * Each entry remembers the change sequence that wrote it, so an older write that
+ * arrives late cannot overwrite a newer one.
+ * Not thread-safe; PolicyCoverageIndex guards it with a read/write lock.
+ */
+public class CoverageIntervalTree<V> {
+
+    private static final class Node<V> {
+        final long id;
+        final int start;
+        final int end;
+        final long changeSeq;
+        final V value;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        int maxEnd;
+        Node<V> left;
+        Node<V> right;
+
+        Node(long id, int start, int end, long changeSeq, V value) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.changeSeq = changeSeq;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+
+    private record Split<V>(Node<V> lower, Node<V> upper) {
+    }
+
+    @FunctionalInterface
+    public interface EntryVisitor<V> {
+        void visit(long id, int start, int end, long changeSeq, V value);
+    }
+
+    private final Map<Long, Node<V>> byId = new HashMap<>();
+    private Node<V> root;
+
+    /**
+     * Inserts or replaces the interval of {@code id}. Returns false if the stored
+     * entry was written by a later change.
+     */
+    public boolean put(long id, int start, int end, long changeSeq, V value) {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval end " + end + " is before start " + start);
+        }
+        Node<V> existing = byId.get(id);
+        if (existing != null) {
+            if (existing.changeSeq > changeSeq) {
+                return false;
+            }
+            root = erase(root, existing);
+        }
+        Node<V> node = new Node<>(id, start, end, changeSeq, value);
+        root = insert(root, node);
+        byId.put(id, node);
+        return true;
+    }
+
+    /**
+     * Removes {@code id} unless it was written by a change later than {@code changeSeq}.
+     */
+    public boolean remove(long id, long changeSeq) {
+        Node<V> existing = byId.get(id);
+        if (existing == null || existing.changeSeq > changeSeq) {
+            return false;
+        }
+        root = erase(root, existing);
+        byId.remove(id);
+        return true;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Visits every entry, in no particular order.
+     */
+    public void forEach(EntryVisitor<V> visitor) {
+        for (Node<V> node : byId.values()) {
+            visitor.visit(node.id, node.start, node.end, node.changeSeq, node.value);
+        }
+    }
+
+    /**
+     * Values whose interval shares at least one day with [from, to], in start order.
+     */
+    public List<V> overlapping(int from, int to) {
+        List<V> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    private static <V> void collect(Node<V> node, int from, int to, List<V> result) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (node.start > to) {
+            return;
+        }
+        if (node.end >= from) {
+            result.add(node.value);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private static <V> Node<V> insert(Node<V> node, Node<V> added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Split<V> parts = split(node, added);
+            added.left = parts.lower();
+            added.right = parts.upper();
+            update(added);
+            return added;
+        }
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        update(node);
+        return node;
+    }
+
+    private static <V> Node<V> erase(Node<V> node, Node<V> removed) {
+        if (node == null) {
+            return null;
+        }
+        if (node == removed) {
+            return merge(node.left, node.right);
+        }
+        if (compare(removed, node) < 0) {
+            node.left = erase(node.left, removed);
+        } else {
+            node.right = erase(node.right, removed);
+        }
+        update(node);
+        return node;
+    }
+
+    // Splits into nodes ordered before and after key; key itself must not be in the tree
+    private static <V> Split<V> split(Node<V> node, Node<V> key) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (compare(node, key) < 0) {
+            Split<V> parts = split(node.right, key);
+            node.right = parts.lower();
+            update(node);
+            return new Split<>(node, parts.upper());
+        }
+        Split<V> parts = split(node.left, key);
+        node.left = parts.upper();
+        update(node);
+        return new Split<>(parts.lower(), node);
+    }
+
+    // Every node of lower is ordered before every node of upper
+    private static <V> Node<V> merge(Node<V> lower, Node<V> upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            update(lower);
+            return lower;
+        }
+        upper.left = merge(lower, upper.left);
+        update(upper);
+        return upper;
+    }
+
+    private static <V> void update(Node<V> node) {
+        int maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int compare(Node<?> a, Node<?> b) {
+        int byStart = Integer.compare(a.start, b.start);
+        return byStart != 0 ? byStart : Long.compare(a.id, b.id);
+    }
+}
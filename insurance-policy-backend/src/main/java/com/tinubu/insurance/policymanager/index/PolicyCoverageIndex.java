@@ -0,0 +1,380 @@
+package com.tinubu.insurance.policymanager.index;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.event.ChangeType;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.invalidation.InvalidationListener;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.service.PolicyMapper;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+import com.tinubu.insurance.policymanager.snapshot.PolicySnapshot;
+import com.tinubu.insurance.policymanager.snapshot.PolicySnapshotStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory index of coverage periods answering "which policies are in force between
+ * two dates". It is loaded in the background once the application is ready, applies
+ * this node's committed writes from PolicyChangedEvents and re-reads policies changed
+ * on other nodes. Until a load has completed, callers get an empty Optional and should
+ * query the database instead.
+ * When snapshots are enabled, the index is saved to disk periodically and on shutdown,
+ * and the first load after a restart starts from that snapshot and only reads the
+ * changes made since, instead of scanning the whole table.
+ */
+@Component
+public class PolicyCoverageIndex implements InvalidationListener {
+    private static final Logger log = LoggerFactory.getLogger(PolicyCoverageIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final InsurancePolicyRepository policyRepository;
+    private final PolicyTombstoneRepository tombstoneRepository;
+    private final ShardRouter shardRouter;
+    private final PolicySnapshotStore snapshotStore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService loader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "policy-coverage-index-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    // Guarded by lock
+    private CoverageIntervalTree<InsurancePolicyDTO> tree = new CoverageIntervalTree<>();
+    // Changes that arrive while a load is reading the table, replayed onto its result
+    private List<PolicyChangedEvent> pendingEvents;
+    private Set<Long> pendingRemoteIds;
+
+    private volatile boolean ready;
+    // Only the first load may start from the snapshot; accessed on the loader thread
+    private boolean snapshotConsulted;
+
+    public PolicyCoverageIndex(InsurancePolicyRepository policyRepository,
+            PolicyTombstoneRepository tombstoneRepository, ShardRouter shardRouter,
+            PolicySnapshotStore snapshotStore, MeterRegistry meterRegistry) {
+        this.policyRepository = policyRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.shardRouter = shardRouter;
+        this.snapshotStore = snapshotStore;
+        meterRegistry.gauge("policy.coverage.index.size", this, PolicyCoverageIndex::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (snapshotStore.isEnabled()) {
+            long interval = snapshotStore.interval().toMillis();
+            loader.scheduleWithFixedDelay(this::saveSnapshot, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            loader.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        loader.shutdownNow();
+        if (snapshotStore.isEnabled()) {
+            saveSnapshot();
+        }
+    }
+
+    /**
+     * Policies whose coverage shares at least one day with [from, to], ordered by
+     * coverage start date, or empty if the index is not loaded yet.
+     */
+    public Optional<List<InsurancePolicyDTO>> overlapping(LocalDate from, LocalDate to) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(tree.overlapping(epochDay(from), epochDay(to)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(tree, event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean appliesLocalChanges() {
+        return true;
+    }
+
+    @Override
+    public void invalidatePolicies(Set<Long> policyIds) {
+        List<InsurancePolicy> current = shardRouter.onOwningShards(policyIds, policyRepository::findAllById);
+        Set<Long> deleted = new HashSet<>(policyIds);
+        lock.writeLock().lock();
+        try {
+            for (InsurancePolicy policy : current) {
+                deleted.remove(policy.getId());
+                put(tree, policy);
+            }
+            for (Long id : deleted) {
+                tree.remove(id, Long.MAX_VALUE);
+            }
+            if (pendingRemoteIds != null) {
+                pendingRemoteIds.addAll(policyIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        ready = false;
+        requestRebuild();
+    }
+
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+            pendingRemoteIds = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        CoverageIntervalTree<InsurancePolicyDTO> loaded;
+        Set<Long> remoteIds;
+        try {
+            loaded = snapshotConsulted ? null : restoreSnapshot();
+            snapshotConsulted = true;
+            if (loaded == null) {
+                loaded = loadFromDatabase();
+                log.info("Coverage index loaded with {} policies", loaded.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Loading the coverage index failed, queries use the database until the next load", e);
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+                pendingRemoteIds = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (PolicyChangedEvent event : pendingEvents) {
+                apply(loaded, event);
+            }
+            tree = loaded;
+            remoteIds = pendingRemoteIds;
+            pendingEvents = null;
+            pendingRemoteIds = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!remoteIds.isEmpty()) {
+            invalidatePolicies(remoteIds);
+        }
+    }
+
+    /**
+     * Writes the current content of the index to the snapshot file, with for each shard
+     * the highest change sequence among its entries.
+     */
+    synchronized void saveSnapshot() {
+        if (!ready) {
+            return;
+        }
+        long[] watermarks = new long[shardRouter.shardCount()];
+        List<PolicySnapshot.Entry> entries;
+        lock.readLock().lock();
+        try {
+            entries = new ArrayList<>(tree.size());
+            tree.forEach((id, start, end, changeSeq, policy) -> {
+                entries.add(new PolicySnapshot.Entry(changeSeq, policy));
+                int shard = shardRouter.shardOf(id);
+                watermarks[shard] = Math.max(watermarks[shard], changeSeq);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        snapshotStore.save(new PolicySnapshot(Instant.now(), watermarks, entries));
+    }
+
+    private CoverageIntervalTree<InsurancePolicyDTO> loadFromDatabase() {
+        CoverageIntervalTree<InsurancePolicyDTO> loaded = new CoverageIntervalTree<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            shardRouter.onShard(shard, () -> load(loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * Rebuilds the index from the snapshot file plus the changes committed since, or
+     * returns null if there is no snapshot or it does not belong to this database.
+     */
+    private CoverageIntervalTree<InsurancePolicyDTO> restoreSnapshot() {
+        PolicySnapshot snapshot = snapshotStore.load().orElse(null);
+        if (snapshot == null) {
+            return null;
+        }
+        int shardCount = shardRouter.shardCount();
+        if (snapshot.shardCount() != shardCount) {
+            log.info("Ignoring the policy snapshot taken with {} shards, {} are configured",
+                    snapshot.shardCount(), shardCount);
+            return null;
+        }
+        for (int shard = 0; shard < shardCount; shard++) {
+            long latest = shardRouter.onShard(shard, this::latestChangeSeq);
+            if (latest < snapshot.watermarks()[shard]) {
+                // The database is older than the snapshot, e.g. restored from a backup
+                log.warn("Ignoring the policy snapshot of {}: shard {} is at change {}, the snapshot at {}",
+                        snapshot.createdAt(), shard, latest, snapshot.watermarks()[shard]);
+                return null;
+            }
+        }
+
+        CoverageIntervalTree<InsurancePolicyDTO> restored = new CoverageIntervalTree<>();
+        for (PolicySnapshot.Entry entry : snapshot.entries()) {
+            InsurancePolicyDTO policy = entry.policy();
+            restored.put(policy.getId(), epochDay(policy.getCoverageStartDate()),
+                    epochDay(policy.getCoverageEndDate()), entry.changeSeq(), policy);
+        }
+        long overlap = snapshotStore.catchUpOverlap() * shardCount;
+        int changes = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            long since = Math.max(0, snapshot.watermarks()[shard] - overlap);
+            changes += shardRouter.onShard(shard, () -> catchUp(restored, since));
+        }
+        log.info("Coverage index restored from the snapshot of {} with {} policies and {} changes read since",
+                snapshot.createdAt(), snapshot.entries().size(), changes);
+        return restored;
+    }
+
+    private long latestChangeSeq() {
+        return Math.max(seqOf(policyRepository.findMaxChangeSeq()), seqOf(tombstoneRepository.findMaxChangeSeq()));
+    }
+
+    /**
+     * Applies every write and delete after {@code since}. Writes go first: a policy is
+     * never written again after its tombstone, so applying the deletes last removes
+     * anything an older write brought back.
+     */
+    private int catchUp(CoverageIntervalTree<InsurancePolicyDTO> target, long since) {
+        int changes = 0;
+        long after = since;
+        List<InsurancePolicy> upserts;
+        do {
+            upserts = policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(after, Limit.of(LOAD_BATCH_SIZE));
+            for (InsurancePolicy policy : upserts) {
+                put(target, policy);
+                after = policy.getChangeSeq();
+            }
+            changes += upserts.size();
+        } while (upserts.size() == LOAD_BATCH_SIZE);
+
+        after = since;
+        List<PolicyTombstone> deletes;
+        do {
+            deletes = tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(after, Limit.of(LOAD_BATCH_SIZE));
+            for (PolicyTombstone tombstone : deletes) {
+                target.remove(tombstone.getPolicyId(), tombstone.getChangeSeq());
+                after = tombstone.getChangeSeq();
+            }
+            changes += deletes.size();
+        } while (deletes.size() == LOAD_BATCH_SIZE);
+        return changes;
+    }
+
+    private Void load(CoverageIntervalTree<InsurancePolicyDTO> target) {
+        long afterId = 0;
+        List<InsurancePolicy> batch;
+        do {
+            batch = policyRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(LOAD_BATCH_SIZE));
+            for (InsurancePolicy policy : batch) {
+                put(target, policy);
+                afterId = policy.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        return null;
+    }
+
+    private static void apply(CoverageIntervalTree<InsurancePolicyDTO> target, PolicyChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            target.remove(event.policyId(), seqOf(event.changeSeq()));
+        } else {
+            put(target, event.after());
+        }
+    }
+
+    private static void put(CoverageIntervalTree<InsurancePolicyDTO> target, InsurancePolicy policy) {
+        target.put(policy.getId(), epochDay(policy.getCoverageStartDate()), epochDay(policy.getCoverageEndDate()),
+                seqOf(policy.getChangeSeq()), PolicyMapper.toDTO(policy));
+    }
+
+    private static long seqOf(Long changeSeq) {
+        // Rows written before the change sequence existed lose against any later write
+        return changeSeq == null ? 0 : changeSeq;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+}
@@ -0,0 +1,34 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Transport that connects every node running in the same JVM. Used for single-node
+ * development and for tests that start several application contexts side by side.
+ */
+public class InJvmInvalidationTransport implements InvalidationTransport {
+    private static final List<Consumer<List<InvalidationEvent>>> RECEIVERS = new CopyOnWriteArrayList<>();
+
+    private Consumer<List<InvalidationEvent>> receiver;
+
+    @Override
+    public void publish(List<InvalidationEvent> events) {
+        List<InvalidationEvent> batch = List.copyOf(events);
+        for (Consumer<List<InvalidationEvent>> r : RECEIVERS) {
+            r.accept(batch);
+        }
+    }
+
+    @Override
+    public void start(Consumer<List<InvalidationEvent>> receiver) {
+        this.receiver = receiver;
+        RECEIVERS.add(receiver);
+    }
+
+    @Override
+    public void stop() {
+        RECEIVERS.remove(receiver);
+    }
+}
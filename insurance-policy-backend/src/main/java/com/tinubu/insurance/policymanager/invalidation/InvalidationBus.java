@@ -0,0 +1,146 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.tinubu.insurance.policymanager.config.InvalidationProperties;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps in-process caches correct across nodes.
+ * Committed changes are applied to this node's listeners immediately and queued for
+ * publication; a background thread sends whatever has accumulated as one batch.
+ * Batches from other nodes are collapsed to a single call per listener. Listeners are
+ * called in their @Order, so data sources such as the read model are brought up to
+ * date before the caches built from them are invalidated.
+ */
+@Component
+public class InvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final List<InvalidationListener> listeners;
+    private final String nodeId;
+    private final int maxBatchSize;
+    private final BlockingQueue<InvalidationEvent> outbound;
+    // Set when the outbound queue overflowed; the next batch then invalidates everything
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private volatile boolean running;
+    private Thread publisher;
+
+    public InvalidationBus(InvalidationTransport transport, List<InvalidationListener> listeners,
+            InvalidationProperties properties) {
+        this.transport = transport;
+        this.listeners = listeners;
+        this.nodeId = properties.getNodeId();
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.outbound = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        transport.start(this::receive);
+        publisher = new Thread(this::publishLoop, "policy-invalidation-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        publisher.interrupt();
+        transport.stop();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        Set<Long> ids = Set.of(event.policyId());
+        for (InvalidationListener listener : listeners) {
+            if (!listener.appliesLocalChanges()) {
+                listener.invalidatePolicies(ids);
+            }
+        }
+        enqueue(InvalidationEvent.policy(nodeId, event.policyId()));
+    }
+
+    /**
+     * Drops all cached policy data on every node, for writes that touch too many
+     * policies to list individually.
+     */
+    public void invalidateAll() {
+        listeners.forEach(InvalidationListener::invalidateAll);
+        enqueue(InvalidationEvent.all(nodeId));
+    }
+
+    void receive(List<InvalidationEvent> batch) {
+        boolean all = false;
+        Set<Long> ids = new HashSet<>();
+        for (InvalidationEvent event : batch) {
+            if (nodeId.equals(event.origin())) {
+                continue;
+            }
+            if (event.isAll()) {
+                all = true;
+                break;
+            }
+            ids.add(event.policyId());
+        }
+
+        for (InvalidationListener listener : listeners) {
+            if (all) {
+                listener.invalidateAll();
+            } else if (!ids.isEmpty()) {
+                listener.invalidatePolicies(ids);
+            }
+        }
+    }
+
+    private void enqueue(InvalidationEvent event) {
+        if (!outbound.offer(event)) {
+            overflowed.set(true);
+        }
+    }
+
+    private void publishLoop() {
+        List<InvalidationEvent> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                InvalidationEvent first = outbound.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    outbound.drainTo(batch, maxBatchSize - 1);
+                }
+                if (overflowed.getAndSet(false)) {
+                    batch.clear();
+                    outbound.clear();
+                    batch.add(InvalidationEvent.all(nodeId));
+                }
+                if (!batch.isEmpty()) {
+                    transport.publish(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish invalidation batch of {} events", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
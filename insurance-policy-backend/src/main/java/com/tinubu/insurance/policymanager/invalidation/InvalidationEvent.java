@@ -0,0 +1,35 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+/**
+ * Compact cross-node invalidation message. The wire format is
+ * {@code <origin>:<policyId>} for a single policy and {@code <origin>:*} for everything.
+ */
+public record InvalidationEvent(String origin, Long policyId) {
+    private static final String ALL = "*";
+
+    public static InvalidationEvent policy(String origin, Long policyId) {
+        return new InvalidationEvent(origin, policyId);
+    }
+
+    public static InvalidationEvent all(String origin) {
+        return new InvalidationEvent(origin, null);
+    }
+
+    public boolean isAll() {
+        return policyId == null;
+    }
+
+    public String encode() {
+        return origin + ':' + (isAll() ? ALL : policyId.toString());
+    }
+
+    public static InvalidationEvent decode(String encoded) {
+        int separator = encoded.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Malformed invalidation event: " + encoded);
+        }
+        String origin = encoded.substring(0, separator);
+        String target = encoded.substring(separator + 1);
+        return ALL.equals(target) ? all(origin) : policy(origin, Long.valueOf(target));
+    }
+}
@@ -0,0 +1,22 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import java.util.Set;
+
+/**
+ * Implemented by in-process caches over policy data. The InvalidationBus calls it for
+ * committed changes on this node and for batches received from other nodes.
+ */
+public interface InvalidationListener {
+
+    void invalidatePolicies(Set<Long> policyIds);
+
+    void invalidateAll();
+
+    /**
+     * Listeners that apply committed PolicyChangedEvents themselves return true; the
+     * bus then only calls them for changes made on other nodes and for invalidateAll.
+     */
+    default boolean appliesLocalChanges() {
+        return false;
+    }
+}
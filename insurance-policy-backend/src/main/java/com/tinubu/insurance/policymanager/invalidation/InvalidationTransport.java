@@ -0,0 +1,17 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation events between backend nodes. Implementations deliver every
+ * published batch to all started receivers, including the publishing node's own.
+ */
+public interface InvalidationTransport {
+
+    void publish(List<InvalidationEvent> events);
+
+    void start(Consumer<List<InvalidationEvent>> receiver);
+
+    void stop();
+}
@@ -0,0 +1,151 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transport over PostgreSQL LISTEN/NOTIFY. A batch is packed into as few NOTIFY
+ * payloads as the 8000 byte limit allows. Notifications are published through the
+ * application pool, while each node listens on a connection of its own opened from
+ * {@code listenDataSource}, which must not be pooled: the connection is held for the
+ * lifetime of the node and would otherwise take a pool slot and be reported as a leak.
+ * If the listening connection drops, notifications sent in the meantime are lost,
+ * so receivers are told to drop everything once the connection is re-established.
+ */
+public class PostgresInvalidationTransport implements InvalidationTransport {
+    private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationTransport.class);
+
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+    private static final char EVENT_SEPARATOR = ';';
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+    private static final String RECONNECT_ORIGIN = "listener-reconnect";
+
+    private final DataSource dataSource;
+    private final DataSource listenDataSource;
+    private final String channel;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresInvalidationTransport(DataSource dataSource, DataSource listenDataSource, String channel) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.listenDataSource = listenDataSource;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(List<InvalidationEvent> events) {
+        List<String> payloads = pack(events);
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to publish {} invalidation events", events.size(), e);
+        }
+    }
+
+    @Override
+    public void start(Consumer<List<InvalidationEvent>> receiver) {
+        running = true;
+        listenerThread = new Thread(() -> listen(receiver), "policy-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen(Consumer<List<InvalidationEvent>> receiver) {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = listenDataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    receiver.accept(List.of(InvalidationEvent.all(RECONNECT_ORIGIN)));
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        receiver.accept(unpack(notifications));
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Invalidation listener connection lost, reconnecting", e);
+                    reconnecting = true;
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private List<String> pack(List<InvalidationEvent> events) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        for (InvalidationEvent event : events) {
+            String encoded = event.encode();
+            if (payload.length() > 0 && payload.length() + encoded.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+            if (payload.length() > 0) {
+                payload.append(EVENT_SEPARATOR);
+            }
+            payload.append(encoded);
+        }
+        if (payload.length() > 0) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    private List<InvalidationEvent> unpack(PGNotification[] notifications) {
+        List<InvalidationEvent> events = new ArrayList<>();
+        for (PGNotification notification : notifications) {
+            for (String encoded : notification.getParameter().split(String.valueOf(EVENT_SEPARATOR))) {
+                try {
+                    events.add(InvalidationEvent.decode(encoded));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring malformed invalidation payload '{}'", encoded);
+                }
+            }
+        }
+        return events;
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
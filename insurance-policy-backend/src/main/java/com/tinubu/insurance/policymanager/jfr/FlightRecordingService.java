@@ -0,0 +1,143 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.config.FlightRecorderProperties;
+import com.tinubu.insurance.policymanager.dto.RecordingResponse;
+import com.tinubu.insurance.policymanager.exception.PolicyConflictException;
+import com.tinubu.insurance.policymanager.exception.RecordingNotFoundException;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Starts bounded flight recordings on demand: each one stops by itself after its
+ * duration, keeps at most max-size on disk, and only one runs at a time. Recordings
+ * use the JDK "default" settings plus the policy events unless configured otherwise.
+ */
+@Component
+@ConditionalOnProperty(prefix = "policy.jfr", name = "endpoint-enabled", havingValue = "true")
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+public class FlightRecordingService {
+    private final FlightRecorderProperties properties;
+    private final Configuration configuration;
+
+    // Insertion order, oldest first; guarded by this
+    private final Map<Long, Recording> recordings = new LinkedHashMap<>();
+
+    public FlightRecordingService(FlightRecorderProperties properties) throws IOException, ParseException {
+        this.properties = properties;
+        this.configuration = Configuration.getConfiguration(properties.getSettings());
+    }
+
+    public synchronized RecordingResponse start(Duration requested) {
+        Recording running = recordings.values().stream()
+                .filter(recording -> recording.getState() == RecordingState.RUNNING)
+                .findFirst().orElse(null);
+        if (running != null) {
+            throw new PolicyConflictException("Recording " + running.getId()
+                    + " is still running, stop it or wait until it ends");
+        }
+        Duration duration = requested != null ? requested : properties.getDefaultDuration();
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Recording duration must be positive");
+        }
+        if (duration.compareTo(properties.getMaxDuration()) > 0) {
+            duration = properties.getMaxDuration();
+        }
+        discardOldRecordings();
+
+        Recording recording = new Recording(configuration);
+        recording.setName("policy-" + Instant.now());
+        recording.setDuration(duration);
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.setToDisk(true);
+        recording.enable(PolicyOperationEvent.class).withThreshold(properties.getEventThreshold());
+        recording.enable(PolicyRequestEvent.class).withThreshold(properties.getEventThreshold());
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        return toResponse(recording);
+    }
+
+    public synchronized RecordingResponse stop(long id) {
+        Recording recording = get(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return toResponse(recording);
+    }
+
+    public synchronized List<RecordingResponse> list() {
+        return recordings.values().stream().map(FlightRecordingService::toResponse).toList();
+    }
+
+    /**
+     * Writes what the recording holds so far to a temporary file, which the caller
+     * deletes once it has been sent.
+     */
+    public synchronized Path dump(long id) {
+        Recording recording = get(id);
+        try {
+            Path file = Files.createTempFile("policy-recording-" + id + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write recording " + id, e);
+        }
+    }
+
+    public synchronized void discard(long id) {
+        get(id).close();
+        recordings.remove(id);
+    }
+
+    @PreDestroy
+    public synchronized void closeAll() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    private Recording get(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new RecordingNotFoundException(id);
+        }
+        return recording;
+    }
+
+    private void discardOldRecordings() {
+        List<Recording> finished = new ArrayList<>(recordings.values());
+        int excess = finished.size() - Math.max(0, properties.getRetained() - 1);
+        for (int i = 0; i < excess; i++) {
+            finished.get(i).close();
+            recordings.remove(finished.get(i).getId());
+        }
+    }
+
+    private static RecordingResponse toResponse(Recording recording) {
+        return RecordingResponse.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .durationSeconds(recording.getDuration() != null ? recording.getDuration().toSeconds() : null)
+                .maxSizeBytes(recording.getMaxSize())
+                .build();
+    }
+}
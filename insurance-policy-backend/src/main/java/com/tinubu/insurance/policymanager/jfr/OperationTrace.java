@@ -0,0 +1,69 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import java.util.function.Supplier;
+
+import com.tinubu.insurance.policymanager.timing.RequestTiming;
+import com.tinubu.insurance.policymanager.timing.RequestTiming.Phase;
+
+/**
+ * Time spent in repositories and in mapping by the service operation running on this
+ * thread, collected for its PolicyOperationEvent. Nothing is measured unless a
+ * recording has the event enabled or the request is timed for Server-Timing.
+ */
+public final class OperationTrace {
+    private static final ThreadLocal<OperationTrace> CURRENT = new ThreadLocal<>();
+
+    long databaseNanos;
+    long mappingNanos;
+    private int repositoryDepth;
+
+    private OperationTrace() {
+    }
+
+    /**
+     * Runs an entity/DTO conversion, adding its time to the current operation and to
+     * the Server-Timing of the current request.
+     */
+    public static <T> T mapping(Supplier<T> conversion) {
+        OperationTrace trace = CURRENT.get();
+        RequestTiming timing = RequestTiming.current();
+        if (trace == null && timing == null) {
+            return conversion.get();
+        }
+        long started = System.nanoTime();
+        try {
+            return conversion.get();
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            if (trace != null) {
+                trace.mappingNanos += elapsed;
+            }
+            if (timing != null) {
+                timing.add(Phase.MAPPING, elapsed);
+            }
+        }
+    }
+
+    static OperationTrace current() {
+        return CURRENT.get();
+    }
+
+    static OperationTrace begin() {
+        OperationTrace trace = new OperationTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Repositories calling each other count once
+    boolean enterRepository() {
+        return repositoryDepth++ == 0;
+    }
+
+    void exitRepository() {
+        repositoryDepth--;
+    }
+}
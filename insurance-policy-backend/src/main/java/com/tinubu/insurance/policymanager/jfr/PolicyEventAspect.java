@@ -0,0 +1,135 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.dto.BatchPolicyResponse;
+import com.tinubu.insurance.policymanager.dto.BulkOperationResponse;
+import com.tinubu.insurance.policymanager.dto.ChangeFeedResponse;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PagedResponse;
+import com.tinubu.insurance.policymanager.dto.PolicyHistoryResponse;
+
+/**
+ * Emits a PolicyOperationEvent for each outermost service call, with the time spent
+ * in repository calls and in OperationTrace.mapping. When no recording has the event
+ * enabled, the only cost is the enabled check. The policy id comes from the parameter
+ * marked {@link PolicyId}, else from a single returned policy, else it is 0.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "policy.jfr", name = "events", havingValue = "true", matchIfMissing = true)
+public class PolicyEventAspect {
+
+    // Index of the @PolicyId parameter per service method, -1 when there is none
+    private final Map<Method, Integer> policyIdParameters = new ConcurrentHashMap<>();
+
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * *(..))")
+    public Object traceOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (OperationTrace.current() != null) {
+            return joinPoint.proceed();
+        }
+        PolicyOperationEvent event = new PolicyOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        OperationTrace trace = OperationTrace.begin();
+        event.begin();
+        Object result = null;
+        event.failed = true;
+        try {
+            result = joinPoint.proceed();
+            event.failed = false;
+            return result;
+        } finally {
+            OperationTrace.end();
+            event.end();
+            if (event.shouldCommit()) {
+                MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+                event.operation = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+                event.policyId = policyId(signature.getMethod(), joinPoint.getArgs(), result);
+                event.rows = rows(result);
+                event.databaseTime = trace.databaseNanos;
+                event.mappingTime = trace.mappingNanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)"
+            + " || within(com.tinubu.insurance.policymanager.repository..*)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperationTrace trace = OperationTrace.current();
+        if (trace == null || !trace.enterRepository()) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                if (trace != null) {
+                    trace.exitRepository();
+                }
+            }
+        }
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            trace.databaseNanos += System.nanoTime() - started;
+            trace.exitRepository();
+        }
+    }
+
+    private long policyId(Method method, Object[] args, Object result) {
+        int parameter = policyIdParameters.computeIfAbsent(method, PolicyEventAspect::policyIdParameter);
+        if (parameter >= 0 && args[parameter] instanceof Long id) {
+            return id;
+        }
+        return result instanceof InsurancePolicyDTO policy && policy.getId() != null ? policy.getId() : 0;
+    }
+
+    private static int policyIdParameter(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int parameter = 0; parameter < annotations.length; parameter++) {
+            for (Annotation annotation : annotations[parameter]) {
+                if (annotation instanceof PolicyId) {
+                    return parameter;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof PagedResponse<?> page) {
+            return page.getContent().size();
+        }
+        if (result instanceof BatchPolicyResponse batch) {
+            return batch.getPolicies().size();
+        }
+        if (result instanceof BulkOperationResponse bulk) {
+            return bulk.getAffected();
+        }
+        if (result instanceof ChangeFeedResponse feed) {
+            return feed.getChanges().size();
+        }
+        if (result instanceof PolicyHistoryResponse history) {
+            return history.getEntries().size();
+        }
+        return result instanceof InsurancePolicyDTO ? 1 : 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the service method parameter holding the id of the policy the call works on,
+ * which PolicyEventAspect records as the event's policyId.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PolicyId {
+}
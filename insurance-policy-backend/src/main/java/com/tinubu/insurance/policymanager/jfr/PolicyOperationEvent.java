@@ -0,0 +1,42 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One call to a public service method, committed by PolicyEventAspect.
+ */
+@Name("com.tinubu.insurance.PolicyOperation")
+@Label("Policy Operation")
+@Category({ "Insurance Policy", "Service" })
+@Description("A policy service call with the time it spent in repositories and in entity mapping")
+@StackTrace(false)
+public class PolicyOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Policy Id")
+    @Description("The policy the call was about, 0 for calls about several policies")
+    long policyId;
+
+    @Label("Rows")
+    @Description("Policies returned or changed")
+    long rows;
+
+    @Label("Database Time")
+    @Timespan
+    long databaseTime;
+
+    @Label("Mapping Time")
+    @Timespan
+    long mappingTime;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,29 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One request to the policy API, committed by PolicyRequestEventInterceptor.
+ */
+@Name("com.tinubu.insurance.PolicyRequest")
+@Label("Policy Request")
+@Category({ "Insurance Policy", "HTTP" })
+@StackTrace(false)
+public class PolicyRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request Id")
+    String requestId;
+}
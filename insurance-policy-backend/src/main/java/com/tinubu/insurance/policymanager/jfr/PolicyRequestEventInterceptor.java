@@ -0,0 +1,54 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.tinubu.insurance.policymanager.logging.RequestIdFilter;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Emits a PolicyRequestEvent for each request to the policy API. An async response
+ * is recorded when its final dispatch completes, so an event stream spans the stream.
+ */
+@Component
+@ConditionalOnProperty(prefix = "policy.jfr", name = "events", havingValue = "true", matchIfMissing = true)
+public class PolicyRequestEventInterceptor implements AsyncHandlerInterceptor {
+    private static final String EVENT_ATTRIBUTE = PolicyRequestEventInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        PolicyRequestEvent event = new PolicyRequestEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof PolicyRequestEvent event)) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+        event.end();
+        if (event.shouldCommit()) {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            event.method = request.getMethod();
+            event.route = route != null ? route.toString() : request.getRequestURI();
+            event.status = response.getStatus();
+            event.requestId = MDC.get(RequestIdFilter.MDC_KEY);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.tinubu.insurance.policymanager.logging;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.tinubu.insurance.policymanager.config.LoggingProperties;
+
+/**
+ * Times every statement run through the wrapped DataSource and logs the slow ones, plus
+ * a random sample of the rest, with their bind values to the {@code policy.sql} logger.
+ * Bind values are only kept as references while the statement runs and are formatted
+ * when a statement is actually logged, so fast unsampled statements cost a clock read.
+ */
+public class SqlCaptureDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger("policy.sql");
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Object[] NO_BINDS = new Object[0];
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxBindLength;
+
+    public SqlCaptureDataSource(DataSource target, LoggingProperties.Sql settings) {
+        super(target);
+        this.slowThresholdNanos = settings.getSlowThreshold().toNanos();
+        this.sampleRate = settings.getSampleRate();
+        this.maxBindLength = settings.getMaxBindLength();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capture(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capture(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Closes the wrapped pool, as the container now sees this DataSource as the bean.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection capture(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (isIdentityMethod(name)) {
+                return invokeIdentity(proxy, name, args);
+            }
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return statementProxy(statement, CallableStatement.class, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return statementProxy(statement, PreparedStatement.class, (String) args[0]);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return statementProxy(statement, Statement.class, null);
+            }
+            return result;
+        }
+
+        private Object statementProxy(Statement statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private Object[] binds = NO_BINDS;
+        private int bindCount;
+        private int batchSize;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (isIdentityMethod(name)) {
+                return invokeIdentity(proxy, name, args);
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                recordCall(name, args);
+                return invokeTarget(target, method, args);
+            }
+
+            long started = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = invokeTarget(target, method, args);
+                failed = false;
+                return result;
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                if (failed || elapsed >= slowThresholdNanos) {
+                    logStatement(failed ? "failed" : "slow", sql, elapsed);
+                } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                    logStatement("sampled", sql, elapsed);
+                }
+                if (name.endsWith("Batch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void recordCall(String name, Object[] args) {
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                if (index > binds.length) {
+                    binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+                }
+                if (index > 0) {
+                    binds[index - 1] = name.equals("setNull") ? null : args[1];
+                    bindCount = Math.max(bindCount, index);
+                }
+            } else if (name.equals("clearParameters")) {
+                Arrays.fill(binds, null);
+                bindCount = 0;
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            }
+        }
+
+        private void logStatement(String reason, String sql, long elapsedNanos) {
+            if (!log.isInfoEnabled()) {
+                return;
+            }
+            double millis = elapsedNanos / 1_000_000.0;
+            log.atInfo()
+                    .addKeyValue("reason", reason)
+                    .addKeyValue("durationMs", millis)
+                    .addKeyValue("batchSize", batchSize)
+                    .addKeyValue("binds", formatBinds())
+                    .log("SQL {} in {} ms: {}", reason, String.format("%.3f", millis), sql);
+        }
+
+        private String formatBinds() {
+            StringBuilder formatted = new StringBuilder("[");
+            for (int i = 0; i < bindCount; i++) {
+                if (i > 0) {
+                    formatted.append(", ");
+                }
+                String value = String.valueOf(binds[i]);
+                formatted.append(value.length() > maxBindLength ? value.substring(0, maxBindLength) + "..." : value);
+            }
+            return formatted.append(']').toString();
+        }
+    }
+
+    // Proxies are compared by identity, as JDBC resource registries key on the statement
+    private static boolean isIdentityMethod(String name) {
+        return name.equals("equals") || name.equals("hashCode");
+    }
+
+    private static Object invokeIdentity(Object proxy, String name, Object[] args) {
+        return name.equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -2,8 +2,7 @@ package com.tinubu.insurance.policymanager.model;
 
 import java.time.LocalDate;
 
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,9 +11,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -26,8 +27,11 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
-@Table(name = "insurance_policies")
+@Builder(toBuilder = true)
+@Table(name = "insurance_policies", indexes = {
+        @Index(name = "idx_insurance_policies_change_seq", columnList = "change_seq"),
+        @Index(name = "idx_insurance_policies_coverage", columnList = "coverage_start_date, coverage_end_date")
+})
 public class InsurancePolicy {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,26 +54,27 @@ public class InsurancePolicy {
     @Column(name = "coverage_end_date", nullable = false)
     private LocalDate coverageEndDate;
 
-    @CreationTimestamp
+    // Stamped by the service from the application clock
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDate createdAt;
 
-    @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDate updatedAt;
 
-    // Custom validation to ensure end date is after start date
+    // Optimistic locking: bumped on every update and checked in its WHERE clause
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Position of the latest write to this policy in the global change sequence
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    // Last-line invariant on every write; request validation happens once in PolicyValidator
     @PrePersist
     @PreUpdate
     private void validateDates() {
-        LocalDate today = LocalDate.now();
-        
-        // Validate that start date is not in the past
-        if (coverageStartDate != null && coverageStartDate.isBefore(today)) {
-            throw new IllegalArgumentException("Coverage start date cannot be in the past");
-        }
-        
-        // Validate that end date is after start date
         if (coverageEndDate != null && coverageStartDate != null && coverageEndDate.isBefore(coverageStartDate)) {
             throw new IllegalArgumentException("Coverage end date must be after start date");
         }
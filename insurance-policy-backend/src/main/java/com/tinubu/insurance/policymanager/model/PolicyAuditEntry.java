@@ -0,0 +1,58 @@
+package com.tinubu.insurance.policymanager.model;
+
+import java.time.Instant;
+
+import com.tinubu.insurance.policymanager.event.ChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the append-only change history of a policy.
+ * Rows are ordered by the change sequence of the write they record, so entries
+ * replayed from the spool later still land in the right place. Ids come from a
+ * pooled sequence so the background writer can batch its inserts.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "policy_audit_history", indexes = {
+        @Index(name = "idx_policy_audit_history_policy", columnList = "policy_id, change_seq")
+})
+public class PolicyAuditEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "policy_audit_seq")
+    @SequenceGenerator(name = "policy_audit_seq", sequenceName = "policy_audit_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "policy_id", nullable = false, updatable = false)
+    private Long policyId;
+
+    @Column(name = "change_seq", nullable = false, updatable = false)
+    private Long changeSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, updatable = false)
+    private ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private Instant changedAt;
+
+    // Field-level diff serialized as a JSON array of {field, oldValue, newValue}
+    @Column(name = "changes", nullable = false, updatable = false, length = 4000)
+    private String changes;
+}
@@ -0,0 +1,45 @@
+package com.tinubu.insurance.policymanager.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Records the deletion of a policy so the change feed can report it.
+ * Its id is drawn from the same sequence that stamps every policy write, which is
+ * also what declares that sequence to the schema generator.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "policy_tombstones", indexes = {
+        @Index(name = "idx_policy_tombstones_policy_id", columnList = "policy_id")
+})
+public class PolicyTombstone {
+    public static final String CHANGE_SEQUENCE = "policy_change_seq";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = CHANGE_SEQUENCE)
+    @SequenceGenerator(name = CHANGE_SEQUENCE, sequenceName = CHANGE_SEQUENCE, allocationSize = 1)
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "policy_id", nullable = false)
+    private Long policyId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
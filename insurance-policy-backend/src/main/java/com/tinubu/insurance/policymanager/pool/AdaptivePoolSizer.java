@@ -0,0 +1,179 @@
+package com.tinubu.insurance.policymanager.pool;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.config.PoolProperties;
+import com.tinubu.insurance.policymanager.config.PoolProperties.Adaptive;
+import com.tinubu.insurance.policymanager.shard.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Resizes the connection pools within policy.pool.adaptive bounds, once per interval,
+ * from what Hikari measured since the previous one:
+ * <ul>
+ * <li>connections held longer than the hold target on average: the database is
+ * slowing down, so the pool shrinks by the backoff ratio;</li>
+ * <li>otherwise threads waiting, or a mean wait above the wait target: it grows by
+ * the grow step;</li>
+ * <li>otherwise, with fewer than half of the connections in use, it shrinks by one.</li>
+ * </ul>
+ * The minimum idle count is lowered to min-size so Hikari retires the surplus
+ * connections once they have been idle for idle-timeout.
+ */
+@Component
+@ConditionalOnProperty(prefix = "policy.pool.adaptive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PoolProperties.class)
+public class AdaptivePoolSizer {
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final Adaptive settings;
+    private final MeterRegistry meterRegistry;
+    private final List<PoolState> pools = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "policy-pool-sizer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AdaptivePoolSizer(DataSource dataSource, ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+            PoolProperties properties, MeterRegistry meterRegistry) throws SQLException {
+        this.settings = properties.getAdaptive();
+        this.meterRegistry = meterRegistry;
+        if (settings.getMinSize() < 1 || settings.getMaxSize() < settings.getMinSize()) {
+            throw new IllegalArgumentException("Invalid policy.pool.adaptive bounds");
+        }
+        ShardRoutingDataSource shards = shardRoutingDataSource.getIfAvailable();
+        if (shards != null) {
+            shards.getShards().forEach(this::manage);
+        } else if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            manage(dataSource.unwrap(HikariDataSource.class));
+        } else {
+            log.warn("policy.pool.adaptive is enabled but the DataSource is not a Hikari pool");
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = settings.getInterval().toMillis();
+        scheduler.scheduleAtFixedRate(this::adjust, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void adjust() {
+        for (PoolState pool : pools) {
+            try {
+                pool.adjust();
+            } catch (RuntimeException e) {
+                log.warn("Could not resize pool {}", pool.dataSource.getPoolName(), e);
+            }
+        }
+    }
+
+    /**
+     * The pool size for the next interval. The mean hold time is the latency signal:
+     * it rises with query time, while the wait only rises with demand.
+     */
+    static int nextSize(int size, Sample sample, Adaptive settings) {
+        int next = size;
+        if (sample.meanHoldNanos() > settings.getHoldTarget().toNanos()) {
+            next = (int) (size * settings.getBackoffRatio());
+        } else if (sample.pending() > 0 || sample.meanWaitNanos() > settings.getWaitTarget().toNanos()) {
+            next = size + settings.getGrowStep();
+        } else if (sample.active() * 2 < size) {
+            next = size - 1;
+        }
+        return Math.max(settings.getMinSize(), Math.min(settings.getMaxSize(), next));
+    }
+
+    private void manage(HikariDataSource dataSource) {
+        PoolState pool = new PoolState(dataSource);
+        pools.add(pool);
+        Gauge.builder("policy.pool.target.size", pool, state -> state.size)
+                .description("Maximum pool size chosen by the adaptive pool sizer")
+                .tag("pool", dataSource.getPoolName())
+                .register(meterRegistry);
+    }
+
+    record Sample(double meanWaitNanos, int pending, int active, double meanHoldNanos) {
+    }
+
+    private final class PoolState {
+        private final HikariDataSource dataSource;
+        private volatile int size;
+        private final Window wait = new Window();
+        private final Window hold = new Window();
+
+        private PoolState(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+            this.size = Math.max(settings.getMinSize(), Math.min(settings.getMaxSize(),
+                    dataSource.getMaximumPoolSize()));
+        }
+
+        void adjust() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                // Not started yet
+                return;
+            }
+            String name = dataSource.getPoolName();
+            Sample sample = new Sample(
+                    wait.mean(meterRegistry.find("hikaricp.connections.acquire").tag("pool", name).timer()),
+                    pool.getThreadsAwaitingConnection(), pool.getActiveConnections(),
+                    hold.mean(meterRegistry.find("hikaricp.connections.usage").tag("pool", name).timer()));
+            int next = nextSize(size, sample, settings);
+            if (next != size || dataSource.getMaximumPoolSize() != next) {
+                log.info("Resizing pool {} from {} to {} (wait {} us, hold {} us, pending {}, active {})", name,
+                        size, next, (long) sample.meanWaitNanos() / 1000, (long) sample.meanHoldNanos() / 1000,
+                        sample.pending(), sample.active());
+                dataSource.getHikariConfigMXBean().setMaximumPoolSize(next);
+                dataSource.getHikariConfigMXBean().setMinimumIdle(Math.min(settings.getMinSize(), next));
+                size = next;
+            }
+        }
+    }
+
+    /**
+     * Mean of a timer over the time since the previous call.
+     */
+    private static final class Window {
+        private long count;
+        private double totalNanos;
+
+        double mean(Timer timer) {
+            if (timer == null) {
+                return 0;
+            }
+            long newCount = timer.count();
+            double newTotal = timer.totalTime(TimeUnit.NANOSECONDS);
+            double mean = newCount > count ? (newTotal - totalNanos) / (newCount - count) : 0;
+            count = newCount;
+            totalNanos = newTotal;
+            return mean;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.tinubu.insurance.policymanager.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times each connection from checkout to close as policy.pool.connection.hold, tagged
+ * with the service method that took it (see ServiceOperationAspect). Hikari's own
+ * hikaricp.connections.usage covers the pool as a whole; this shows which operation
+ * the time goes to.
+ */
+public class HoldTimingDataSource extends DelegatingDataSource implements AutoCloseable {
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public HoldTimingDataSource(DataSource target, MeterRegistry meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Closes the wrapped pool, as the container now sees this DataSource as the bean.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection timed(Connection connection) {
+        Timer timer = timers.computeIfAbsent(ServiceOperationAspect.current(), operation -> Timer
+                .builder("policy.pool.connection.hold")
+                .description("Time a connection is checked out, by the service method that took it")
+                .tag("operation", operation)
+                .register(meterRegistry));
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new HoldHandler(connection, timer));
+    }
+
+    private static final class HoldHandler implements InvocationHandler {
+        private final Connection target;
+        private final Timer timer;
+        private final long checkedOut = System.nanoTime();
+        private boolean closed;
+
+        private HoldHandler(Connection target, Timer timer) {
+            this.target = target;
+            this.timer = timer;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            // Proxies are compared by identity, as JDBC resource registries key on the connection
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.equals("close") && !closed) {
+                closed = true;
+                timer.record(System.nanoTime() - checkedOut, TimeUnit.NANOSECONDS);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
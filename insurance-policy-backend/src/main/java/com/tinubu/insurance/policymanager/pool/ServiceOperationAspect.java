@@ -0,0 +1,46 @@
+package com.tinubu.insurance.policymanager.pool;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records which service method the current thread is in, such as
+ * "InsurancePolicyService.createPolicy", so HoldTimingDataSource can attribute
+ * connection hold times to it. Nested calls keep the outermost method, and it runs
+ * before the transaction advice so the connection of a transaction is attributed too.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "policy.pool", name = "hold-timing", havingValue = "true", matchIfMissing = true)
+public class ServiceOperationAspect {
+    // Connections taken outside any service method, e.g. by the background loaders
+    static final String NO_OPERATION = "other";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    static String current() {
+        String operation = CURRENT.get();
+        return operation != null ? operation : NO_OPERATION;
+    }
+
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * *(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (CURRENT.get() != null) {
+            return joinPoint.proceed();
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        CURRENT.set(signature.getDeclaringType().getSimpleName() + "." + signature.getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.tinubu.insurance.policymanager.readmodel;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Growable columns of primitive values, either plain arrays on the Java heap or
+ * direct buffers outside it. Off-heap columns keep a large read model out of the
+ * garbage collector's way at the cost of a bounds-checked buffer access per read.
+ */
+final class Columns {
+
+    private Columns() {
+    }
+
+    static Longs longs(int capacity, boolean offHeap) {
+        return offHeap ? new OffHeapLongs(capacity) : new HeapLongs(capacity);
+    }
+
+    static Ints ints(int capacity, boolean offHeap) {
+        return offHeap ? new OffHeapInts(capacity) : new HeapInts(capacity);
+    }
+
+    static Bytes bytes(int capacity, boolean offHeap) {
+        return offHeap ? new OffHeapBytes(capacity) : new HeapBytes(capacity);
+    }
+
+    interface Longs {
+        long get(int row);
+
+        void set(int row, long value);
+
+        void grow(int capacity);
+    }
+
+    interface Ints {
+        int get(int row);
+
+        void set(int row, int value);
+
+        void grow(int capacity);
+    }
+
+    interface Bytes {
+        byte get(int row);
+
+        void set(int row, byte value);
+
+        void grow(int capacity);
+    }
+
+    private static final class HeapLongs implements Longs {
+        private long[] values;
+
+        HeapLongs(int capacity) {
+            values = new long[capacity];
+        }
+
+        public long get(int row) {
+            return values[row];
+        }
+
+        public void set(int row, long value) {
+            values[row] = value;
+        }
+
+        public void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class HeapInts implements Ints {
+        private int[] values;
+
+        HeapInts(int capacity) {
+            values = new int[capacity];
+        }
+
+        public int get(int row) {
+            return values[row];
+        }
+
+        public void set(int row, int value) {
+            values[row] = value;
+        }
+
+        public void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static final class HeapBytes implements Bytes {
+        private byte[] values;
+
+        HeapBytes(int capacity) {
+            values = new byte[capacity];
+        }
+
+        public byte get(int row) {
+            return values[row];
+        }
+
+        public void set(int row, byte value) {
+            values[row] = value;
+        }
+
+        public void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private static ByteBuffer copy(ByteBuffer from, int bytes) {
+        ByteBuffer to = allocate(bytes);
+        to.put(from.duplicate().clear());
+        return to.clear();
+    }
+
+    private static final class OffHeapLongs implements Longs {
+        private ByteBuffer values;
+
+        OffHeapLongs(int capacity) {
+            values = allocate(capacity * Long.BYTES);
+        }
+
+        public long get(int row) {
+            return values.getLong(row * Long.BYTES);
+        }
+
+        public void set(int row, long value) {
+            values.putLong(row * Long.BYTES, value);
+        }
+
+        public void grow(int capacity) {
+            values = copy(values, capacity * Long.BYTES);
+        }
+    }
+
+    private static final class OffHeapInts implements Ints {
+        private ByteBuffer values;
+
+        OffHeapInts(int capacity) {
+            values = allocate(capacity * Integer.BYTES);
+        }
+
+        public int get(int row) {
+            return values.getInt(row * Integer.BYTES);
+        }
+
+        public void set(int row, int value) {
+            values.putInt(row * Integer.BYTES, value);
+        }
+
+        public void grow(int capacity) {
+            values = copy(values, capacity * Integer.BYTES);
+        }
+    }
+
+    private static final class OffHeapBytes implements Bytes {
+        private ByteBuffer values;
+
+        OffHeapBytes(int capacity) {
+            values = allocate(capacity);
+        }
+
+        public byte get(int row) {
+            return values.get(row);
+        }
+
+        public void set(int row, byte value) {
+            values.put(row, value);
+        }
+
+        public void grow(int capacity) {
+            values = copy(values, capacity);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tinubu.insurance.policymanager.readmodel;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of policy names: each distinct name is stored once and rows
+ * hold its int code. Codes are reference counted and reused once no row uses them.
+ */
+final class NameDictionary {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] names = new String[64];
+    private int[] references = new int[64];
+    private int[] freeCodes = new int[16];
+    private int freeCount;
+    private int nextCode;
+
+    int encode(String name) {
+        Integer existing = codes.get(name);
+        if (existing != null) {
+            references[existing]++;
+            return existing;
+        }
+        int code;
+        if (freeCount > 0) {
+            code = freeCodes[--freeCount];
+        } else {
+            code = nextCode++;
+            if (code == names.length) {
+                names = Arrays.copyOf(names, code * 2);
+                references = Arrays.copyOf(references, code * 2);
+            }
+        }
+        names[code] = name;
+        references[code] = 1;
+        codes.put(name, code);
+        return code;
+    }
+
+    String decode(int code) {
+        return names[code];
+    }
+
+    void release(int code) {
+        if (--references[code] > 0) {
+            return;
+        }
+        codes.remove(names[code]);
+        names[code] = null;
+        if (freeCount == freeCodes.length) {
+            freeCodes = Arrays.copyOf(freeCodes, freeCount * 2);
+        }
+        freeCodes[freeCount++] = code;
+    }
+
+    int size() {
+        return codes.size();
+    }
+}
@@ -0,0 +1,333 @@
+package com.tinubu.insurance.policymanager.readmodel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.tinubu.insurance.policymanager.config.ReadModelProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+import com.tinubu.insurance.policymanager.event.ChangeType;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.invalidation.InvalidationListener;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.readmodel.PolicyTable.SortKey;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Columnar in-memory copy of all policies answering list queries: full lists, pages
+ * in any single-field order and pages filtered by status, from sort indexes instead of
+ * the database. Like PolicyCoverageIndex it is loaded in the background once the
+ * application is ready, applies this node's committed writes from PolicyChangedEvents
+ * and re-reads policies changed on other nodes. Until a load has completed, or for a
+ * sort it cannot serve, callers get an empty Optional and should query the database.
+ * It is ordered first among the commit listeners and the InvalidationBus listeners, so
+ * a change is applied here before PageResponseCache moves to a new generation; a page
+ * loaded for the new generation then already sees the change.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(ReadModelProperties.class)
+public class PolicyReadModel implements InvalidationListener {
+    private static final Logger log = LoggerFactory.getLogger(PolicyReadModel.class);
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final Sort ID_ORDER = Sort.by("id");
+
+    private final InsurancePolicyRepository policyRepository;
+    private final ShardRouter shardRouter;
+    private final ReadModelProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "policy-read-model-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    // Guarded by lock
+    private PolicyTable table;
+    // Changes that arrive while a load is reading the table, replayed onto its result
+    private List<PolicyChangedEvent> pendingEvents;
+    private Set<Long> pendingRemoteIds;
+
+    private volatile boolean ready;
+
+    public PolicyReadModel(InsurancePolicyRepository policyRepository, ShardRouter shardRouter,
+            ReadModelProperties properties, MeterRegistry meterRegistry) {
+        this.policyRepository = policyRepository;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.table = newTable();
+        meterRegistry.gauge("policy.read.model.size", this, PolicyReadModel::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestRebuild() {
+        if (properties.isEnabled() && rebuildQueued.compareAndSet(false, true)) {
+            loader.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * A page of policies in the order of {@code pageable}, restricted to one status
+     * unless {@code status} is null.
+     */
+    public Optional<Page<InsurancePolicyDTO>> findPage(Pageable pageable, PolicyStatus status) {
+        return page(pageable, status, row -> table.toDTO(row));
+    }
+
+    /**
+     * Same as findPage, with only the selected fields of each policy.
+     */
+    public Optional<Page<Map<String, Object>>> findPage(Pageable pageable, PolicyStatus status,
+            Set<PolicyField> fields) {
+        return page(pageable, status, row -> table.toRow(row, fields));
+    }
+
+    /**
+     * Every policy, ordered by id.
+     */
+    public Optional<List<InsurancePolicyDTO>> findAll() {
+        return page(Pageable.unpaged(ID_ORDER), null, row -> table.toDTO(row)).map(Page::getContent);
+    }
+
+    public Optional<List<Map<String, Object>>> findAll(Set<PolicyField> fields) {
+        return page(Pageable.unpaged(ID_ORDER), null, row -> table.toRow(row, fields)).map(Page::getContent);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(table, event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean appliesLocalChanges() {
+        return true;
+    }
+
+    @Override
+    public void invalidatePolicies(Set<Long> policyIds) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<InsurancePolicy> current = shardRouter.onOwningShards(policyIds, policyRepository::findAllById);
+        Set<Long> deleted = new HashSet<>(policyIds);
+        lock.writeLock().lock();
+        try {
+            for (InsurancePolicy policy : current) {
+                deleted.remove(policy.getId());
+                table.put(policy, seqOf(policy.getChangeSeq()));
+            }
+            for (Long id : deleted) {
+                table.remove(id, Long.MAX_VALUE);
+            }
+            if (pendingRemoteIds != null) {
+                pendingRemoteIds.addAll(policyIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        ready = false;
+        requestRebuild();
+    }
+
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+            pendingRemoteIds = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        PolicyTable loaded = newTable();
+        Set<Long> remoteIds;
+        try {
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                shardRouter.onShard(shard, () -> load(loaded));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Loading the policy read model failed, list queries use the database until the next load", e);
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+                pendingRemoteIds = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (PolicyChangedEvent event : pendingEvents) {
+                apply(loaded, event);
+            }
+            table = loaded;
+            remoteIds = pendingRemoteIds;
+            pendingEvents = null;
+            pendingRemoteIds = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Policy read model loaded with {} policies and {} distinct names{}", loaded.size(),
+                loaded.distinctNames(), loaded.isOffHeap() ? " off-heap" : "");
+        if (!remoteIds.isEmpty()) {
+            invalidatePolicies(remoteIds);
+        }
+    }
+
+    /**
+     * Reads a range of the sort index for the pageable's order. The index is built
+     * under the write lock the first time an order is requested, then the lock is
+     * downgraded so the page itself is read concurrently with other readers.
+     */
+    private <T> Optional<Page<T>> page(Pageable pageable, PolicyStatus status, IntFunction<T> mapper) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        SortKey key = sortKey(pageable.getSort(), status);
+        if (key == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            SortIndex index = table.index(key);
+            if (index == null) {
+                lock.readLock().unlock();
+                lock.writeLock().lock();
+                try {
+                    index = table.buildIndex(key);
+                } finally {
+                    lock.readLock().lock();
+                    lock.writeLock().unlock();
+                }
+            }
+            index.touch(System.nanoTime());
+            int total = index.size();
+            int from = pageable.isPaged() ? (int) Math.min(total, pageable.getOffset()) : 0;
+            int to = pageable.isPaged() ? (int) Math.min(total, (long) from + pageable.getPageSize()) : total;
+            List<T> content = new ArrayList<>(to - from);
+            for (int position = from; position < to; position++) {
+                content.add(mapper.apply(index.rowAt(position)));
+            }
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The index serving {@code sort}, or null for orders on several or unknown fields,
+     * which are left to the database. So are name orders: the database sorts names by
+     * its collation, which the table cannot reproduce.
+     */
+    private static SortKey sortKey(Sort sort, PolicyStatus status) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+        Sort.Order order = orders.get(0);
+        return PolicyField.find(order.getProperty())
+                .filter(field -> field != PolicyField.POLICY_NAME)
+                .map(field -> new SortKey(field, order.isAscending(), status))
+                .orElse(null);
+    }
+
+    private PolicyTable newTable() {
+        return new PolicyTable(properties.isOffHeap(), properties.getMaxSortIndexes());
+    }
+
+    private Void load(PolicyTable target) {
+        long afterId = 0;
+        List<InsurancePolicy> batch;
+        do {
+            batch = policyRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(LOAD_BATCH_SIZE));
+            for (InsurancePolicy policy : batch) {
+                target.put(policy, seqOf(policy.getChangeSeq()));
+                afterId = policy.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        return null;
+    }
+
+    private static void apply(PolicyTable target, PolicyChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            target.remove(event.policyId(), seqOf(event.changeSeq()));
+        } else {
+            target.put(event.after(), seqOf(event.after().getChangeSeq()));
+        }
+    }
+
+    private static long seqOf(Long changeSeq) {
+        // Rows written before the change sequence existed lose against any later write
+        return changeSeq == null ? 0 : changeSeq;
+    }
+}
@@ -0,0 +1,285 @@
+package com.tinubu.insurance.policymanager.readmodel;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+/**
+ * Policies stored column by column: one primitive column per attribute, dates as
+ * epoch days, the status as its ordinal and names as codes into a dictionary. A
+ * policy keeps its row until it is deleted, and freed rows are reused.
+ * Sort indexes are built on first use and then maintained by every write.
+ * Not thread-safe; PolicyReadModel guards it with a read-write lock.
+ */
+final class PolicyTable {
+
+    /**
+     * An order a page can be requested in, optionally restricted to one status.
+     */
+    record SortKey(PolicyField field, boolean ascending, PolicyStatus status) {
+    }
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+    private static final PolicyStatus[] STATUSES = PolicyStatus.values();
+    // The status column is a VARCHAR, so the database sorts statuses by name
+    private static final int[] STATUS_RANK = new int[STATUSES.length];
+
+    static {
+        PolicyStatus[] byName = STATUSES.clone();
+        Arrays.sort(byName, Comparator.comparing(PolicyStatus::name));
+        for (int rank = 0; rank < byName.length; rank++) {
+            STATUS_RANK[byName[rank].ordinal()] = rank;
+        }
+    }
+
+    private final boolean offHeap;
+    private final int maxSortIndexes;
+    private final Columns.Longs ids;
+    private final Columns.Longs changeSeqs;
+    private final Columns.Longs versions;
+    private final Columns.Ints nameCodes;
+    private final Columns.Ints coverageStarts;
+    private final Columns.Ints coverageEnds;
+    private final Columns.Ints createdDays;
+    private final Columns.Ints updatedDays;
+    private final Columns.Bytes statuses;
+    private final NameDictionary names = new NameDictionary();
+    private final Map<Long, Integer> rowsById = new HashMap<>();
+    private final int[] statusCounts = new int[STATUSES.length];
+    private final Map<SortKey, SortIndex> indexes = new HashMap<>();
+    private int capacity = INITIAL_CAPACITY;
+    // Rows below this have been used at least once
+    private int highWater;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+
+    PolicyTable(boolean offHeap, int maxSortIndexes) {
+        this.offHeap = offHeap;
+        this.maxSortIndexes = Math.max(1, maxSortIndexes);
+        ids = Columns.longs(capacity, offHeap);
+        changeSeqs = Columns.longs(capacity, offHeap);
+        versions = Columns.longs(capacity, offHeap);
+        nameCodes = Columns.ints(capacity, offHeap);
+        coverageStarts = Columns.ints(capacity, offHeap);
+        coverageEnds = Columns.ints(capacity, offHeap);
+        createdDays = Columns.ints(capacity, offHeap);
+        updatedDays = Columns.ints(capacity, offHeap);
+        statuses = Columns.bytes(capacity, offHeap);
+    }
+
+    boolean isOffHeap() {
+        return offHeap;
+    }
+
+    int size() {
+        return rowsById.size();
+    }
+
+    int count(PolicyStatus status) {
+        return status == null ? size() : statusCounts[status.ordinal()];
+    }
+
+    int distinctNames() {
+        return names.size();
+    }
+
+    /**
+     * Inserts or replaces a policy. Returns false if the stored row was written by a
+     * later change.
+     */
+    boolean put(InsurancePolicy policy, long changeSeq) {
+        Integer existing = rowsById.get(policy.getId());
+        int row;
+        if (existing != null) {
+            row = existing;
+            if (changeSeqs.get(row) > changeSeq) {
+                return false;
+            }
+            unindex(row);
+            names.release(nameCodes.get(row));
+            statusCounts[statuses.get(row)]--;
+        } else {
+            row = allocateRow();
+            rowsById.put(policy.getId(), row);
+        }
+        ids.set(row, policy.getId());
+        changeSeqs.set(row, changeSeq);
+        versions.set(row, policy.getVersion() == null ? NO_VERSION : policy.getVersion());
+        nameCodes.set(row, names.encode(policy.getPolicyName()));
+        coverageStarts.set(row, epochDay(policy.getCoverageStartDate()));
+        coverageEnds.set(row, epochDay(policy.getCoverageEndDate()));
+        createdDays.set(row, epochDay(policy.getCreatedAt()));
+        updatedDays.set(row, epochDay(policy.getUpdatedAt()));
+        statuses.set(row, (byte) policy.getStatus().ordinal());
+        statusCounts[policy.getStatus().ordinal()]++;
+        for (SortIndex index : indexes.values()) {
+            if (index.covers(statuses.get(row))) {
+                index.insert(row);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes a policy unless it was written by a change later than {@code changeSeq}.
+     */
+    boolean remove(long id, long changeSeq) {
+        Integer row = rowsById.get(id);
+        if (row == null || changeSeqs.get(row) > changeSeq) {
+            return false;
+        }
+        unindex(row);
+        names.release(nameCodes.get(row));
+        statusCounts[statuses.get(row)]--;
+        rowsById.remove(id);
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+        return true;
+    }
+
+    /**
+     * The index for {@code key}, or null if it has not been built yet.
+     */
+    SortIndex index(SortKey key) {
+        return indexes.get(key);
+    }
+
+    /**
+     * Builds the index for {@code key} unless it exists, dropping the least recently
+     * used index when the limit is reached.
+     */
+    SortIndex buildIndex(SortKey key) {
+        SortIndex index = indexes.get(key);
+        if (index != null) {
+            return index;
+        }
+        if (indexes.size() >= maxSortIndexes) {
+            indexes.values().stream()
+                    .min(Comparator.comparingLong(SortIndex::lastUsed))
+                    .ifPresent(leastUsed -> indexes.values().remove(leastUsed));
+        }
+        int status = key.status() == null ? -1 : key.status().ordinal();
+        int[] rows = new int[Math.max(16, count(key.status()))];
+        int size = 0;
+        for (int row : rowsById.values()) {
+            if (status < 0 || statuses.get(row) == status) {
+                rows[size++] = row;
+            }
+        }
+        index = new SortIndex(order(key.field(), key.ascending()), status, rows, size);
+        indexes.put(key, index);
+        return index;
+    }
+
+    int indexCount() {
+        return indexes.size();
+    }
+
+    InsurancePolicyDTO toDTO(int row) {
+        return InsurancePolicyDTO.builder()
+                .id(ids.get(row))
+                .policyName(names.decode(nameCodes.get(row)))
+                .status(STATUSES[statuses.get(row)])
+                .coverageStartDate(date(coverageStarts.get(row)))
+                .coverageEndDate(date(coverageEnds.get(row)))
+                .createdAt(date(createdDays.get(row)))
+                .updatedAt(date(updatedDays.get(row)))
+                .version(versions.get(row) == NO_VERSION ? null : versions.get(row))
+                .build();
+    }
+
+    /**
+     * The selected fields of a row, keyed and typed like the rows of
+     * PolicyProjectionRepository.
+     */
+    Map<String, Object> toRow(int row, Set<PolicyField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (PolicyField field : fields) {
+            values.put(field.getName(), switch (field) {
+                case ID -> ids.get(row);
+                case POLICY_NAME -> names.decode(nameCodes.get(row));
+                case STATUS -> STATUSES[statuses.get(row)];
+                case COVERAGE_START_DATE -> date(coverageStarts.get(row));
+                case COVERAGE_END_DATE -> date(coverageEnds.get(row));
+                case CREATED_AT -> date(createdDays.get(row));
+                case UPDATED_AT -> date(updatedDays.get(row));
+                case VERSION -> versions.get(row) == NO_VERSION ? null : versions.get(row);
+            });
+        }
+        return values;
+    }
+
+    private void unindex(int row) {
+        for (SortIndex index : indexes.values()) {
+            if (index.covers(statuses.get(row))) {
+                index.remove(row);
+            }
+        }
+    }
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (highWater == capacity) {
+            capacity *= 2;
+            ids.grow(capacity);
+            changeSeqs.grow(capacity);
+            versions.grow(capacity);
+            nameCodes.grow(capacity);
+            coverageStarts.grow(capacity);
+            coverageEnds.grow(capacity);
+            createdDays.grow(capacity);
+            updatedDays.grow(capacity);
+            statuses.grow(capacity);
+        }
+        return highWater++;
+    }
+
+    /**
+     * The order of {@code field} with ties broken on the id, which matches how the
+     * sharded read path orders rows. Missing dates and versions sort low, as on H2.
+     * Names are not sorted here, as only the database knows its collation.
+     */
+    private SortIndex.RowOrder order(PolicyField field, boolean ascending) {
+        SortIndex.RowOrder byField = switch (field) {
+            case ID -> (a, b) -> 0;
+            case POLICY_NAME -> throw new IllegalArgumentException("Names are sorted by the database");
+            case STATUS -> (a, b) -> Integer.compare(STATUS_RANK[statuses.get(a)], STATUS_RANK[statuses.get(b)]);
+            case COVERAGE_START_DATE -> (a, b) -> Integer.compare(coverageStarts.get(a), coverageStarts.get(b));
+            case COVERAGE_END_DATE -> (a, b) -> Integer.compare(coverageEnds.get(a), coverageEnds.get(b));
+            case CREATED_AT -> (a, b) -> Integer.compare(createdDays.get(a), createdDays.get(b));
+            case UPDATED_AT -> (a, b) -> Integer.compare(updatedDays.get(a), updatedDays.get(b));
+            case VERSION -> (a, b) -> Long.compare(versions.get(a), versions.get(b));
+        };
+        int sign = ascending ? 1 : -1;
+        if (field == PolicyField.ID) {
+            return (a, b) -> sign * Long.compare(ids.get(a), ids.get(b));
+        }
+        return (a, b) -> {
+            int cmp = byField.compare(a, b);
+            return cmp != 0 ? sign * cmp : Long.compare(ids.get(a), ids.get(b));
+        };
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date == null ? NO_DATE : Math.toIntExact(date.toEpochDay());
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,124 @@
+package com.tinubu.insurance.policymanager.readmodel;
+
+import java.util.Arrays;
+
+/**
+ * Row numbers of the read model kept sorted by one order, optionally restricted to
+ * the rows with one status. Writes insert and remove single rows by binary search,
+ * so the index never needs a full re-sort after it has been built. The order must be
+ * total (the read model breaks ties on the id) for a row to be found again.
+ */
+final class SortIndex {
+
+    /**
+     * Compares two rows of the read model.
+     */
+    interface RowOrder {
+        int compare(int row, int other);
+    }
+
+    private final RowOrder order;
+    // Status ordinal the index is restricted to, or -1 for every row
+    private final int status;
+    private int[] rows;
+    private int size;
+    private volatile long lastUsed;
+
+    SortIndex(RowOrder order, int status, int[] rows, int size) {
+        this.order = order;
+        this.status = status;
+        this.rows = rows;
+        this.size = size;
+        sort(rows, size, order);
+    }
+
+    boolean covers(int rowStatus) {
+        return status < 0 || status == rowStatus;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int rowAt(int position) {
+        return rows[position];
+    }
+
+    void insert(int row) {
+        int position = search(row);
+        if (position >= 0) {
+            return;
+        }
+        position = -(position + 1);
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(16, size * 2));
+        }
+        System.arraycopy(rows, position, rows, position + 1, size - position);
+        rows[position] = row;
+        size++;
+    }
+
+    /**
+     * Removes a row; must be called before the values the order reads are changed.
+     */
+    void remove(int row) {
+        int position = search(row);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(rows, position + 1, rows, position, size - position - 1);
+        size--;
+    }
+
+    void touch(long now) {
+        lastUsed = now;
+    }
+
+    long lastUsed() {
+        return lastUsed;
+    }
+
+    private int search(int row) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = order.compare(rows[mid], row);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Stable merge sort of the first {@code size} rows, as the JDK has no primitive
+     * sort taking a comparator.
+     */
+    private static void sort(int[] rows, int size, RowOrder order) {
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int from = 0; from < size - width; from += 2 * width) {
+                int mid = from + width;
+                int to = Math.min(from + 2 * width, size);
+                if (order.compare(rows[mid - 1], rows[mid]) <= 0) {
+                    continue;
+                }
+                System.arraycopy(rows, from, buffer, from, to - from);
+                int left = from;
+                int right = mid;
+                for (int target = from; target < to; target++) {
+                    if (right >= to || (left < mid && order.compare(buffer[left], buffer[right]) <= 0)) {
+                        rows[target] = buffer[left++];
+                    } else {
+                        rows[target] = buffer[right++];
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.tinubu.insurance.policymanager.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FlushModeType;
+
+/**
+ * Hands out values of the global policy change sequence.
+ * The SQL comes from the Hibernate dialect so the same code runs on H2 and PostgreSQL.
+ */
+@Repository
+public class ChangeSequenceRepository {
+    private final EntityManager entityManager;
+    private final String nextValueQuery;
+    private final String nextValueExpression;
+
+    public ChangeSequenceRepository(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        this.nextValueQuery = dialect.getSequenceSupport()
+                .getSequenceNextValString(PolicyTombstone.CHANGE_SEQUENCE);
+        this.nextValueExpression = dialect.getSequenceSupport()
+                .getSelectSequenceNextValString(PolicyTombstone.CHANGE_SEQUENCE);
+    }
+
+    public long next() {
+        // Native queries auto-flush by default, which would write pending entity changes
+        // early and then again at commit; a sequence read needs no flush
+        return ((Number) entityManager.createNativeQuery(nextValueQuery)
+                .setFlushMode(FlushModeType.COMMIT)
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * SQL expression yielding a fresh sequence value per row, for set-based statements.
+     */
+    public String nextValueExpression() {
+        return nextValueExpression;
+    }
+
+    /**
+     * Gives each of the given policies a fresh sequence value, after a bulk update.
+     */
+    public int stampPolicies(Collection<Long> policyIds) {
+        return entityManager.createNativeQuery(
+                "UPDATE insurance_policies SET change_seq = " + nextValueExpression + " WHERE id IN (:ids)")
+                .setParameter("ids", policyIds)
+                .executeUpdate();
+    }
+
+    /**
+     * Writes a tombstone with its own sequence value for each of the given policies,
+     * ahead of a bulk delete.
+     */
+    public int insertTombstones(Collection<Long> policyIds, Instant deletedAt) {
+        return entityManager.createNativeQuery(
+                "INSERT INTO policy_tombstones (change_seq, policy_id, deleted_at)"
+                        + " SELECT " + nextValueExpression + ", id, :deletedAt FROM insurance_policies WHERE id IN (:ids)")
+                .setParameter("deletedAt", deletedAt)
+                .setParameter("ids", policyIds)
+                .executeUpdate();
+    }
+
+    /**
+     * Stamps policies written before the change sequence existed, so that a mirror
+     * starting from zero still receives them.
+     */
+    @Transactional
+    public int backfillMissing() {
+        return entityManager.createNativeQuery(
+                "UPDATE insurance_policies SET change_seq = " + nextValueExpression + " WHERE change_seq IS NULL")
+                .executeUpdate();
+    }
+}
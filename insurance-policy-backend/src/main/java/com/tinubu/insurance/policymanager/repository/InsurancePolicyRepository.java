@@ -1,9 +1,63 @@
 package com.tinubu.insurance.policymanager.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
-public interface InsurancePolicyRepository extends JpaRepository<InsurancePolicy, Long> {
+public interface InsurancePolicyRepository extends JpaRepository<InsurancePolicy, Long>, PolicyProjectionRepository {
+
+    List<InsurancePolicy> findByChangeSeqGreaterThanOrderByChangeSeqAsc(long since, Limit limit);
+
+    List<InsurancePolicy> findByIdGreaterThanOrderByIdAsc(long afterId, Limit limit);
+
+    Page<InsurancePolicy> findByStatus(PolicyStatus status, Pageable pageable);
+
+    @Query("SELECT MAX(p.changeSeq) FROM InsurancePolicy p")
+    Long findMaxChangeSeq();
+
+    // The given names in the order the database sorts the policy name column by
+    @Query(value = "SELECT n FROM UNNEST(:names) AS t(n) ORDER BY n", nativeQuery = true)
+    List<String> orderNames(@Param("names") String[] names);
+
+    // Overlap with [from, to]: starts on or before "to" and ends on or after "from"
+    List<InsurancePolicy> findByCoverageStartDateLessThanEqualAndCoverageEndDateGreaterThanEqualOrderByCoverageStartDateAscIdAsc(
+            LocalDate to, LocalDate from);
+
+    // Bulk operations: lock one chunk, then change it with a single statement
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<InsurancePolicy> findAllByIdIn(Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM InsurancePolicy p"
+            + " WHERE (:status IS NULL OR p.status = :status)"
+            + " AND (:endBefore IS NULL OR p.coverageEndDate < :endBefore)"
+            + " ORDER BY p.id")
+    List<InsurancePolicy> findForBulkDelete(@Param("status") PolicyStatus status,
+            @Param("endBefore") LocalDate endBefore, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InsurancePolicy p SET p.status = :status, p.updatedAt = :today, p.version = p.version + 1"
+            + " WHERE p.id IN :ids AND p.status <> :status")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("status") PolicyStatus status,
+            @Param("today") LocalDate today);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM InsurancePolicy p WHERE p.id IN :ids")
+    int bulkDelete(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.tinubu.insurance.policymanager.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.tinubu.insurance.policymanager.model.PolicyAuditEntry;
+
+@Repository
+public interface PolicyAuditRepository extends JpaRepository<PolicyAuditEntry, Long> {
+
+    List<PolicyAuditEntry> findByPolicyIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(Long policyId, long after, Limit limit);
+}
@@ -0,0 +1,21 @@
+package com.tinubu.insurance.policymanager.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+
+/**
+ * Reads that select only the requested columns. Each row is returned as a map from
+ * field name to value, in the declaration order of PolicyField.
+ */
+public interface PolicyProjectionRepository {
+
+    List<Map<String, Object>> findAllFields(Set<PolicyField> fields);
+
+    Page<Map<String, Object>> findAllFields(Set<PolicyField> fields, Pageable pageable);
+}
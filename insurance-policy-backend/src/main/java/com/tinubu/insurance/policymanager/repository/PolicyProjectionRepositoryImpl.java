@@ -0,0 +1,85 @@
+package com.tinubu.insurance.policymanager.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria tuple queries behind PolicyProjectionRepository, so the SELECT list only
+ * names the requested columns and no entities enter the persistence context.
+ */
+public class PolicyProjectionRepositoryImpl implements PolicyProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Set<PolicyField> fields) {
+        return toMaps(fields, tupleQuery(fields, Sort.unsorted()).getResultList());
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllFields(Set<PolicyField> fields, Pageable pageable) {
+        TypedQuery<Tuple> query = tupleQuery(fields, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = toMaps(fields, query.getResultList());
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
+    }
+
+    private TypedQuery<Tuple> tupleQuery(Set<PolicyField> fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<InsurancePolicy> root = criteria.from(InsurancePolicy.class);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (PolicyField field : fields) {
+            selections.add(root.get(field.getName()).alias(field.getName()));
+        }
+        criteria.multiselect(selections);
+        if (sort.isSorted()) {
+            criteria.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(criteria);
+    }
+
+    private long count() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = cb.createQuery(Long.class);
+        criteria.select(cb.count(criteria.from(InsurancePolicy.class)));
+        return entityManager.createQuery(criteria).getSingleResult();
+    }
+
+    private static List<Map<String, Object>> toMaps(Set<PolicyField> fields, List<Tuple> tuples) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (PolicyField field : fields) {
+                row.put(field.getName(), tuple.get(field.getName()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,22 @@
+package com.tinubu.insurance.policymanager.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+
+@Repository
+public interface PolicyTombstoneRepository extends JpaRepository<PolicyTombstone, Long> {
+
+    List<PolicyTombstone> findByChangeSeqGreaterThanOrderByChangeSeqAsc(long since, Limit limit);
+
+    List<PolicyTombstone> findByPolicyIdIn(Collection<Long> policyIds);
+
+    @Query("SELECT MAX(t.changeSeq) FROM PolicyTombstone t")
+    Long findMaxChangeSeq();
+}
@@ -0,0 +1,170 @@
+package com.tinubu.insurance.policymanager.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tinubu.insurance.policymanager.config.BulkOperationProperties;
+import com.tinubu.insurance.policymanager.dto.BulkOperationResponse;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.repository.ChangeSequenceRepository;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+/**
+ * Set-based status changes and deletes over many policies.
+ * Work is split into chunks that each run in a short transaction: the chunk's rows
+ * are locked and read with one query, changed with one statement, stamped with change
+ * sequence values in SQL, and reported through the usual PolicyChangedEvents so the
+ * caches, audit history and event stream stay in step.
+ * A request stops between chunks once its time budget is spent and reports how far
+ * it got. With sharding, each chunk is split by owning shard and deletes work through
+ * the shards one after the other.
+ */
+@Service
+@EnableConfigurationProperties(BulkOperationProperties.class)
+public class BulkPolicyService {
+
+    private final InsurancePolicyRepository policyRepository;
+    private final PolicyTombstoneRepository tombstoneRepository;
+    private final ChangeSequenceRepository changeSequence;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final BulkOperationProperties properties;
+    private final ShardRouter shardRouter;
+    private final Clock clock;
+
+    public BulkPolicyService(InsurancePolicyRepository policyRepository, PolicyTombstoneRepository tombstoneRepository,
+            ChangeSequenceRepository changeSequence, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager, BulkOperationProperties properties, ShardRouter shardRouter,
+            Clock clock) {
+        this.policyRepository = policyRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeSequence = changeSequence;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+        this.clock = clock;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setTimeout(Math.max(1, (int) properties.getChunkTimeout().toSeconds()));
+    }
+
+    public BulkOperationResponse updateStatus(List<Long> ids, PolicyStatus status) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.remove(null);
+        if (distinct.isEmpty() || distinct.size() > properties.getMaxIds()) {
+            throw new IllegalArgumentException("Between 1 and " + properties.getMaxIds() + " distinct ids are required");
+        }
+
+        long deadline = System.nanoTime() + properties.getMaxDuration().toNanos();
+        long affected = 0;
+        int chunks = 0;
+        int chunkSize = properties.getChunkSize();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            if (chunks > 0 && System.nanoTime() > deadline) {
+                return result(affected, chunks, false);
+            }
+            List<Long> chunk = distinct.subList(from, Math.min(distinct.size(), from + chunkSize));
+            for (Map.Entry<Integer, List<Long>> owned : shardRouter.groupByShard(chunk).entrySet()) {
+                affected += shardRouter.onShard(owned.getKey(),
+                        () -> chunkTransaction.execute(tx -> updateStatusChunk(owned.getValue(), status)));
+            }
+            chunks++;
+        }
+        return result(affected, chunks, true);
+    }
+
+    public BulkOperationResponse deleteMatching(PolicyStatus status, LocalDate endBefore) {
+        if (status == null && endBefore == null) {
+            throw new IllegalArgumentException("At least one of 'status' or 'endBefore' is required");
+        }
+
+        long deadline = System.nanoTime() + properties.getMaxDuration().toNanos();
+        long affected = 0;
+        int chunks = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            int target = shard;
+            while (true) {
+                if (chunks > 0 && System.nanoTime() > deadline) {
+                    return result(affected, chunks, false);
+                }
+                // Deleted rows no longer match, so every chunk simply takes the first ones left
+                int deleted = shardRouter.onShard(target,
+                        () -> chunkTransaction.execute(tx -> deleteChunk(status, endBefore)));
+                if (deleted == 0) {
+                    break;
+                }
+                affected += deleted;
+                chunks++;
+            }
+        }
+        return result(affected, chunks, true);
+    }
+
+    private int updateStatusChunk(List<Long> ids, PolicyStatus status) {
+        List<InsurancePolicy> before = policyRepository.findAllByIdIn(ids).stream()
+                .filter(policy -> policy.getStatus() != status)
+                .map(policy -> policy.toBuilder().build())
+                .toList();
+        if (before.isEmpty()) {
+            return 0;
+        }
+        List<Long> changedIds = before.stream().map(InsurancePolicy::getId).toList();
+        int updated = policyRepository.bulkUpdateStatus(changedIds, status, LocalDate.now(clock));
+        changeSequence.stampPolicies(changedIds);
+
+        Map<Long, InsurancePolicy> after = byId(policyRepository.findAllById(changedIds), InsurancePolicy::getId);
+        for (InsurancePolicy policy : before) {
+            eventPublisher.publishEvent(PolicyChangedEvent.updated(policy, after.get(policy.getId())));
+        }
+        return updated;
+    }
+
+    private int deleteChunk(PolicyStatus status, LocalDate endBefore) {
+        List<InsurancePolicy> doomed = policyRepository.findForBulkDelete(status, endBefore,
+                Limit.of(properties.getChunkSize()));
+        if (doomed.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = doomed.stream().map(InsurancePolicy::getId).toList();
+        changeSequence.insertTombstones(ids, clock.instant());
+        int deleted = policyRepository.bulkDelete(ids);
+
+        Map<Long, PolicyTombstone> tombstones = byId(tombstoneRepository.findByPolicyIdIn(ids),
+                PolicyTombstone::getPolicyId);
+        for (InsurancePolicy policy : doomed) {
+            eventPublisher.publishEvent(PolicyChangedEvent.deleted(policy,
+                    tombstones.get(policy.getId()).getChangeSeq()));
+        }
+        return deleted;
+    }
+
+    private static <T> Map<Long, T> byId(Collection<T> items, Function<T, Long> id) {
+        return items.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static BulkOperationResponse result(long affected, int chunks, boolean completed) {
+        return BulkOperationResponse.builder()
+                .affected(affected)
+                .chunks(chunks)
+                .completed(completed)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.tinubu.insurance.policymanager.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.config.ChangeFeedProperties;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tells, per shard, up to which change sequence value the feed is settled: no
+ * transaction still holding a lower value can commit any more.
+ * Values are taken inside the writing transaction, so a lower value can commit after
+ * a higher one was served. Every shard's highest committed value is sampled
+ * periodically; whatever was committed when a sample was taken, at least
+ * policy.change-feed.visibility-window ago, was allocated before it, and every lower
+ * value has since committed or rolled back, provided write transactions are shorter
+ * than the window. Until the first sample is that old, nothing is settled.
+ */
+@Component
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedHorizon {
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedHorizon.class);
+
+    private final InsurancePolicyRepository policyRepository;
+    private final PolicyTombstoneRepository tombstoneRepository;
+    private final ShardRouter shardRouter;
+    private final long windowNanos;
+    private final long intervalMillis;
+    private final Deque<Sample> samples = new ArrayDeque<>();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "policy-change-horizon");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long[] horizon;
+
+    public ChangeFeedHorizon(InsurancePolicyRepository policyRepository,
+            PolicyTombstoneRepository tombstoneRepository, ShardRouter shardRouter, ChangeFeedProperties properties) {
+        this.policyRepository = policyRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.shardRouter = shardRouter;
+        this.windowNanos = properties.getVisibilityWindow().toNanos();
+        this.intervalMillis = Math.max(1, properties.getSampleInterval().toMillis());
+        long[] initial = new long[shardRouter.shardCount()];
+        if (windowNanos == 0) {
+            Arrays.fill(initial, Long.MAX_VALUE);
+        }
+        this.horizon = initial;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (windowNanos > 0) {
+            sampler.scheduleWithFixedDelay(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        sampler.shutdownNow();
+    }
+
+    /**
+     * Highest settled change sequence value of each shard, indexed by shard number.
+     */
+    public long[] horizon() {
+        return horizon;
+    }
+
+    private void sample() {
+        try {
+            long[] committed = shardRouter.onEveryShard(shard -> Math.max(
+                    seqOf(policyRepository.findMaxChangeSeq()), seqOf(tombstoneRepository.findMaxChangeSeq())))
+                    .stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            long now = System.nanoTime();
+            samples.addLast(new Sample(now, committed));
+            // Keep the newest sample that is old enough, and everything younger
+            Sample settled = null;
+            while (!samples.isEmpty() && now - samples.peekFirst().takenAt() >= windowNanos) {
+                settled = samples.removeFirst();
+            }
+            if (settled != null) {
+                samples.addFirst(settled);
+                horizon = settled.committed();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not sample the change sequences; the change feed horizon stays at {}",
+                    Arrays.toString(horizon), e);
+        }
+    }
+
+    private static long seqOf(Long changeSeq) {
+        return changeSeq == null ? 0 : changeSeq;
+    }
+
+    private record Sample(long takenAt, long[] committed) {
+    }
+}
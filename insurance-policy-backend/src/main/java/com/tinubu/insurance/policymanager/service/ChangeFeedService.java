@@ -0,0 +1,182 @@
+package com.tinubu.insurance.policymanager.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tinubu.insurance.policymanager.dto.ChangeFeedResponse;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeDTO.Operation;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.repository.ChangeSequenceRepository;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.shard.ShardMerge;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves the delta feed used by downstream mirrors.
+ * Every policy write is stamped with the next value of a change sequence and every
+ * delete leaves a tombstone with its own value, so "everything after seq N" is two
+ * index range scans merged in sequence order.
+ * Sequence values are taken inside the writing transaction, so a change can become
+ * visible after a higher value was served. The cursor therefore only moves up to the
+ * settled horizon (see ChangeFeedHorizon). Changes above it are returned too, after
+ * the settled ones, and come again on the next call: mirrors de-duplicate on
+ * (policyId, seq).
+ * With sharding, every shard has its own sequence stepping by the shard count. Those
+ * advance at different rates, so one position cannot say what a mirror has seen: the
+ * cursor holds one position per shard, e.g. "120,97,31", and each shard is read after
+ * its own position. A single number applies to every shard, which is how a mirror
+ * starts from "0".
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final InsurancePolicyRepository policyRepository;
+    private final PolicyTombstoneRepository tombstoneRepository;
+    private final ChangeSequenceRepository changeSequence;
+    private final ShardRouter shardRouter;
+    private final ChangeFeedHorizon horizon;
+
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChangesSince(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        long[] cursor = parseCursor(since, shardRouter.shardCount());
+        long[] settledUpTo = horizon.horizon();
+
+        // Each shard's run is sorted, so its settled changes are a prefix of it
+        List<List<Change>> settled = new ArrayList<>();
+        List<List<Change>> unsettled = new ArrayList<>();
+        for (List<Change> run : shardRouter.onEveryShard(shard -> changesOnShard(shard, cursor[shard], limit + 1))) {
+            int split = 0;
+            while (split < run.size() && run.get(split).seq() <= settledUpTo[run.get(split).shard()]) {
+                split++;
+            }
+            settled.add(run.subList(0, split));
+            unsettled.add(run.subList(split, run.size()));
+        }
+
+        // One extra row tells us whether more settled changes remain. Unsettled ones
+        // only fill the rest of a last page, so a full page always moves the cursor.
+        List<Change> page = ShardMerge.merge(settled, Comparator.comparingLong(Change::seq), 0, limit + 1);
+        boolean hasMore = page.size() > limit;
+        if (hasMore) {
+            page = page.subList(0, limit);
+        } else {
+            page = new ArrayList<>(page);
+            page.addAll(ShardMerge.merge(unsettled, Comparator.comparingLong(Change::seq), 0, limit - page.size()));
+        }
+
+        long[] next = cursor.clone();
+        List<PolicyChangeDTO> changes = new ArrayList<>(page.size());
+        for (Change change : page) {
+            if (change.seq() <= settledUpTo[change.shard()]) {
+                next[change.shard()] = change.seq();
+            }
+            changes.add(change.toDTO());
+        }
+        return ChangeFeedResponse.builder()
+                .changes(changes)
+                .nextSince(formatCursor(next))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillChangeSequence() {
+        int stamped = shardRouter.onEveryShard(shard -> changeSequence.backfillMissing()).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        if (stamped > 0) {
+            log.info("Stamped {} existing policies with a change sequence", stamped);
+        }
+    }
+
+    /**
+     * Up to {@code max} upserts and deletes on one shard after {@code since}, in sequence order.
+     */
+    private List<Change> changesOnShard(int shard, long since, int max) {
+        List<InsurancePolicy> upserts = policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since,
+                Limit.of(max));
+        List<PolicyTombstone> deletes = tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since,
+                Limit.of(max));
+        List<Change> changes = new ArrayList<>(Math.min(max, upserts.size() + deletes.size()));
+        int u = 0;
+        int d = 0;
+        while (changes.size() < max && (u < upserts.size() || d < deletes.size())) {
+            boolean takeUpsert = d >= deletes.size()
+                    || (u < upserts.size() && upserts.get(u).getChangeSeq() < deletes.get(d).getChangeSeq());
+            changes.add(takeUpsert
+                    ? new Change(shard, upserts.get(u).getChangeSeq(), upserts.get(u++), null)
+                    : new Change(shard, deletes.get(d).getChangeSeq(), null, deletes.get(d++)));
+        }
+        return changes;
+    }
+
+    static long[] parseCursor(String since, int shardCount) {
+        String[] parts = since.split(",", -1);
+        if (parts.length != 1 && parts.length != shardCount) {
+            throw new IllegalArgumentException("since must be one position or one per shard (" + shardCount + ")");
+        }
+        long[] cursor = new long[shardCount];
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                cursor[shard] = Long.parseLong(parts[parts.length == 1 ? 0 : shard].trim());
+                if (cursor[shard] < 0) {
+                    throw new IllegalArgumentException("since positions cannot be negative: " + since);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("since must be a list of change positions, got: " + since);
+        }
+        return cursor;
+    }
+
+    static String formatCursor(long[] cursor) {
+        StringBuilder formatted = new StringBuilder();
+        for (long position : cursor) {
+            if (!formatted.isEmpty()) {
+                formatted.append(',');
+            }
+            formatted.append(position);
+        }
+        return formatted.toString();
+    }
+
+    // A write (policy set) or a delete (tombstone set) read from one shard
+    private record Change(int shard, long seq, InsurancePolicy policy, PolicyTombstone tombstone) {
+        PolicyChangeDTO toDTO() {
+            if (policy != null) {
+                return PolicyChangeDTO.builder()
+                        .seq(seq)
+                        .operation(Operation.UPSERT)
+                        .policyId(policy.getId())
+                        .policy(PolicyMapper.toDTO(policy))
+                        .build();
+            }
+            return PolicyChangeDTO.builder()
+                    .seq(seq)
+                    .operation(Operation.DELETE)
+                    .policyId(tombstone.getPolicyId())
+                    .build();
+        }
+    }
+}
@@ -1,50 +1,226 @@
 package com.tinubu.insurance.policymanager.service;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.validation.annotation.Validated;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.tinubu.insurance.policymanager.cache.PolicyCache;
+import com.tinubu.insurance.policymanager.dto.BatchPolicyResponse;
 import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
 import com.tinubu.insurance.policymanager.dto.PagedResponse;
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.exception.PolicyConflictException;
 import com.tinubu.insurance.policymanager.exception.PolicyNotFoundException;
+import com.tinubu.insurance.policymanager.exception.PolicyPreconditionFailedException;
+import com.tinubu.insurance.policymanager.index.PolicyCoverageIndex;
+import com.tinubu.insurance.policymanager.jfr.OperationTrace;
+import com.tinubu.insurance.policymanager.jfr.PolicyId;
 import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.readmodel.PolicyReadModel;
+import com.tinubu.insurance.policymanager.repository.ChangeSequenceRepository;
 import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.shard.ShardMerge;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
 
-import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-@Validated
 public class InsurancePolicyService {
+    public static final int MAX_BATCH_IDS = 1000;
+    // Keeps IN lists well below driver and planner limits
+    private static final int BATCH_QUERY_CHUNK_SIZE = 500;
+    private static final Sort ID_ORDER = Sort.by("id");
+    private static final Sort COVERAGE_START_ORDER = Sort.by("coverageStartDate", "id");
+    private static final String POLICY_NAME = PolicyField.POLICY_NAME.getName();
+    private static final BiFunction<InsurancePolicy, String, Object> ENTITY_PROPERTY =
+            (policy, property) -> new BeanWrapperImpl(policy).getPropertyValue(property);
+
     private final InsurancePolicyRepository policyRepository;
+    private final ReadCoalescer readCoalescer;
+    private final PolicyCache policyCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequenceRepository changeSequence;
+    private final PolicyTombstoneRepository tombstoneRepository;
+    private final PolicyCoverageIndex coverageIndex;
+    private final PolicyReadModel readModel;
+    private final ShardRouter shardRouter;
+    private final PolicyValidator policyValidator;
+    private final Clock clock;
 
+    /**
+     * Every policy, from the in-memory read model or from the database while it loads.
+     */
     public List<InsurancePolicyDTO> getAllPolicies() {
-        return policyRepository.findAll().stream()
+        Optional<List<InsurancePolicyDTO>> fromReadModel = readModel.findAll();
+        if (fromReadModel.isPresent()) {
+            return fromReadModel.get();
+        }
+        List<InsurancePolicy> policies = shardRouter.isSharded()
+                ? gatherSorted(ID_ORDER, policyRepository::findAll, ENTITY_PROPERTY)
+                : policyRepository.findAll();
+        return policies.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
     
-    public PagedResponse<InsurancePolicyDTO> getPoliciesPaginated(int page, int size, String sortBy, String direction) {
-        Sort sort = direction.equalsIgnoreCase(Sort.Direction.ASC.name()) ?
-                Sort.by(sortBy).ascending() :
-                Sort.by(sortBy).descending();
-                
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<InsurancePolicy> policiesPage = policyRepository.findAll(pageable);
+    /**
+     * Reads a page from the read model, or straight from the database while it loads,
+     * for callers that coalesce concurrent reads themselves.
+     */
+    public PagedResponse<InsurancePolicyDTO> loadPoliciesPage(int page, int size, String sortBy, String direction) {
+        return loadPage(pageRequest(page, size, sortBy, direction), null);
+    }
+
+    /**
+     * A page of the policies with the given status.
+     */
+    public PagedResponse<InsurancePolicyDTO> getPoliciesByStatus(PolicyStatus status, int page, int size,
+            String sortBy, String direction) {
+        return loadPage(pageRequest(page, size, sortBy, direction), status);
+    }
+
+    private PagedResponse<InsurancePolicyDTO> loadPage(Pageable pageable, PolicyStatus status) {
+        Optional<Page<InsurancePolicyDTO>> fromReadModel = readModel.findPage(pageable, status);
+        if (fromReadModel.isPresent()) {
+            return toPagedResponse(fromReadModel.get(), fromReadModel.get().getContent());
+        }
+
+        Function<Pageable, Page<InsurancePolicy>> query = status == null
+                ? policyRepository::findAll
+                : shardPage -> policyRepository.findByStatus(status, shardPage);
+        Page<InsurancePolicy> policiesPage = shardRouter.isSharded()
+                ? gatherPage(pageable, query, ENTITY_PROPERTY)
+                : query.apply(pageable);
         
         List<InsurancePolicyDTO> content = policiesPage.getContent().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
                 
-        return PagedResponse.<InsurancePolicyDTO>builder()
+        return toPagedResponse(policiesPage, content);
+    }
+
+    /**
+     * Same as getAllPolicies, but reads and returns only the selected fields.
+     */
+    public List<Map<String, Object>> getAllPolicies(Set<PolicyField> fields) {
+        Optional<List<Map<String, Object>>> fromReadModel = readModel.findAll(fields);
+        if (fromReadModel.isPresent()) {
+            return fromReadModel.get();
+        }
+        if (!shardRouter.isSharded()) {
+            return policyRepository.findAllFields(fields);
+        }
+        return gatherSorted(ID_ORDER, sort -> policyRepository.findAllFields(fields, Pageable.unpaged(sort)).getContent(),
+                Map::get);
+    }
+
+    /**
+     * Same as loadPoliciesPage, but reads and returns only the selected fields.
+     */
+    public PagedResponse<Map<String, Object>> getPoliciesPaginated(int page, int size, String sortBy, String direction,
+            Set<PolicyField> fields) {
+        Pageable pageable = pageRequest(page, size, sortBy, direction);
+        Optional<Page<Map<String, Object>>> fromReadModel = readModel.findPage(pageable, null, fields);
+        if (fromReadModel.isPresent()) {
+            return toPagedResponse(fromReadModel.get(), fromReadModel.get().getContent());
+        }
+        if (!shardRouter.isSharded()) {
+            Page<Map<String, Object>> policiesPage = policyRepository.findAllFields(fields, pageable);
+            return toPagedResponse(policiesPage, policiesPage.getContent());
+        }
+
+        // The merge compares rows on the sort key, so it is read even when not requested
+        Set<PolicyField> selected = EnumSet.copyOf(fields);
+        selected.addAll(PolicyField.parse(sortBy));
+        Page<Map<String, Object>> policiesPage = gatherPage(pageable,
+                shardPage -> policyRepository.findAllFields(selected, shardPage), Map::get);
+        if (selected.size() > fields.size()) {
+            Set<String> names = fields.stream().map(PolicyField::getName).collect(Collectors.toSet());
+            policiesPage.getContent().forEach(row -> row.keySet().retainAll(names));
+        }
+        return toPagedResponse(policiesPage, policiesPage.getContent());
+    }
+
+    /**
+     * Scatter-gather read of one page: every shard returns its first offset + size rows
+     * in the requested order (made total by the id) and a k-way merge picks the page.
+     * Deep pages therefore cost more than on a single database.
+     */
+    private <T> Page<T> gatherPage(Pageable pageable, Function<Pageable, Page<T>> query,
+            BiFunction<T, String, Object> property) {
+        Sort sort = ShardMerge.withIdTieBreak(pageable.getSort());
+        Pageable shardPage = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), sort);
+        List<Page<T>> shardPages = shardRouter.onEveryShard(shard -> query.apply(shardPage));
+        List<List<T>> runs = shardPages.stream().map(Page::getContent).toList();
+        List<T> content = ShardMerge.merge(runs, ShardMerge.comparator(sort, mergeProperty(sort, runs, property)),
+                pageable.getOffset(), pageable.getPageSize());
+        long total = shardPages.stream().mapToLong(Page::getTotalElements).sum();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Reads {@code property} for the merge, with policy names replaced by their rank in
+     * the database's order. Each shard sorts names by the column collation, which Java
+     * cannot reproduce, so the first shard orders the names found on all of them.
+     */
+    private <T> BiFunction<T, String, Object> mergeProperty(Sort sort, List<List<T>> runs,
+            BiFunction<T, String, Object> property) {
+        if (sort.getOrderFor(POLICY_NAME) == null) {
+            return property;
+        }
+        Set<String> names = new HashSet<>();
+        runs.forEach(run -> run.forEach(row -> names.add((String) property.apply(row, POLICY_NAME))));
+        if (names.isEmpty()) {
+            return property;
+        }
+        List<String> ordered = shardRouter.onShard(0, () -> policyRepository.orderNames(names.toArray(String[]::new)));
+        Map<String, Integer> ranks = new HashMap<>();
+        for (String name : ordered) {
+            ranks.putIfAbsent(name, ranks.size());
+        }
+        return (row, name) -> POLICY_NAME.equals(name) ? ranks.get(property.apply(row, name)) : property.apply(row, name);
+    }
+
+    private <T> List<T> gatherSorted(Sort sort, Function<Sort, List<T>> query, BiFunction<T, String, Object> property) {
+        List<List<T>> shardRows = shardRouter.onEveryShard(shard -> query.apply(sort));
+        return ShardMerge.merge(shardRows, ShardMerge.comparator(sort, property), 0, Integer.MAX_VALUE);
+    }
+
+    private static Pageable pageRequest(int page, int size, String sortBy, String direction) {
+        Sort sort = direction.equalsIgnoreCase(Sort.Direction.ASC.name()) ?
+                Sort.by(sortBy).ascending() :
+                Sort.by(sortBy).descending();
+        return PageRequest.of(page, size, sort);
+    }
+
+    private static <T> PagedResponse<T> toPagedResponse(Page<?> policiesPage, List<T> content) {
+        return PagedResponse.<T>builder()
                 .content(content)
                 .page(policiesPage.getNumber())
                 .size(policiesPage.getSize())
@@ -54,60 +230,201 @@ public class InsurancePolicyService {
                 .build();
     }
 
-    public InsurancePolicyDTO getPolicyById(Long id) {
-        InsurancePolicy policy = policyRepository.findById(id)
-                .orElseThrow(() -> new PolicyNotFoundException("Policy not found with id: " + id));
-        return convertToDTO(policy);
+    public InsurancePolicyDTO getPolicyById(@PolicyId Long id) {
+        InsurancePolicyDTO policy = findPolicyById(id);
+        if (policy == null) {
+            throw new PolicyNotFoundException(id);
+        }
+        return policy;
+    }
+
+    /**
+     * Same lookup as getPolicyById, but a missing policy comes back as null instead of an
+     * exception, so callers expecting misses do not pay for throwing one.
+     */
+    public InsurancePolicyDTO findPolicyById(@PolicyId Long id) {
+        InsurancePolicyDTO cached = policyCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return readCoalescer.policyById(id, () -> loadPolicyById(id));
     }
 
-    public InsurancePolicyDTO createPolicy(@Valid InsurancePolicyDTO policyDTO) {
+    /**
+     * Looks up many policies at once: cached ones are served from PolicyCache and the
+     * rest are read with one IN query per chunk of ids. Duplicate ids are collapsed.
+     */
+    public BatchPolicyResponse getPoliciesByIds(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.isEmpty() || requested.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BATCH_IDS + " distinct ids are required");
+        }
+
+        Map<Long, InsurancePolicyDTO> found = new HashMap<>(requested.size() * 2);
+        List<Long> uncached = new ArrayList<>();
+        for (Long id : requested) {
+            InsurancePolicyDTO cached = policyCache.get(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                uncached.add(id);
+            }
+        }
+
+        long loadToken = policyCache.startLoad();
+        for (InsurancePolicy policy : shardRouter.onOwningShards(uncached, this::findAllByIdInChunks)) {
+            InsurancePolicyDTO policyDTO = convertToDTO(policy);
+            policyCache.put(loadToken, policyDTO);
+            found.put(policy.getId(), policyDTO);
+        }
+
+        List<InsurancePolicyDTO> policies = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            InsurancePolicyDTO policyDTO = found.get(id);
+            if (policyDTO != null) {
+                policies.add(policyDTO);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return BatchPolicyResponse.builder()
+                .policies(policies)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private List<InsurancePolicy> findAllByIdInChunks(List<Long> ids) {
+        List<InsurancePolicy> policies = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BATCH_QUERY_CHUNK_SIZE) {
+            policies.addAll(policyRepository.findAllById(ids.subList(from, Math.min(ids.size(), from + BATCH_QUERY_CHUNK_SIZE))));
+        }
+        return policies;
+    }
+
+    private InsurancePolicyDTO loadPolicyById(Long id) {
+        long loadToken = policyCache.startLoad();
+        InsurancePolicy policy = shardRouter.onShard(shardRouter.shardOf(id), () -> policyRepository.findById(id))
+                .orElse(null);
+        if (policy == null) {
+            return null;
+        }
+        InsurancePolicyDTO policyDTO = convertToDTO(policy);
+        policyCache.put(loadToken, policyDTO);
+        return policyDTO;
+    }
+
+    /**
+     * Policies whose coverage period shares at least one day with [from, to].
+     * Served from the in-memory coverage index, or from the database while it loads.
+     */
+    public List<InsurancePolicyDTO> getPoliciesInForce(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        return coverageIndex.overlapping(from, to)
+                .orElseGet(() -> gatherSorted(COVERAGE_START_ORDER, sort -> policyRepository
+                        .findByCoverageStartDateLessThanEqualAndCoverageEndDateGreaterThanEqualOrderByCoverageStartDateAscIdAsc(to, from),
+                        ENTITY_PROPERTY)
+                        .stream()
+                        .map(this::convertToDTO)
+                        .collect(Collectors.toList()));
+    }
+
+    @Transactional
+    public InsurancePolicyDTO createPolicy(InsurancePolicyDTO policyDTO) {
+        policyValidator.validate(policyDTO);
+        // The shard's identity column hands out an id that routes back to it
+        return shardRouter.onShard(shardRouter.shardForNewPolicy(), () -> insertPolicy(policyDTO));
+    }
+
+    /**
+     * Creates several policies in one transaction on one shard, for PolicyCreateBatcher.
+     * Either all of them are created or none; results are in the order given.
+     * The policies are not validated again: the batcher did that on the request thread.
+     */
+    @Transactional
+    public List<InsurancePolicyDTO> createPolicies(List<InsurancePolicyDTO> policyDTOs) {
+        return shardRouter.onShard(shardRouter.shardForNewPolicy(), () -> policyDTOs.stream()
+                .map(this::insertPolicy)
+                .collect(Collectors.toList()));
+    }
+
+    private InsurancePolicyDTO insertPolicy(InsurancePolicyDTO policyDTO) {
         InsurancePolicy policy = convertToEntity(policyDTO);
-        policy.setCreatedAt(LocalDate.now());
-        policy.setUpdatedAt(LocalDate.now());
+        LocalDate today = LocalDate.now(clock);
+        policy.setCreatedAt(today);
+        policy.setUpdatedAt(today);
+        policy.setChangeSeq(changeSequence.next());
         InsurancePolicy savedPolicy = policyRepository.save(policy);
+        eventPublisher.publishEvent(PolicyChangedEvent.created(savedPolicy));
         return convertToDTO(savedPolicy);
     }
 
-    public InsurancePolicyDTO updatePolicy(Long id, @Valid InsurancePolicyDTO policyDTO) {
+    @Transactional
+    public InsurancePolicyDTO updatePolicy(@PolicyId Long id, InsurancePolicyDTO policyDTO) {
+        return updatePolicy(id, policyDTO, null);
+    }
+
+    /**
+     * Updates a policy without taking any lock. The version from an If-Match header,
+     * or failing that from the DTO, must match the stored one; a concurrent update
+     * that commits first is caught by the version check in the UPDATE statement.
+     */
+    @Transactional
+    public InsurancePolicyDTO updatePolicy(@PolicyId Long id, InsurancePolicyDTO policyDTO, Long ifMatchVersion) {
+        policyValidator.validate(policyDTO);
+        return shardRouter.onShard(shardRouter.shardOf(id), () -> applyUpdate(id, policyDTO, ifMatchVersion));
+    }
+
+    private InsurancePolicyDTO applyUpdate(Long id, InsurancePolicyDTO policyDTO, Long ifMatchVersion) {
         InsurancePolicy existingPolicy = policyRepository.findById(id)
-                .orElseThrow(() -> new PolicyNotFoundException("Policy not found with id: " + id));
+                .orElseThrow(() -> new PolicyNotFoundException(id));
+        if (ifMatchVersion != null && !ifMatchVersion.equals(existingPolicy.getVersion())) {
+            throw new PolicyPreconditionFailedException("Policy " + id + " is at version "
+                    + existingPolicy.getVersion() + ", not " + ifMatchVersion);
+        }
+        if (policyDTO.getVersion() != null && !policyDTO.getVersion().equals(existingPolicy.getVersion())) {
+            throw new PolicyConflictException("Policy " + id + " was modified concurrently, current version is "
+                    + existingPolicy.getVersion());
+        }
+        InsurancePolicy before = existingPolicy.toBuilder().build();
 
         // Manual mapping of fields
         existingPolicy.setPolicyName(policyDTO.getPolicyName());
         existingPolicy.setStatus(policyDTO.getStatus());
         existingPolicy.setCoverageStartDate(policyDTO.getCoverageStartDate());
         existingPolicy.setCoverageEndDate(policyDTO.getCoverageEndDate());
-        existingPolicy.setUpdatedAt(LocalDate.now());
+        existingPolicy.setUpdatedAt(LocalDate.now(clock));
+        existingPolicy.setChangeSeq(changeSequence.next());
 
-        InsurancePolicy updatedPolicy = policyRepository.save(existingPolicy);
+        // Flush so the version check runs now and the returned DTO carries the new version
+        InsurancePolicy updatedPolicy = policyRepository.saveAndFlush(existingPolicy);
+        eventPublisher.publishEvent(PolicyChangedEvent.updated(before, updatedPolicy));
         return convertToDTO(updatedPolicy);
     }
 
-    public void deletePolicy(Long id) {
-        if (!policyRepository.existsById(id)) {
-            throw new PolicyNotFoundException("Policy not found with id: " + id);
-        }
-        policyRepository.deleteById(id);
+    @Transactional
+    public void deletePolicy(@PolicyId Long id) {
+        shardRouter.onShard(shardRouter.shardOf(id), () -> {
+            InsurancePolicy existingPolicy = policyRepository.findById(id)
+                    .orElseThrow(() -> new PolicyNotFoundException(id));
+            policyRepository.delete(existingPolicy);
+            PolicyTombstone tombstone = tombstoneRepository.save(PolicyTombstone.builder()
+                    .policyId(id)
+                    .deletedAt(clock.instant())
+                    .build());
+            eventPublisher.publishEvent(PolicyChangedEvent.deleted(existingPolicy, tombstone.getChangeSeq()));
+            return null;
+        });
     }
 
     private InsurancePolicyDTO convertToDTO(InsurancePolicy policy) {
-        return InsurancePolicyDTO.builder()
-                .id(policy.getId())
-                .policyName(policy.getPolicyName())
-                .status(policy.getStatus())
-                .coverageStartDate(policy.getCoverageStartDate())
-                .coverageEndDate(policy.getCoverageEndDate())
-                .createdAt(policy.getCreatedAt())
-                .updatedAt(policy.getUpdatedAt())
-                .build();
+        return OperationTrace.mapping(() -> PolicyMapper.toDTO(policy));
     }
 
     private InsurancePolicy convertToEntity(InsurancePolicyDTO policyDTO) {
-        return InsurancePolicy.builder()
-                .policyName(policyDTO.getPolicyName())
-                .status(policyDTO.getStatus())
-                .coverageStartDate(policyDTO.getCoverageStartDate())
-                .coverageEndDate(policyDTO.getCoverageEndDate())
-                .build();
+        return OperationTrace.mapping(() -> PolicyMapper.toEntity(policyDTO));
     }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.tinubu.insurance.policymanager.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.config.GroupCommitProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Group commit for policy creates. With policy.group-commit.enabled, concurrent
+ * creates are queued and committer threads insert them together: the first one
+ * waits up to the window for others, up to max-batch-size, and the batch is written
+ * in one transaction with one commit and one connection checkout. Each caller blocks
+ * until its own policy is committed.
+ * Validation runs once, on the caller's thread before queueing, so an invalid policy
+ * is rejected on its own. If a batch still fails in the database, its policies are
+ * retried one transaction each, so only the failing one reports the error.
+ * When disabled, creates go straight to InsurancePolicyService.
+ */
+@Component
+@EnableConfigurationProperties(GroupCommitProperties.class)
+public class PolicyCreateBatcher {
+    private static final Logger log = LoggerFactory.getLogger(PolicyCreateBatcher.class);
+
+    private final InsurancePolicyService policyService;
+    private final PolicyValidator policyValidator;
+    private final GroupCommitProperties properties;
+    private final BlockingQueue<PendingCreate> queue;
+    private final List<Thread> committers = new ArrayList<>();
+    private final DistributionSummary batchSizes;
+    private final Counter retriedBatches;
+    private volatile boolean running;
+
+    public PolicyCreateBatcher(InsurancePolicyService policyService, PolicyValidator policyValidator,
+            GroupCommitProperties properties, MeterRegistry meterRegistry) {
+        this.policyService = policyService;
+        this.policyValidator = policyValidator;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.batchSizes = DistributionSummary.builder("policy.create.batch.size")
+                .description("Policies committed per group-commit transaction")
+                .register(meterRegistry);
+        this.retriedBatches = Counter.builder("policy.create.batch.retried")
+                .description("Group-commit batches that failed and were retried one policy at a time")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 1; i <= Math.max(1, properties.getCommitters()); i++) {
+            Thread committer = new Thread(this::commitLoop, "policy-group-commit-" + i);
+            committer.setDaemon(true);
+            committer.start();
+            committers.add(committer);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        committers.forEach(Thread::interrupt);
+        for (Thread committer : committers) {
+            try {
+                committer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        PendingCreate pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(
+                    new ServiceOverloadedException("Shutting down, create not committed", properties.getWindow()));
+        }
+    }
+
+    public InsurancePolicyDTO create(InsurancePolicyDTO policyDTO) {
+        if (!running) {
+            return policyService.createPolicy(policyDTO);
+        }
+        policyValidator.validate(policyDTO);
+        PendingCreate pending = new PendingCreate(policyDTO, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return createAlone(policyDTO);
+        }
+        // stop() may have drained the queue between the check above and the offer;
+        // whoever removes the create from the queue is responsible for completing it
+        if (!running && queue.remove(pending)) {
+            return createAlone(policyDTO);
+        }
+        try {
+            return pending.result().get(properties.getCommitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // The create may still be committed by its batch
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the policy to be committed", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("The policy was not committed within "
+                    + properties.getCommitTimeout() + "; it may still be", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Creating the policy failed", e.getCause());
+        }
+    }
+
+    // Already validated, so this skips the validation of InsurancePolicyService.createPolicy
+    private InsurancePolicyDTO createAlone(InsurancePolicyDTO policyDTO) {
+        return policyService.createPolicies(List.of(policyDTO)).get(0);
+    }
+
+    private void commitLoop() {
+        List<PendingCreate> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + properties.getWindow().toNanos();
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    PendingCreate next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: still commit what was already collected
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingCreate> batch) {
+        batchSizes.record(batch.size());
+        List<InsurancePolicyDTO> created;
+        try {
+            created = policyService.createPolicies(batch.stream().map(PendingCreate::policy).toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit of {} policies failed, retrying them one by one", batch.size(), e);
+            retriedBatches.increment();
+            for (PendingCreate pending : batch) {
+                try {
+                    pending.result().complete(createAlone(pending.policy()));
+                } catch (RuntimeException failure) {
+                    pending.result().completeExceptionally(failure);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(created.get(i));
+        }
+    }
+
+    private record PendingCreate(InsurancePolicyDTO policy, CompletableFuture<InsurancePolicyDTO> result) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.tinubu.insurance.policymanager.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.dto.FieldChange;
+import com.tinubu.insurance.policymanager.dto.PolicyAuditEntryDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyHistoryResponse;
+import com.tinubu.insurance.policymanager.jfr.PolicyId;
+import com.tinubu.insurance.policymanager.model.PolicyAuditEntry;
+import com.tinubu.insurance.policymanager.repository.PolicyAuditRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads the audit history of a policy, oldest change first, keyed by change sequence.
+ * History is written asynchronously, so a change usually shows up a moment after the
+ * write that made it. Deleted policies keep their history.
+ */
+@Service
+@RequiredArgsConstructor
+public class PolicyHistoryService {
+
+    public static final int MAX_LIMIT = 500;
+
+    private static final TypeReference<List<FieldChange>> CHANGES_TYPE = new TypeReference<>() {
+    };
+
+    private final PolicyAuditRepository auditRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public PolicyHistoryResponse getHistory(@PolicyId Long policyId, long after, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<PolicyAuditEntry> rows = auditRepository
+                .findByPolicyIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(policyId, after, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<PolicyAuditEntryDTO> entries = rows.stream().limit(limit).map(this::toDTO).toList();
+        long nextAfter = entries.isEmpty() ? after : entries.get(entries.size() - 1).getChangeSeq();
+        return PolicyHistoryResponse.builder()
+                .entries(entries)
+                .nextAfter(nextAfter)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private PolicyAuditEntryDTO toDTO(PolicyAuditEntry entry) {
+        try {
+            return PolicyAuditEntryDTO.builder()
+                    .id(entry.getId())
+                    .policyId(entry.getPolicyId())
+                    .changeSeq(entry.getChangeSeq())
+                    .changeType(entry.getChangeType())
+                    .changedAt(entry.getChangedAt())
+                    .changes(objectMapper.readValue(entry.getChanges(), CHANGES_TYPE))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt audit entry " + entry.getId(), e);
+        }
+    }
+}
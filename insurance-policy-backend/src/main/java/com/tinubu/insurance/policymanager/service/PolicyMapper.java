@@ -0,0 +1,36 @@
+package com.tinubu.insurance.policymanager.service;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+
+/**
+ * Mapping between the InsurancePolicy entity and its DTO, shared by the service and
+ * the components that publish policy data outside of a request.
+ */
+public final class PolicyMapper {
+
+    private PolicyMapper() {
+    }
+
+    public static InsurancePolicyDTO toDTO(InsurancePolicy policy) {
+        return InsurancePolicyDTO.builder()
+                .id(policy.getId())
+                .policyName(policy.getPolicyName())
+                .status(policy.getStatus())
+                .coverageStartDate(policy.getCoverageStartDate())
+                .coverageEndDate(policy.getCoverageEndDate())
+                .createdAt(policy.getCreatedAt())
+                .updatedAt(policy.getUpdatedAt())
+                .version(policy.getVersion())
+                .build();
+    }
+
+    public static InsurancePolicy toEntity(InsurancePolicyDTO policyDTO) {
+        return InsurancePolicy.builder()
+                .policyName(policyDTO.getPolicyName())
+                .status(policyDTO.getStatus())
+                .coverageStartDate(policyDTO.getCoverageStartDate())
+                .coverageEndDate(policyDTO.getCoverageEndDate())
+                .build();
+    }
+}
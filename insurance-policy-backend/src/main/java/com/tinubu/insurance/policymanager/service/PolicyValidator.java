@@ -0,0 +1,61 @@
+package com.tinubu.insurance.policymanager.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.exception.PolicyValidationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The single validation pass for policy writes, run by the service before anything
+ * is read or written. It stands in for Bean Validation on the request body, on the
+ * service method and on the entity: the rules are plain field checks plus one date
+ * comparison against the injected clock, with the same messages as before.
+ */
+@Component
+@RequiredArgsConstructor
+public class PolicyValidator {
+    private final Clock clock;
+
+    /**
+     * Missing fields are reported together as a PolicyValidationException; date rules
+     * are only checked once all fields are present and fail with IllegalArgumentException.
+     */
+    public void validate(InsurancePolicyDTO policy) {
+        Map<String, String> errors = null;
+        if (policy.getPolicyName() == null || policy.getPolicyName().isBlank()) {
+            errors = addError(errors, "policyName", "Policy name is required");
+        }
+        if (policy.getStatus() == null) {
+            errors = addError(errors, "status", "Status is required");
+        }
+        if (policy.getCoverageStartDate() == null) {
+            errors = addError(errors, "coverageStartDate", "Coverage start date is required");
+        }
+        if (policy.getCoverageEndDate() == null) {
+            errors = addError(errors, "coverageEndDate", "Coverage end date is required");
+        }
+        if (errors != null) {
+            throw new PolicyValidationException(errors);
+        }
+
+        if (policy.getCoverageStartDate().isBefore(LocalDate.now(clock))) {
+            throw new IllegalArgumentException("Coverage start date cannot be in the past");
+        }
+        if (policy.getCoverageEndDate().isBefore(policy.getCoverageStartDate())) {
+            throw new IllegalArgumentException("Coverage end date must be after start date");
+        }
+    }
+
+    private static Map<String, String> addError(Map<String, String> errors, String field, String message) {
+        Map<String, String> result = errors == null ? new LinkedHashMap<>() : errors;
+        result.put(field, message);
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tinubu.insurance.policymanager.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Shares in-flight database reads between identical concurrent requests, so a burst of
+ * users refreshing the same policy costs a single query. List pages are shared the
+ * same way by PageResponseCache.
+ */
+@Component
+public class ReadCoalescer {
+    private final SingleFlight<Long, InsurancePolicyDTO> policiesById;
+
+    public ReadCoalescer(MeterRegistry meterRegistry) {
+        this.policiesById = new SingleFlight<>("getPolicyById", meterRegistry);
+    }
+
+    public InsurancePolicyDTO policyById(Long id, Supplier<InsurancePolicyDTO> loader) {
+        return policiesById.execute(id, loader);
+    }
+}
@@ -0,0 +1,33 @@
+package com.tinubu.insurance.policymanager.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread talks to. ShardRoutingDataSource reads it when a
+ * transaction first touches the database, so it has to be set before the first
+ * statement and stays fixed for the rest of that transaction.
+ */
+final class ShardContext {
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.tinubu.insurance.policymanager.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Combines per-shard query results that are each sorted the same way.
+ */
+public final class ShardMerge {
+
+    private ShardMerge() {
+    }
+
+    /**
+     * K-way merge of sorted runs: skips the first {@code skip} elements of the combined
+     * order and returns at most {@code limit} of the following ones.
+     */
+    public static <T> List<T> merge(List<? extends List<T>> runs, Comparator<? super T> order, long skip, int limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> order.compare(a.current(), b.current()));
+        long available = 0;
+        for (List<T> run : runs) {
+            if (!run.isEmpty()) {
+                heads.add(new Cursor<>(run));
+                available += run.size();
+            }
+        }
+        List<T> merged = new ArrayList<>((int) Math.max(0, Math.min(limit, available - skip)));
+        long skipped = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Cursor<T> head = heads.poll();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(head.current());
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The sort with the id appended as a final key, so rows with equal sort values come
+     * out in the same order whichever shard they are on.
+     */
+    public static Sort withIdTieBreak(Sort sort) {
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+    }
+
+    /**
+     * Orders elements the way the database orders rows for the given sort, reading each
+     * sort property through {@code property}. Nulls sort low as on H2; the sortable
+     * policy attributes are never null. Values compare by their natural order, so text
+     * that the database sorts by a collation must be read as its rank in that order.
+     */
+    public static <T> Comparator<T> comparator(Sort sort, BiFunction<T, String, Object> property) {
+        Comparator<T> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            String name = order.getProperty();
+            Comparator<T> byProperty = Comparator.comparing(element -> comparable(property.apply(element, name)),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+
+    private static final class Cursor<T> {
+        private final List<T> run;
+        private int position;
+
+        private Cursor(List<T> run) {
+            this.run = run;
+        }
+
+        T current() {
+            return run.get(position);
+        }
+
+        boolean advance() {
+            return ++position < run.size();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.tinubu.insurance.policymanager.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.config.ShardingProperties;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Decides which shard a policy lives on and runs work there.
+ * A policy id is congruent to its shard number modulo the shard count (see
+ * ShardSchemaInitializer), so single-policy operations go straight to the owner and
+ * only list queries have to ask every shard.
+ * With sharding disabled there is one shard and everything runs inline on the
+ * calling thread, inside the caller's transaction.
+ */
+@Component
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardRouter {
+    private final int shardCount;
+    private final ExecutorService scatterExecutor;
+    private final AtomicInteger nextInsertShard = new AtomicInteger();
+
+    public ShardRouter(ShardingProperties properties) {
+        this.shardCount = properties.isEnabled() ? properties.getShards().size() : 1;
+        if (shardCount < 1) {
+            throw new IllegalStateException("policy.sharding.enabled requires at least one entry in policy.sharding.shards");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.scatterExecutor = shardCount == 1 ? null : Executors.newFixedThreadPool(properties.getScatterThreads(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "policy-shard-scatter-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int shardOf(long policyId) {
+        return (int) Math.floorMod(policyId, (long) shardCount);
+    }
+
+    /**
+     * Shard for the next created policy. Round-robin keeps the shards evenly filled.
+     */
+    public int shardForNewPolicy() {
+        return Math.floorMod(nextInsertShard.getAndIncrement(), shardCount);
+    }
+
+    /**
+     * Runs the action against one shard. Inside a transaction this must happen before
+     * its first statement, since the connection is bound to a shard from then on.
+     */
+    public <T> T onShard(int shard, Supplier<T> action) {
+        return ShardContext.callOn(shard, action);
+    }
+
+    /**
+     * Runs the action once per shard, in parallel, and returns the results by shard
+     * number. Each part runs on a worker thread outside the caller's transaction.
+     */
+    public <T> List<T> onEveryShard(IntFunction<T> action) {
+        if (shardCount == 1) {
+            return List.of(action.apply(0));
+        }
+        List<Future<T>> parts = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            parts.add(scatterExecutor.submit(() -> ShardContext.callOn(target, () -> action.apply(target))));
+        }
+        return gather(parts);
+    }
+
+    /**
+     * Looks policies up on the shards owning them, one call per shard involved, and
+     * concatenates the results.
+     */
+    public <T> List<T> onOwningShards(Collection<Long> policyIds, Function<List<Long>, List<T>> lookup) {
+        if (shardCount == 1) {
+            return lookup.apply(List.copyOf(policyIds));
+        }
+        List<Future<List<T>>> parts = new ArrayList<>(shardCount);
+        for (Map.Entry<Integer, List<Long>> owned : groupByShard(policyIds).entrySet()) {
+            parts.add(scatterExecutor.submit(() -> ShardContext.callOn(owned.getKey(),
+                    () -> lookup.apply(owned.getValue()))));
+        }
+        List<T> results = new ArrayList<>(policyIds.size());
+        gather(parts).forEach(results::addAll);
+        return results;
+    }
+
+    public Map<Integer, List<Long>> groupByShard(Collection<Long> policyIds) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Long id : policyIds) {
+            byShard.computeIfAbsent(shardOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        return byShard;
+    }
+
+    private static <T> List<T> gather(List<Future<T>> parts) {
+        List<T> results = new ArrayList<>(parts.size());
+        try {
+            for (Future<T> part : parts) {
+                results.add(part.get());
+            }
+        } catch (InterruptedException e) {
+            parts.forEach(part -> part.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the shards", e);
+        } catch (ExecutionException e) {
+            parts.forEach(part -> part.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("A shard query failed", e.getCause());
+        }
+        return results;
+    }
+}
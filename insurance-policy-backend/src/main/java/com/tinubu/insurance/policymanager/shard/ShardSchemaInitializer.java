@@ -0,0 +1,109 @@
+package com.tinubu.insurance.policymanager.shard;
+
+import javax.sql.DataSource;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+
+/**
+ * Prepares every shard once the EntityManagerFactory is built.
+ * Hibernate only manages the schema of the default shard, so the same schema action
+ * (spring.jpa.hibernate.ddl-auto) is replayed on the others. Each shard's policy id
+ * identity and change sequence are then set to step by the shard count from a value
+ * congruent to the shard number: ids stay unique across shards and tell which shard
+ * owns a policy, and change sequence values stay unique for the merged change feed.
+ * The shards' sequences advance independently, which is why the change feed keeps one
+ * cursor position per shard.
+ */
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private final DataSource dataSource;
+    private final int shardCount;
+
+    private Metadata metadata;
+    private SessionFactoryImplementor sessionFactory;
+
+    public ShardSchemaInitializer(DataSource dataSource, int shardCount) {
+        this.dataSource = dataSource;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+            SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate did not register the shard schema initializer");
+        }
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            ShardContext.callOn(target, () -> {
+                if (target > 0) {
+                    SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(),
+                            sessionFactory.getProperties(), action -> {
+                            });
+                }
+                alignIdentity(jdbc, target);
+                alignChangeSequence(jdbc, target);
+                return null;
+            });
+        }
+        log.info("Policies are sharded over {} databases", shardCount);
+    }
+
+    private void alignIdentity(JdbcTemplate jdbc, int shard) {
+        String increment = jdbc.queryForObject("SELECT identity_increment FROM information_schema.columns"
+                + " WHERE table_schema = CURRENT_SCHEMA AND LOWER(table_name) = 'insurance_policies'"
+                + " AND LOWER(column_name) = 'id'", String.class);
+        if (String.valueOf(shardCount).equals(increment)) {
+            return;
+        }
+        long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM insurance_policies", Long.class);
+        jdbc.execute("ALTER TABLE insurance_policies ALTER COLUMN id RESTART WITH "
+                + firstOwnedAfter(maxId, shard, shardCount));
+        jdbc.execute("ALTER TABLE insurance_policies ALTER COLUMN id SET INCREMENT BY " + shardCount);
+    }
+
+    private void alignChangeSequence(JdbcTemplate jdbc, int shard) {
+        String increment = jdbc.queryForObject("SELECT increment FROM information_schema.sequences"
+                + " WHERE sequence_schema = CURRENT_SCHEMA AND LOWER(sequence_name) = ?", String.class,
+                PolicyTombstone.CHANGE_SEQUENCE);
+        if (String.valueOf(shardCount).equals(increment)) {
+            return;
+        }
+        long maxSeq = Math.max(
+                jdbc.queryForObject("SELECT COALESCE(MAX(change_seq), 0) FROM insurance_policies", Long.class),
+                jdbc.queryForObject("SELECT COALESCE(MAX(change_seq), 0) FROM policy_tombstones", Long.class));
+        jdbc.execute("ALTER SEQUENCE " + PolicyTombstone.CHANGE_SEQUENCE + " RESTART WITH "
+                + firstOwnedAfter(maxSeq, shard, shardCount) + " INCREMENT BY " + shardCount);
+    }
+
+    /**
+     * Smallest value above {@code max} that is congruent to the shard number.
+     */
+    static long firstOwnedAfter(long max, int shard, int shardCount) {
+        long candidate = max + 1;
+        return candidate + Math.floorMod(shard - candidate, shardCount);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tinubu.insurance.policymanager.snapshot;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+
+/**
+ * Policies held in memory at one point in time, with for each shard the highest change
+ * sequence they reflect, so a restarted node only reads the changes made after it.
+ */
+public record PolicySnapshot(Instant createdAt, long[] watermarks, List<Entry> entries) {
+
+    public int shardCount() {
+        return watermarks.length;
+    }
+
+    public record Entry(long changeSeq, InsurancePolicyDTO policy) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.tinubu.insurance.policymanager.snapshot;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+/**
+ * Binary encoding of a PolicySnapshot, written and read through a memory-mapped file.
+ * <p>
+ * Layout, big-endian: magic "PSNP", format version, creation time in epoch millis,
+ * shard count and one watermark per shard, the status names in use followed by the
+ * entries, and a CRC32 of everything before it. Each entry is id, change sequence,
+ * version, coverage start and end, created and updated (dates as epoch days), a status
+ * index and the UTF-8 policy name prefixed by its length. Statuses are stored by name
+ * once in the header, so reordering PolicyStatus does not corrupt existing files.
+ */
+public final class PolicySnapshotFile {
+    static final int MAGIC = 0x50534E50;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int FIXED_ENTRY_BYTES = 3 * Long.BYTES + 4 * Integer.BYTES + 1 + Integer.BYTES;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+
+    private PolicySnapshotFile() {
+    }
+
+    public static void write(Path file, PolicySnapshot snapshot) throws IOException {
+        PolicyStatus[] statuses = PolicyStatus.values();
+        byte[][] statusNames = new byte[statuses.length][];
+        long size = 2 * Integer.BYTES + Long.BYTES + Integer.BYTES + (long) snapshot.shardCount() * Long.BYTES
+                + Integer.BYTES;
+        for (PolicyStatus status : statuses) {
+            statusNames[status.ordinal()] = status.name().getBytes(UTF_8);
+            size += Short.BYTES + statusNames[status.ordinal()].length;
+        }
+        List<PolicySnapshot.Entry> entries = snapshot.entries();
+        byte[][] names = new byte[entries.size()][];
+        size += Integer.BYTES;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = entries.get(i).policy().getPolicyName().getBytes(UTF_8);
+            size += FIXED_ENTRY_BYTES + names[i].length;
+        }
+        size += Long.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of " + entries.size() + " policies exceeds the 2 GB mapping limit");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(FORMAT_VERSION);
+            buffer.putLong(snapshot.createdAt().toEpochMilli());
+            buffer.putInt(snapshot.shardCount());
+            for (long watermark : snapshot.watermarks()) {
+                buffer.putLong(watermark);
+            }
+            buffer.putInt(statusNames.length);
+            for (byte[] statusName : statusNames) {
+                buffer.putShort((short) statusName.length);
+                buffer.put(statusName);
+            }
+            buffer.putInt(entries.size());
+            for (int i = 0; i < names.length; i++) {
+                PolicySnapshot.Entry entry = entries.get(i);
+                InsurancePolicyDTO policy = entry.policy();
+                buffer.putLong(policy.getId());
+                buffer.putLong(entry.changeSeq());
+                buffer.putLong(policy.getVersion() != null ? policy.getVersion() : NO_VERSION);
+                buffer.putInt(epochDay(policy.getCoverageStartDate()));
+                buffer.putInt(epochDay(policy.getCoverageEndDate()));
+                buffer.putInt(epochDay(policy.getCreatedAt()));
+                buffer.putInt(epochDay(policy.getUpdatedAt()));
+                buffer.put((byte) policy.getStatus().ordinal());
+                buffer.putInt(names[i].length);
+                buffer.put(names[i]);
+            }
+            int bodyLength = buffer.position();
+            buffer.putLong(checksum(buffer, bodyLength));
+            buffer.force();
+        }
+    }
+
+    public static PolicySnapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 2 * Integer.BYTES + Long.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a policy snapshot: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a policy snapshot: " + file);
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format version " + formatVersion + " in " + file);
+            }
+            int bodyLength = (int) size - Long.BYTES;
+            if (buffer.getLong(bodyLength) != checksum(buffer, bodyLength)) {
+                throw new IOException("Snapshot checksum mismatch in " + file);
+            }
+
+            Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+            long[] watermarks = new long[buffer.getInt()];
+            for (int shard = 0; shard < watermarks.length; shard++) {
+                watermarks[shard] = buffer.getLong();
+            }
+            PolicyStatus[] statuses = new PolicyStatus[buffer.getInt()];
+            for (int i = 0; i < statuses.length; i++) {
+                byte[] statusName = new byte[buffer.getShort()];
+                buffer.get(statusName);
+                try {
+                    statuses[i] = PolicyStatus.valueOf(new String(statusName, UTF_8));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Snapshot uses unknown policy status " + new String(statusName, UTF_8), e);
+                }
+            }
+            int entryCount = buffer.getInt();
+            List<PolicySnapshot.Entry> entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                long id = buffer.getLong();
+                long changeSeq = buffer.getLong();
+                long version = buffer.getLong();
+                InsurancePolicyDTO policy = InsurancePolicyDTO.builder()
+                        .id(id)
+                        .version(version != NO_VERSION ? version : null)
+                        .coverageStartDate(date(buffer.getInt()))
+                        .coverageEndDate(date(buffer.getInt()))
+                        .createdAt(date(buffer.getInt()))
+                        .updatedAt(date(buffer.getInt()))
+                        .status(statuses[buffer.get()])
+                        .build();
+                byte[] name = new byte[buffer.getInt()];
+                buffer.get(name);
+                policy.setPolicyName(new String(name, UTF_8));
+                entries.add(new PolicySnapshot.Entry(changeSeq, policy));
+            }
+            return new PolicySnapshot(createdAt, watermarks, entries);
+        }
+    }
+
+    private static long checksum(MappedByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, length));
+        return crc.getValue();
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? Math.toIntExact(date.toEpochDay()) : NO_DATE;
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.tinubu.insurance.policymanager.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.config.SnapshotProperties;
+
+/**
+ * Keeps the latest PolicySnapshot in the configured file. A snapshot is written to a
+ * temporary file next to it and moved into place, so a crash mid-write leaves the
+ * previous one intact. Failures are logged and never propagated: without a usable
+ * snapshot the caller simply loads from the database.
+ */
+@Component
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class PolicySnapshotStore {
+    private static final Logger log = LoggerFactory.getLogger(PolicySnapshotStore.class);
+
+    private final SnapshotProperties properties;
+
+    public PolicySnapshotStore(SnapshotProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Duration interval() {
+        return properties.getInterval();
+    }
+
+    public long catchUpOverlap() {
+        return properties.getCatchUpOverlap();
+    }
+
+    public Optional<PolicySnapshot> load() {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Path file = properties.getFile();
+        try {
+            return Optional.of(PolicySnapshotFile.read(file));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable policy snapshot {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(PolicySnapshot snapshot) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path file = properties.getFile().toAbsolutePath();
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            PolicySnapshotFile.write(temporary, snapshot);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote policy snapshot of {} policies to {}", snapshot.entries().size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write policy snapshot {}", file, e);
+        }
+    }
+}
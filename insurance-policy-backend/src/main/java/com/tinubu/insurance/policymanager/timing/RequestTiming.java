@@ -0,0 +1,83 @@
+package com.tinubu.insurance.policymanager.timing;
+
+import java.util.Locale;
+
+/**
+ * Phase durations of the request being handled on this thread, reported by
+ * ServerTimingFilter. Phases nest (the controller includes the service, which includes
+ * the database) and only their outermost call is counted. Work handed to other threads,
+ * such as parallel shard queries, is not included.
+ */
+public final class RequestTiming {
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    public enum Phase {
+        CONTROLLER("ctrl", "Controller"),
+        SERVICE("svc", "Service"),
+        DATABASE("db", "Repository and SQL"),
+        MAPPING("map", "DTO mapping");
+
+        private final String metric;
+        private final String description;
+
+        Phase(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] depth = new int[Phase.values().length];
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    boolean enter(Phase phase) {
+        return depth[phase.ordinal()]++ == 0;
+    }
+
+    void exit(Phase phase, long elapsedNanos, boolean outermost) {
+        depth[phase.ordinal()]--;
+        if (outermost) {
+            add(phase, elapsedNanos);
+        }
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+    }
+
+    /**
+     * The Server-Timing header value, e.g. {@code app;dur=12.4, ctrl;desc="Controller";dur=9.1}.
+     */
+    String header(long requestNanos) {
+        StringBuilder header = new StringBuilder(160);
+        header.append("app;desc=\"Application\";dur=").append(millis(requestNanos));
+        for (Phase phase : Phase.values()) {
+            long value = nanos[phase.ordinal()];
+            if (value > 0) {
+                header.append(", ").append(phase.metric).append(";desc=\"").append(phase.description)
+                        .append("\";dur=").append(millis(value));
+            }
+        }
+        return header.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
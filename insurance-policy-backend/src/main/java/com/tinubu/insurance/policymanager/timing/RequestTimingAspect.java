@@ -0,0 +1,49 @@
+package com.tinubu.insurance.policymanager.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.tinubu.insurance.policymanager.timing.RequestTiming.Phase;
+
+/**
+ * Times controller, service and repository calls of requests that ServerTimingFilter
+ * sampled. Other calls only pay for the thread-local lookup.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "policy.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingAspect {
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *) && execution(public * *(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.CONTROLLER);
+    }
+
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.SERVICE);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)"
+            + " || within(com.tinubu.insurance.policymanager.repository..*)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.DATABASE);
+    }
+
+    private static Object time(ProceedingJoinPoint joinPoint, Phase phase) throws Throwable {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+        boolean outermost = timing.enter(phase);
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.exit(phase, System.nanoTime() - started, outermost);
+        }
+    }
+}
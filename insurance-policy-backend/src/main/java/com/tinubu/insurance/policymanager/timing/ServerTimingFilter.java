@@ -0,0 +1,139 @@
+package com.tinubu.insurance.policymanager.timing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.tinubu.insurance.policymanager.config.ServerTimingProperties;
+import com.tinubu.insurance.policymanager.config.WebConfig;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Adds a Server-Timing header with the phases of RequestTiming to sampled
+ * /api/policies responses, so browser dev tools show where the time went. Headers
+ * have to precede the body, so the header is set when the body is about to be
+ * written and covers the request up to that point; the response itself is never
+ * buffered. The event stream and export downloads are not timed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "policy.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class ServerTimingFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Server-Timing";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final ServerTimingProperties properties;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals("/api/policies") || path.startsWith("/api/policies/"))
+                || path.equals("/api/policies/events")
+                || PATH_MATCHER.match(WebConfig.EXPORT_DOWNLOADS, path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        double sampleRate = properties.getSampleRate();
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RequestTiming timing = RequestTiming.begin();
+        long started = System.nanoTime();
+        TimedResponse timed = new TimedResponse(response, () -> {
+            long now = System.nanoTime();
+            response.setHeader(HEADER, timing.header(now - started));
+            String origin = request.getHeader("Origin");
+            if (origin != null && WebConfig.ALLOWED_ORIGINS.contains(origin)) {
+                // Cross-origin pages only see the timings when their origin is allowed
+                response.setHeader("Timing-Allow-Origin", origin);
+            }
+        });
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            RequestTiming.end();
+            // Responses without a body
+            timed.addTimingHeaders();
+        }
+    }
+
+    /**
+     * Sets the timing headers once, just before anything can commit the response.
+     */
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+        private final Runnable timingHeaders;
+        private boolean added;
+
+        TimedResponse(HttpServletResponse response, Runnable timingHeaders) {
+            super(response);
+            this.timingHeaders = timingHeaders;
+        }
+
+        void addTimingHeaders() {
+            if (!added) {
+                added = true;
+                if (!isCommitted()) {
+                    timingHeaders.run();
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addTimingHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addTimingHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addTimingHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            addTimingHeaders();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            addTimingHeaders();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addTimingHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.tinubu.insurance.policymanager.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.config.AdmissionControlProperties.LimitSettings;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int maxQueue, Duration maxWait) {
+        LimitSettings settings = new LimitSettings(initial, 1, 100, maxQueue, maxWait, Duration.ofMillis(100));
+        return new AdaptiveConcurrencyLimiter("test", settings, 0.5);
+    }
+
+    @Test
+    void tryAcquire_BeyondLimitWithoutQueue_IsRejected() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, Duration.ZERO);
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void tryAcquire_QueuedRequest_GetsPermitWhenOneIsReleased() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, Duration.ofSeconds(5));
+        assertTrue(limiter.tryAcquire());
+
+        // Act
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.tryAcquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        while (limiter.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release(FAST);
+
+        // Assert
+        assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void tryAcquire_QueueWaitExpires_IsRejected() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, Duration.ofMillis(20));
+        assertTrue(limiter.tryAcquire());
+
+        // Act & Assert
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void release_SlowRequest_DecreasesLimitMultiplicatively() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 0, Duration.ZERO);
+        assertTrue(limiter.tryAcquire());
+
+        // Act
+        limiter.release(SLOW);
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void release_ConcurrentSlowRequests_DecreaseLimitOncePerRoundTrip() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 0, Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        // Act - all ten were in flight together, so they report the same overload
+        for (int i = 0; i < 10; i++) {
+            limiter.release(SLOW);
+        }
+        int afterFirstRoundTrip = limiter.getLimit();
+        Thread.sleep(200);
+        assertTrue(limiter.tryAcquire());
+        limiter.release(Duration.ofMillis(110).toNanos());
+
+        // Assert - a request admitted after the cut may cut again
+        assertEquals(10, afterFirstRoundTrip);
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void release_FastRequestsAtFullUtilisation_IncreaseLimitAdditively() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0, Duration.ZERO);
+
+        // Act - ten windows in which every permit is used and completes quickly
+        for (int window = 0; window < 10; window++) {
+            int permits = limiter.getLimit();
+            for (int i = 0; i < permits; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = 0; i < permits; i++) {
+                limiter.release(FAST);
+            }
+        }
+
+        // Assert - grows, but by at most about one permit per window
+        assertTrue(limiter.getLimit() > 4);
+        assertTrue(limiter.getLimit() <= 14);
+    }
+
+    @Test
+    void release_FastRequestsWhileIdle_DoNotRaiseLimit() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, Duration.ZERO);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST);
+        }
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void constructor_MaxBelowMin_ThrowsIllegalArgumentException() {
+        LimitSettings settings = new LimitSettings(5, 10, 5, 0, Duration.ZERO, Duration.ofMillis(100));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter("bad", settings, 0.9));
+    }
+}
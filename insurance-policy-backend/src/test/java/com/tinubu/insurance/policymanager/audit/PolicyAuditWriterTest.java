@@ -0,0 +1,134 @@
+package com.tinubu.insurance.policymanager.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.config.AuditProperties;
+import com.tinubu.insurance.policymanager.event.ChangeType;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyAuditEntry;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.PolicyAuditRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PolicyAuditWriterTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    private PolicyAuditRepository auditRepository;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        auditRepository = mock(PolicyAuditRepository.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+    }
+
+    private PolicyAuditWriter writer(int queueCapacity) {
+        AuditProperties properties = new AuditProperties();
+        properties.setQueueCapacity(queueCapacity);
+        properties.setSpoolDirectory(spoolDirectory);
+        return new PolicyAuditWriter(auditRepository, mock(PlatformTransactionManager.class),
+                objectMapper, properties, new SimpleMeterRegistry());
+    }
+
+    private static InsurancePolicy policy(String name, PolicyStatus status) {
+        return InsurancePolicy.builder()
+                .id(1L)
+                .policyName(name)
+                .status(status)
+                .coverageStartDate(LocalDate.of(2030, 1, 1))
+                .coverageEndDate(LocalDate.of(2031, 1, 1))
+                .changeSeq(7L)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PolicyAuditEntry> savedEntries(int invocations) {
+        ArgumentCaptor<List<PolicyAuditEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditRepository, times(invocations)).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void flush_UpdatedPolicy_PersistsOnlyChangedFields() throws Exception {
+        // Arrange
+        PolicyAuditWriter writer = writer(10);
+        PolicyChangedEvent event = PolicyChangedEvent.updated(
+                policy("Old name", PolicyStatus.ACTIVE), policy("New name", PolicyStatus.ACTIVE));
+
+        // Act
+        writer.onPolicyChanged(event);
+        boolean flushed = writer.flush();
+
+        // Assert
+        assertTrue(flushed);
+        PolicyAuditEntry entry = savedEntries(1).get(0);
+        assertEquals(1L, entry.getPolicyId());
+        assertEquals(7L, entry.getChangeSeq());
+        assertEquals(ChangeType.UPDATED, entry.getChangeType());
+        assertEquals("[{\"field\":\"policyName\",\"oldValue\":\"Old name\",\"newValue\":\"New name\"}]",
+                entry.getChanges());
+    }
+
+    @Test
+    void onPolicyChanged_QueueFull_SpoolsAndReplaysLater() throws Exception {
+        // Arrange
+        PolicyAuditWriter writer = writer(1);
+        writer.onPolicyChanged(PolicyChangedEvent.created(policy("First", PolicyStatus.ACTIVE)));
+
+        // Act
+        writer.onPolicyChanged(PolicyChangedEvent.deleted(policy("Second", PolicyStatus.INACTIVE), 8L));
+        writer.replaySpool();
+
+        // Assert
+        PolicyAuditEntry replayed = savedEntries(1).get(0);
+        assertEquals(ChangeType.DELETED, replayed.getChangeType());
+        assertEquals(8L, replayed.getChangeSeq());
+        assertTrue(replayed.getChanges().contains("\"oldValue\":\"Second\",\"newValue\":null"));
+        try (var files = Files.list(spoolDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void flush_DatabaseUnavailable_KeepsEntriesInSpool() throws Exception {
+        // Arrange
+        PolicyAuditWriter writer = writer(10);
+        doThrow(new DataAccessResourceFailureException("down")).when(auditRepository).saveAll(anyList());
+        writer.onPolicyChanged(PolicyChangedEvent.created(policy("First", PolicyStatus.ACTIVE)));
+
+        // Act
+        writer.flush();
+        writer.replaySpool();
+
+        // Assert - the failed replay leaves its file for the next attempt
+        verify(auditRepository, times(2)).saveAll(anyList());
+        try (var files = Files.list(spoolDirectory)) {
+            assertEquals(1, files.filter(f -> f.toString().endsWith(PolicyAuditWriter.REPLAY_SUFFIX)).count());
+        }
+        assertFalse(writer.flush());
+    }
+}
@@ -0,0 +1,102 @@
+package com.tinubu.insurance.policymanager.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tinubu.insurance.policymanager.config.GroupCommitProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.service.InsurancePolicyService;
+import com.tinubu.insurance.policymanager.service.PolicyCreateBatcher;
+import com.tinubu.insurance.policymanager.service.PolicyValidator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Throughput of concurrent single-policy creates committed one by one versus grouped
+ * with a few window sizes. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:group_commit_benchmark"
+})
+class GroupCommitBenchmarkTest {
+
+    private static final int CLIENTS = 32;
+    private static final int CREATES_PER_CLIENT = 250;
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private PolicyValidator policyValidator;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Test
+    void concurrentCreates_IndividualVersusGroupCommit() throws Exception {
+        run("warm-up", batcher(false, Duration.ZERO));
+        run("individual", batcher(false, Duration.ZERO));
+        for (Duration window : List.of(Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(5))) {
+            run("group " + window.toMillis() + " ms", batcher(true, window));
+        }
+    }
+
+    private PolicyCreateBatcher batcher(boolean enabled, Duration window) {
+        GroupCommitProperties properties = new GroupCommitProperties();
+        properties.setEnabled(enabled);
+        properties.setWindow(window);
+        PolicyCreateBatcher batcher = new PolicyCreateBatcher(policyService, policyValidator, properties,
+                new SimpleMeterRegistry());
+        batcher.start();
+        return batcher;
+    }
+
+    private void run(String name, PolicyCreateBatcher batcher) throws Exception {
+        long before = policyRepository.count();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                results.add(clients.submit(() -> {
+                    for (int i = 0; i < CREATES_PER_CLIENT; i++) {
+                        batcher.create(InsurancePolicyDTO.builder()
+                                .policyName("Benchmark " + client + "-" + i)
+                                .status(PolicyStatus.ACTIVE)
+                                .coverageStartDate(LocalDate.now())
+                                .coverageEndDate(LocalDate.now().plusYears(1))
+                                .build());
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            clients.shutdown();
+            batcher.stop();
+        }
+        long elapsed = System.nanoTime() - started;
+        int creates = CLIENTS * CREATES_PER_CLIENT;
+        assertEquals(before + creates, policyRepository.count());
+        System.out.printf("%-14s %,8d creates, %,10.0f creates/s, avg %,8.1f us/create%n",
+                name, creates, creates / (elapsed / 1e9), elapsed / 1000.0 / creates);
+    }
+}
@@ -0,0 +1,98 @@
+package com.tinubu.insurance.policymanager.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.tinubu.insurance.policymanager.index.PolicyCoverageIndex;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+
+/**
+ * Compares "in force on date X" through the coverage index with the equivalent SQL
+ * range query on the (start, end) B-tree index. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:in_force_benchmark"
+})
+class InForceQueryBenchmarkTest {
+
+    private static final int POLICIES = 50_000;
+    private static final int QUERIES = 200;
+    private static final LocalDate EPOCH = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private PolicyCoverageIndex coverageIndex;
+
+    @Test
+    void inForceOnDate_IndexVersusSql() throws Exception {
+        insertPolicies();
+        coverageIndex.invalidateAll();
+        while (!coverageIndex.isReady()) {
+            Thread.sleep(50);
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < QUERIES; i++) {
+            dates.add(EPOCH.plusDays(random.nextInt(3650)));
+        }
+
+        Function<LocalDate, Integer> index = date -> coverageIndex.overlapping(date, date).orElseThrow().size();
+        Function<LocalDate, Integer> sql = date -> policyRepository
+                .findByCoverageStartDateLessThanEqualAndCoverageEndDateGreaterThanEqualOrderByCoverageStartDateAscIdAsc(date, date)
+                .size();
+
+        for (LocalDate date : dates.subList(0, 20)) {
+            assertEquals(sql.apply(date), index.apply(date));
+        }
+        report("coverage index", dates, index);
+        report("sql range scan", dates, sql);
+    }
+
+    private void insertPolicies() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(POLICIES);
+        for (int i = 0; i < POLICIES; i++) {
+            LocalDate start = EPOCH.plusDays(random.nextInt(3650));
+            LocalDate end = start.plusDays(30 + random.nextInt(700));
+            rows.add(new Object[] { "Policy " + i, i % 3 == 0 ? "INACTIVE" : "ACTIVE",
+                    Date.valueOf(start), Date.valueOf(end), Date.valueOf(EPOCH), Date.valueOf(EPOCH) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO insurance_policies (policy_name, status, coverage_start_date,"
+                + " coverage_end_date, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+
+    private static void report(String name, List<LocalDate> dates, Function<LocalDate, Integer> query) {
+        // Warm up, then measure the same dates
+        for (LocalDate date : dates.subList(0, dates.size() / 4)) {
+            query.apply(date);
+        }
+        long matches = 0;
+        long started = System.nanoTime();
+        for (LocalDate date : dates) {
+            matches += query.apply(date);
+        }
+        long elapsed = System.nanoTime() - started;
+        System.out.printf("%-16s %,8d queries, avg %,10.1f us/query, avg %,d matches%n",
+                name, dates.size(), elapsed / 1000.0 / dates.size(), matches / dates.size());
+    }
+}
@@ -0,0 +1,101 @@
+package com.tinubu.insurance.policymanager.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.tinubu.insurance.policymanager.exception.ErrorResponse;
+import com.tinubu.insurance.policymanager.exception.GlobalExceptionHandler;
+import com.tinubu.insurance.policymanager.exception.PolicyNotFoundException;
+
+/**
+ * Cost of answering a lookup of an unknown policy id, from the miss to the response
+ * entity: the former path (exception with a stack trace and eager message, map body),
+ * the stackless exception through GlobalExceptionHandler, and the controller's fast
+ * path that never throws. Misses are raised {@value #CALL_DEPTH} frames deep, roughly
+ * the depth of a service call under the servlet and Spring MVC stack.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class PolicyNotFoundBenchmarkTest {
+
+    private static final int WARMUP = 100_000;
+    private static final int ITERATIONS = 500_000;
+    private static final int CALL_DEPTH = 120;
+
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+    @Test
+    void unknownIdFlood_ThrowingVersusFastPath() {
+        LongFunction<ResponseEntity<Object>> formerPath = id -> {
+            try {
+                return ResponseEntity.ok(atDepth(CALL_DEPTH, () -> {
+                    throw new LegacyNotFoundException("Policy not found with id: " + id);
+                }));
+            } catch (LegacyNotFoundException e) {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("timestamp", LocalDateTime.now());
+                body.put("message", e.getMessage());
+                body.put("status", HttpStatus.NOT_FOUND.value());
+                return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+            }
+        };
+        LongFunction<ResponseEntity<Object>> stacklessPath = id -> {
+            try {
+                return ResponseEntity.ok(atDepth(CALL_DEPTH, () -> {
+                    throw new PolicyNotFoundException(id);
+                }));
+            } catch (PolicyNotFoundException e) {
+                return exceptionHandler.handlePolicyNotFoundException(e, null);
+            }
+        };
+        LongFunction<ResponseEntity<Object>> fastPath = id -> {
+            Object policy = atDepth(CALL_DEPTH, () -> null);
+            return policy == null ? ErrorResponse.policyNotFound(id) : ResponseEntity.ok(policy);
+        };
+
+        double before = report("throwing", formerPath);
+        double stackless = report("stackless throwing", stacklessPath);
+        double after = report("fast path", fastPath);
+        assertTrue(stackless < before, "a stackless exception should be cheaper to throw");
+        assertTrue(after < before, "the fast path should be cheaper than throwing");
+    }
+
+    private static double report(String name, LongFunction<ResponseEntity<Object>> lookup) {
+        for (int i = 0; i < WARMUP; i++) {
+            check(lookup.apply(1_000_000L + i));
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            check(lookup.apply(1_000_000L + i));
+        }
+        double nanosPerMiss = (System.nanoTime() - started) / (double) ITERATIONS;
+        System.out.printf("%-20s %,10d misses, avg %,8.1f ns/miss%n", name, ITERATIONS, nanosPerMiss);
+        return nanosPerMiss;
+    }
+
+    private static Object atDepth(int depth, Supplier<Object> lookup) {
+        return depth == 0 ? lookup.get() : atDepth(depth - 1, lookup);
+    }
+
+    private static void check(ResponseEntity<Object> response) {
+        if (response.getStatusCode() != HttpStatus.NOT_FOUND) {
+            throw new IllegalStateException("benchmark ids should not exist");
+        }
+    }
+
+    private static final class LegacyNotFoundException extends RuntimeException {
+        LegacyNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
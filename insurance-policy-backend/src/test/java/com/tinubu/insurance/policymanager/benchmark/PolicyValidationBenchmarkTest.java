@@ -0,0 +1,84 @@
+package com.tinubu.insurance.policymanager.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.service.PolicyMapper;
+import com.tinubu.insurance.policymanager.service.PolicyValidator;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * CPU cost of validating one policy create: the former three Bean Validation passes
+ * (request body, service method argument, entity on flush) plus the entity's date
+ * callback, against the single PolicyValidator pass. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class PolicyValidationBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    @Test
+    void validateCreate_ThreePassesVersusSinglePass() {
+        InsurancePolicyDTO policy = InsurancePolicyDTO.builder()
+                .policyName("Benchmark policy")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now().plusDays(1))
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build();
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator beanValidator = factory.getValidator();
+            Consumer<InsurancePolicyDTO> threePasses = dto -> {
+                check(beanValidator.validate(dto).isEmpty());
+                check(beanValidator.validate(dto).isEmpty());
+                InsurancePolicy entity = PolicyMapper.toEntity(dto);
+                check(beanValidator.validate(entity).isEmpty());
+                check(!entity.getCoverageStartDate().isBefore(LocalDate.now())
+                        && !entity.getCoverageEndDate().isBefore(entity.getCoverageStartDate()));
+            };
+
+            PolicyValidator policyValidator = new PolicyValidator(Clock.systemDefaultZone());
+            Consumer<InsurancePolicyDTO> singlePass = dto -> {
+                policyValidator.validate(dto);
+                InsurancePolicy entity = PolicyMapper.toEntity(dto);
+                check(!entity.getCoverageEndDate().isBefore(entity.getCoverageStartDate()));
+            };
+
+            double before = report("bean validation x3", policy, threePasses);
+            double after = report("single pass", policy, singlePass);
+            assertTrue(after < before, "the single pass should be cheaper");
+        }
+    }
+
+    private static double report(String name, InsurancePolicyDTO policy, Consumer<InsurancePolicyDTO> validation) {
+        for (int i = 0; i < WARMUP; i++) {
+            validation.accept(policy);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            validation.accept(policy);
+        }
+        double nanosPerCreate = (System.nanoTime() - started) / (double) ITERATIONS;
+        System.out.printf("%-20s %,10d creates, avg %,8.1f ns/create%n", name, ITERATIONS, nanosPerCreate);
+        return nanosPerCreate;
+    }
+
+    private static void check(boolean valid) {
+        if (!valid) {
+            throw new IllegalStateException("benchmark policy should be valid");
+        }
+    }
+}
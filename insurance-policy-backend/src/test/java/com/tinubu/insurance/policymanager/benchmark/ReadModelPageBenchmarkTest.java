@@ -0,0 +1,106 @@
+package com.tinubu.insurance.policymanager.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.readmodel.PolicyReadModel;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+
+/**
+ * Compares sorted and status-filtered pages served by the columnar read model with
+ * the same pages read through JPA. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:read_model_benchmark"
+})
+class ReadModelPageBenchmarkTest {
+
+    private static final int POLICIES = 50_000;
+    private static final int QUERIES = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDate EPOCH = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private PolicyReadModel readModel;
+
+    @Test
+    void sortedAndFilteredPages_ReadModelVersusSql() throws Exception {
+        insertPolicies();
+        readModel.invalidateAll();
+        while (!readModel.isReady()) {
+            Thread.sleep(50);
+        }
+
+        List<Pageable> pages = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < QUERIES; i++) {
+            Sort sort = i % 2 == 0 ? Sort.by("updatedAt").descending() : Sort.by("coverageEndDate").ascending();
+            pages.add(PageRequest.of(random.nextInt(POLICIES / 3 / PAGE_SIZE), PAGE_SIZE, sort));
+        }
+
+        Function<Pageable, List<Long>> memory = pageable -> readModel.findPage(pageable, PolicyStatus.INACTIVE)
+                .orElseThrow().getContent().stream().map(policy -> policy.getId()).toList();
+        Function<Pageable, List<Long>> sql = pageable -> policyRepository.findByStatus(PolicyStatus.INACTIVE,
+                PageRequest.of(pageable.getPageNumber(), PAGE_SIZE, pageable.getSort().and(Sort.by("id"))))
+                .getContent().stream().map(InsurancePolicy::getId).toList();
+
+        for (Pageable pageable : pages.subList(0, 20)) {
+            assertEquals(sql.apply(pageable), memory.apply(pageable));
+        }
+        report("read model", pages, memory);
+        report("sql order by", pages, sql);
+    }
+
+    private void insertPolicies() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(POLICIES);
+        for (int i = 0; i < POLICIES; i++) {
+            LocalDate start = EPOCH.plusDays(random.nextInt(3650));
+            LocalDate end = start.plusDays(30 + random.nextInt(700));
+            rows.add(new Object[] { "Policy " + random.nextInt(POLICIES / 10), i % 3 == 0 ? "INACTIVE" : "ACTIVE",
+                    Date.valueOf(start), Date.valueOf(end), Date.valueOf(EPOCH), Date.valueOf(EPOCH) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO insurance_policies (policy_name, status, coverage_start_date,"
+                + " coverage_end_date, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+
+    private static void report(String name, List<Pageable> pages, Function<Pageable, List<Long>> query) {
+        // Warm up, then measure the same pages
+        for (Pageable pageable : pages.subList(0, pages.size() / 4)) {
+            query.apply(pageable);
+        }
+        long rows = 0;
+        long started = System.nanoTime();
+        for (Pageable pageable : pages) {
+            rows += query.apply(pageable).size();
+        }
+        long elapsed = System.nanoTime() - started;
+        System.out.printf("%-14s %,8d pages, avg %,10.1f us/page, avg %,d rows%n",
+                name, pages.size(), elapsed / 1000.0 / pages.size(), rows / pages.size());
+    }
+}
@@ -0,0 +1,87 @@
+package com.tinubu.insurance.policymanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.cache.PageResponseCache.CachedPage;
+import com.tinubu.insurance.policymanager.config.PageCacheProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PagedResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PageResponseCacheTest {
+
+    private final PageResponseCache cache = new PageResponseCache(new ObjectMapper(), new PageCacheProperties(),
+            new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<PagedResponse<InsurancePolicyDTO>> loader = () -> PagedResponse.<InsurancePolicyDTO>builder()
+            .content(List.of(InsurancePolicyDTO.builder().id((long) loads.incrementAndGet()).build()))
+            .page(0)
+            .size(5)
+            .build();
+
+    @Test
+    void get_SameNormalizedPageTwice_LoadsOnce() {
+        // Act
+        CachedPage first = cache.get(0, 5, "id", "asc", loader);
+        CachedPage second = cache.get(0, 5, "id", "ASC", loader);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    void get_AfterPolicyChange_ReloadsWithNewEtag() {
+        // Arrange
+        CachedPage before = cache.get(0, 5, "id", "asc", loader);
+
+        // Act
+        cache.invalidatePolicies(Set.of(1L));
+        CachedPage after = cache.get(0, 5, "id", "asc", loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertNotEquals(before.etag(), after.etag());
+    }
+
+    @Test
+    void get_ChangeDuringLoad_ResultIsNotStored() {
+        // Act - a write commits while the page is being read
+        cache.get(1, 5, "id", "asc", () -> {
+            PagedResponse<InsurancePolicyDTO> page = loader.get();
+            cache.invalidatePolicies(Set.of(1L));
+            return page;
+        });
+        cache.get(1, 5, "id", "asc", loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_PageBeyondCachedRange_AlwaysLoads() {
+        // Act
+        CachedPage first = cache.get(3, 5, "id", "asc", loader);
+        CachedPage second = cache.get(3, 5, "id", "asc", loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertTrue(new String(second.body(), StandardCharsets.UTF_8).startsWith("{\"content\":[{\"id\":2,"));
+        assertNotEquals(first.etag(), second.etag());
+    }
+}
@@ -1,8 +1,6 @@
 package com.tinubu.insurance.policymanager.dto;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.LocalDate;
 import java.util.Set;
@@ -21,67 +19,6 @@ class InsurancePolicyDTOTest {
     private final ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
     private final Validator validator = factory.getValidator();
 
-    @Test
-    void validateDates_ValidDates_NoExceptionThrown() {
-        // Arrange
-        LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusMonths(6);
-        
-        InsurancePolicyDTO policyDTO = InsurancePolicyDTO.builder()
-                .policyName("Test Policy")
-                .status(PolicyStatus.ACTIVE)
-                .coverageStartDate(startDate)
-                .coverageEndDate(endDate)
-                .build();
-        
-        // Act & Assert
-        assertDoesNotThrow(policyDTO::validateDates);
-    }
-    
-    @Test
-    void validateDates_EndDateBeforeStartDate_ThrowsIllegalArgumentException() {
-        // Arrange
-        LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.minusDays(1); // End date before start date
-        
-        InsurancePolicyDTO policyDTO = InsurancePolicyDTO.builder()
-                .policyName("Test Policy")
-                .status(PolicyStatus.ACTIVE)
-                .coverageStartDate(startDate)
-                .coverageEndDate(endDate)
-                .build();
-        
-        // Act & Assert
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                policyDTO::validateDates
-        );
-        
-        assertEquals("Coverage end date must be after start date", exception.getMessage());
-    }
-    
-    @Test
-    void validateDates_StartDateInPast_ThrowsIllegalArgumentException() {
-        // Arrange
-        LocalDate pastDate = LocalDate.now().minusDays(1); // Yesterday
-        LocalDate endDate = LocalDate.now().plusMonths(6);
-        
-        InsurancePolicyDTO policyDTO = InsurancePolicyDTO.builder()
-                .policyName("Test Policy")
-                .status(PolicyStatus.ACTIVE)
-                .coverageStartDate(pastDate)
-                .coverageEndDate(endDate)
-                .build();
-        
-        // Act & Assert
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                policyDTO::validateDates
-        );
-        
-        assertEquals("Coverage start date cannot be in the past", exception.getMessage());
-    }
-    
     @Test
     void whenStartDateIsNull_thenValidationFails() {
         // Arrange
@@ -237,48 +174,6 @@ class InsurancePolicyDTOTest {
         assertEquals(PolicyStatus.INACTIVE, inactiveDTO.getStatus());
     }
     
-    @Test
-    void validateDates_StartDateNull_NoExceptionThrown() {
-        // Arrange
-        InsurancePolicyDTO policyDTO = InsurancePolicyDTO.builder()
-                .policyName("Test Policy")
-                .status(PolicyStatus.ACTIVE)
-                .coverageStartDate(null)
-                .coverageEndDate(LocalDate.now())
-                .build();
-        
-        // Act & Assert - Should not throw exception when start date is null
-        assertDoesNotThrow(policyDTO::validateDates);
-    }
-    
-    @Test
-    void validateDates_EndDateNull_NoExceptionThrown() {
-        // Arrange
-        InsurancePolicyDTO policyDTO = InsurancePolicyDTO.builder()
-                .policyName("Test Policy")
-                .status(PolicyStatus.ACTIVE)
-                .coverageStartDate(LocalDate.now())
-                .coverageEndDate(null)
-                .build();
-        
-        // Act & Assert - Should not throw exception when end date is null
-        assertDoesNotThrow(policyDTO::validateDates);
-    }
-    
-    @Test
-    void validateDates_BothDatesNull_NoExceptionThrown() {
-        // Arrange
-        InsurancePolicyDTO policyDTO = InsurancePolicyDTO.builder()
-                .policyName("Test Policy")
-                .status(PolicyStatus.ACTIVE)
-                .coverageStartDate(null)
-                .coverageEndDate(null)
-                .build();
-        
-        // Act & Assert - Should not throw exception when both dates are null
-        assertDoesNotThrow(policyDTO::validateDates);
-    }
-    
     @Test
     void testDTO_GettersAndSetters() {
         // Arrange
@@ -0,0 +1,31 @@
+package com.tinubu.insurance.policymanager.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PolicyFieldTest {
+
+    @Test
+    void parse_KnownFields_AlwaysIncludesIdInDeclarationOrder() {
+        // Act
+        var fields = PolicyField.parse("status, policyName,,status");
+
+        // Assert
+        assertEquals(EnumSet.of(PolicyField.ID, PolicyField.POLICY_NAME, PolicyField.STATUS), fields);
+        assertEquals(List.of("id", "policyName", "status"), fields.stream().map(PolicyField::getName).toList());
+    }
+
+    @Test
+    void parse_UnknownField_ThrowsIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PolicyField.parse("policyName,premium"));
+
+        assertTrue(exception.getMessage().contains("'premium'"));
+    }
+}
@@ -0,0 +1,176 @@
+package com.tinubu.insurance.policymanager.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.config.PolicyEventStreamProperties;
+import com.tinubu.insurance.policymanager.exception.ServiceOverloadedException;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PolicyEventBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PolicyEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void onPolicyChanged_SubscriberBufferFull_EvictsItAndCountsTheEviction() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(properties(1, 10, Duration.ofMinutes(1)));
+        RecordingEmitter slow = new RecordingEmitter(new CountDownLatch(1));
+        broadcaster.subscribe(() -> slow);
+        broadcaster.onPolicyChanged(deleted(1L));
+        assertTrue(slow.sendStarted.await(5, TimeUnit.SECONDS), "the first event should be in flight");
+
+        // Act: the second event fills the one-slot buffer, the third overflows it
+        broadcaster.onPolicyChanged(deleted(2L));
+        broadcaster.onPolicyChanged(deleted(3L));
+
+        // Assert
+        assertTrue(slow.completed);
+        assertEquals(1.0, meterRegistry.get("policy.events.evictions").counter().count());
+        assertEquals(0.0, meterRegistry.get("policy.events.subscribers").gauge().value());
+        slow.release.countDown();
+    }
+
+    @Test
+    void subscribe_AboveMaxSubscribers_IsRejected() {
+        // Arrange
+        broadcaster = broadcaster(properties(16, 2, Duration.ofMinutes(1)));
+        broadcaster.subscribe(() -> new RecordingEmitter(null));
+        broadcaster.subscribe(() -> new RecordingEmitter(null));
+
+        // Act & Assert
+        assertThrows(ServiceOverloadedException.class, () -> broadcaster.subscribe(() -> new RecordingEmitter(null)));
+        assertEquals(2.0, meterRegistry.get("policy.events.subscribers").gauge().value());
+    }
+
+    @Test
+    void heartbeat_IsSentToIdleSubscribers() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(properties(16, 10, Duration.ofMillis(50)));
+        RecordingEmitter subscriber = new RecordingEmitter(null);
+
+        // Act
+        broadcaster.subscribe(() -> subscriber);
+
+        // Assert
+        assertTrue(subscriber.awaitSent(1), "a heartbeat should arrive");
+        assertTrue(subscriber.sent.get(0).contains(":heartbeat"));
+    }
+
+    @Test
+    void onPolicyChanged_SlowSubscriber_DoesNotDelayTheOthers() throws Exception {
+        // Arrange
+        broadcaster = broadcaster(properties(16, 10, Duration.ofMinutes(1)));
+        RecordingEmitter slow = new RecordingEmitter(new CountDownLatch(1));
+        RecordingEmitter fast = new RecordingEmitter(null);
+        broadcaster.subscribe(() -> slow);
+        broadcaster.subscribe(() -> fast);
+
+        // Act
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.onPolicyChanged(deleted(id));
+        }
+
+        // Assert
+        assertTrue(fast.awaitSent(5), "the fast subscriber should get every event");
+        assertTrue(slow.sendStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(slow.sent.isEmpty(), "the slow subscriber is still stuck on its first event");
+        assertFalse(slow.completed);
+        slow.release.countDown();
+        assertTrue(slow.awaitSent(5), "the slow subscriber catches up once unblocked");
+    }
+
+    private PolicyEventBroadcaster broadcaster(PolicyEventStreamProperties properties) {
+        return new PolicyEventBroadcaster(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    private static PolicyEventStreamProperties properties(int bufferSize, int maxSubscribers,
+            Duration heartbeatInterval) {
+        PolicyEventStreamProperties properties = new PolicyEventStreamProperties();
+        properties.setBufferSize(bufferSize);
+        properties.setMaxSubscribers(maxSubscribers);
+        properties.setHeartbeatInterval(heartbeatInterval);
+        properties.setSenderThreads(2);
+        return properties;
+    }
+
+    private static PolicyChangedEvent deleted(long id) {
+        InsurancePolicy policy = InsurancePolicy.builder()
+                .id(id)
+                .policyName("Policy " + id)
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.of(2025, 1, 1))
+                .coverageEndDate(LocalDate.of(2026, 1, 1))
+                .build();
+        return PolicyChangedEvent.deleted(policy, id);
+    }
+
+    /**
+     * Records each frame it is asked to send, and when given a release latch blocks in
+     * send until the latch opens, like a client that stopped reading.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sendStarted.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            sent.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        boolean awaitSent(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return sent.size() >= count;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.tinubu.insurance.policymanager.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class ErrorResponseTest {
+
+    // Dates as ISO strings, as Spring Boot configures the application's ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void policyNotFound_WritesTheSameBodyAsTheHandler() throws Exception {
+        // Act
+        ResponseEntity<Object> response = ErrorResponse.policyNotFound(42L);
+
+        // Assert
+        String body = new String((byte[]) response.getBody(), StandardCharsets.UTF_8);
+        LocalDateTime timestamp = LocalDateTime.parse(objectMapper.readTree(body).get("timestamp").asText());
+        ErrorResponse serialized = new ErrorResponse(timestamp, "Policy not found with id: 42", 404);
+        assertEquals(objectMapper.writeValueAsString(serialized), body);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+}
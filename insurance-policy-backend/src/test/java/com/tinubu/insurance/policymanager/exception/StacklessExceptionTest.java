@@ -0,0 +1,30 @@
+package com.tinubu.insurance.policymanager.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class StacklessExceptionTest {
+
+    @Test
+    void domainExceptions_CaptureNoStackTrace() {
+        // Arrange
+        List<RuntimeException> exceptions = List.of(
+                new PolicyNotFoundException(42L),
+                new PolicyConflictException("conflict"),
+                new PolicyPreconditionFailedException("precondition"),
+                new PolicyValidationException(Map.of("policyName", "must not be blank")),
+                new ServiceOverloadedException("overloaded", Duration.ofSeconds(1)),
+                new ExportNotFoundException("export"),
+                new RecordingNotFoundException(7L));
+
+        // Act & Assert
+        for (RuntimeException exception : exceptions) {
+            assertEquals(0, exception.getStackTrace().length, exception.getClass().getSimpleName());
+        }
+    }
+}
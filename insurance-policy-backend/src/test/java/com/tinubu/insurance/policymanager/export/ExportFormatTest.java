@@ -0,0 +1,26 @@
+package com.tinubu.insurance.policymanager.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ExportFormatTest {
+
+    @Test
+    void quote_SeparatorsAndQuotes_FollowRfc4180() {
+        assertEquals("Fleet", ExportFormat.quote("Fleet"));
+        assertEquals("\"Fleet, north\"", ExportFormat.quote("Fleet, north"));
+        assertEquals("\"Fleet \"\"north\"\"\"", ExportFormat.quote("Fleet \"north\""));
+        assertEquals("", ExportFormat.quote(null));
+    }
+
+    @Test
+    void quote_FormulaLikeText_IsKeptAsText() {
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\"", ExportFormat.quote("=HYPERLINK(\"http://x\")"));
+        assertEquals("\"'+1\"", ExportFormat.quote("+1"));
+        assertEquals("\"'-2+3\"", ExportFormat.quote("-2+3"));
+        assertEquals("\"'@SUM(A1)\"", ExportFormat.quote("@SUM(A1)"));
+        assertEquals("\"'\tcmd\"", ExportFormat.quote("\tcmd"));
+        assertEquals("Fleet=1", ExportFormat.quote("Fleet=1"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.tinubu.insurance.policymanager.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.tinubu.insurance.policymanager.export.FileRangeResponse.Range;
+
+class FileRangeResponseTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void parseRange_SupportedForms() {
+        // Arrange
+        long length = 1000;
+
+        // Act & Assert
+        assertEquals(new Range(0, 99), FileRangeResponse.parseRange("bytes=0-99", length));
+        assertEquals(new Range(500, 999), FileRangeResponse.parseRange("bytes=500-", length));
+        assertEquals(new Range(900, 999), FileRangeResponse.parseRange("bytes=-100", length));
+        assertEquals(new Range(990, 999), FileRangeResponse.parseRange("bytes=990-5000", length));
+        assertSame(FileRangeResponse.UNSATISFIABLE, FileRangeResponse.parseRange("bytes=1000-", length));
+        assertSame(FileRangeResponse.UNSATISFIABLE, FileRangeResponse.parseRange("bytes=-0", length));
+        assertNull(FileRangeResponse.parseRange(null, length));
+        assertNull(FileRangeResponse.parseRange("bytes=0-1,5-6", length));
+        assertNull(FileRangeResponse.parseRange("bytes=a-b", length));
+    }
+
+    @Test
+    void send_Range_AnswersPartialContent() throws Exception {
+        // Arrange
+        byte[] content = content(4096);
+        Path file = Files.write(directory.resolve("export.gz"), content);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/file");
+        request.addHeader(HttpHeaders.RANGE, "bytes=1000-1999");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        FileRangeResponse.send(file, "export.gz", "application/gzip", request, response);
+
+        // Assert
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 1000-1999/4096", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(1000, response.getContentLengthLong());
+        assertArrayEquals(Arrays.copyOfRange(content, 1000, 2000), response.getContentAsByteArray());
+    }
+
+    @Test
+    void send_IfRangeForOtherFile_SendsWholeFile() throws Exception {
+        // Arrange
+        byte[] content = content(2048);
+        Path file = Files.write(directory.resolve("export.gz"), content);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/file");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        FileRangeResponse.send(file, "export.gz", "application/gzip", request, response);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertArrayEquals(content, response.getContentAsByteArray());
+    }
+
+    @Test
+    void send_RangePastEnd_AnswersNotSatisfiable() throws Exception {
+        // Arrange
+        Path file = Files.write(directory.resolve("export.gz"), content(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/file");
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        FileRangeResponse.send(file, "export.gz", "application/gzip", request, response);
+
+        // Assert
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void send_SendfileSupported_HandsFileToConnector() throws Exception {
+        // Arrange
+        Path file = Files.write(directory.resolve("export.gz"), content(500));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/file");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=-200");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        FileRangeResponse.send(file, "export.gz", "application/gzip", request, response);
+
+        // Assert
+        assertEquals(206, response.getStatus());
+        assertEquals(300L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(500L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private static byte[] content(int length) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        return content;
+    }
+}
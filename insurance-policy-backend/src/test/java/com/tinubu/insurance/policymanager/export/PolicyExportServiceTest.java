@@ -0,0 +1,152 @@
+package com.tinubu.insurance.policymanager.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.policymanager.config.ExportProperties;
+import com.tinubu.insurance.policymanager.dto.ExportJobResponse;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.exception.ExportNotFoundException;
+import com.tinubu.insurance.policymanager.export.PolicyExportService.ExportFile;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.service.InsurancePolicyService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "policy.export.batch-size=3")
+class PolicyExportServiceTest {
+
+    @Autowired
+    private PolicyExportService exportService;
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ExportProperties properties;
+
+    @Test
+    void startExport_Csv_WritesEveryPolicyAcrossBatches() throws Exception {
+        // Arrange
+        InsurancePolicyDTO quoted = createPolicy("Fleet, \"north\" depot");
+        createPolicy("Export CSV");
+        long total = policyRepository.count();
+
+        // Act
+        ExportJobResponse job = awaitFinished(exportService.startExport(ExportFormat.CSV).getId());
+        List<String> lines = readLines(exportService.getExportFile(job.getId()));
+
+        // Assert
+        assertEquals("COMPLETED", job.getState());
+        assertEquals(total, job.getRowsWritten());
+        assertEquals(total, job.getTotalRows());
+        assertEquals("/api/policies/exports/" + job.getId() + "/file", job.getDownloadUrl());
+        assertEquals(total + 1, lines.size());
+        assertEquals("id,policyName,status,coverageStartDate,coverageEndDate,createdAt,updatedAt,version", lines.get(0));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith(quoted.getId() + ",\"Fleet, \"\"north\"\" depot\",")));
+    }
+
+    @Test
+    void startExport_Ndjson_WritesOnePolicyDtoPerLine() throws Exception {
+        // Arrange
+        InsurancePolicyDTO created = createPolicy("Export NDJSON");
+
+        // Act
+        ExportJobResponse job = awaitFinished(exportService.startExport(ExportFormat.NDJSON).getId());
+        ExportFile file = exportService.getExportFile(job.getId());
+        List<String> lines = readLines(file);
+
+        // Assert
+        assertTrue(file.fileName().endsWith(".ndjson.gz"));
+        assertEquals(job.getRowsWritten(), lines.size());
+        JsonNode row = objectMapper.readTree(lines.stream()
+                .filter(line -> line.contains("\"Export NDJSON\"")).findFirst().orElseThrow());
+        assertEquals(created.getId().longValue(), row.get("id").asLong());
+        assertEquals("ACTIVE", row.get("status").asText());
+    }
+
+    @Test
+    void deleteExport_RemovesJobAndFile() throws Exception {
+        // Arrange
+        createPolicy("Export delete");
+        String id = awaitFinished(exportService.startExport(ExportFormat.CSV).getId()).getId();
+        ExportFile file = exportService.getExportFile(id);
+
+        // Act
+        exportService.deleteExport(id);
+
+        // Assert
+        assertFalse(Files.exists(file.path()));
+        assertThrows(ExportNotFoundException.class, () -> exportService.getExport(id));
+    }
+
+    @Test
+    void deleteExport_WhileRunning_LeavesNoFileBehind() throws Exception {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            createPolicy("Export cancel " + i);
+        }
+        String id = exportService.startExport(ExportFormat.CSV).getId();
+
+        // Act
+        exportService.deleteExport(id);
+        // Jobs run one at a time, so the deleted one has ended once the next is done
+        awaitFinished(exportService.startExport(ExportFormat.CSV).getId());
+
+        // Assert
+        try (Stream<Path> files = Files.list(properties.getDirectory())) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().contains(id)));
+        }
+    }
+
+    private ExportJobResponse awaitFinished(String id) throws InterruptedException {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            ExportJobResponse job = exportService.getExport(id);
+            if (job.getCompletedAt() != null) {
+                return job;
+            }
+            Thread.sleep(25);
+        }
+        throw new AssertionError("Export " + id + " did not finish");
+    }
+
+    private static List<String> readLines(ExportFile file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file.path())), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private InsurancePolicyDTO createPolicy(String name) {
+        return policyService.createPolicy(InsurancePolicyDTO.builder()
+                .policyName(name)
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build());
+    }
+}
@@ -0,0 +1,63 @@
+package com.tinubu.insurance.policymanager.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.tinubu.insurance.policymanager.config.GeneratorProperties;
+import com.tinubu.insurance.policymanager.generator.SyntheticPolicies.Row;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+/**
+ * Starts the application with the "generate" profile, which fills the table before
+ * the tests run.
+ */
+@ActiveProfiles("generate")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:generator_test",
+        "policy.generator.count=1234",
+        "policy.generator.batch-size=100",
+        "policy.generator.threads=3"
+})
+class PolicyDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GeneratorProperties properties;
+
+    @Test
+    void run_WritesTheSeededRowsWithChangeSequences() {
+        // Arrange
+        Comparator<Row> byContent = Comparator.comparing(Row::policyName)
+                .thenComparing(Row::coverageStartDate)
+                .thenComparing(Row::coverageEndDate)
+                .thenComparing(Row::createdAt)
+                .thenComparing(Row::status);
+        SyntheticPolicies policies = new SyntheticPolicies(properties);
+        List<Row> expected = LongStream.range(0, 1234).mapToObj(policies::row).sorted(byContent).toList();
+
+        // Act
+        List<Row> stored = jdbcTemplate.query("SELECT * FROM insurance_policies", (rs, rowNum) -> new Row(
+                rs.getString("policy_name"), PolicyStatus.valueOf(rs.getString("status")),
+                rs.getObject("coverage_start_date", LocalDate.class), rs.getObject("coverage_end_date", LocalDate.class),
+                rs.getObject("created_at", LocalDate.class), rs.getObject("updated_at", LocalDate.class)));
+        Long distinctSeqs = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT change_seq) FROM insurance_policies WHERE change_seq IS NOT NULL", Long.class);
+
+        // Assert
+        assertEquals(expected, stored.stream().sorted(byContent).toList());
+        assertEquals(1234L, distinctSeqs);
+    }
+}
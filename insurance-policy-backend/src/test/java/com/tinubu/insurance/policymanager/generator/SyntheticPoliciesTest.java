@@ -0,0 +1,72 @@
+package com.tinubu.insurance.policymanager.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.config.GeneratorProperties;
+import com.tinubu.insurance.policymanager.generator.SyntheticPolicies.Row;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+class SyntheticPoliciesTest {
+
+    @Test
+    void row_SameSeed_ProducesTheSameRowsInAnyOrder() {
+        // Arrange
+        GeneratorProperties properties = new GeneratorProperties();
+        SyntheticPolicies policies = new SyntheticPolicies(properties);
+        List<Row> forward = LongStream.range(0, 100).mapToObj(policies::row).toList();
+
+        // Act
+        SyntheticPolicies again = new SyntheticPolicies(properties);
+        Row[] backward = new Row[100];
+        for (int i = 99; i >= 0; i--) {
+            backward[i] = again.row(i);
+        }
+        properties.setSeed(43);
+        List<Row> otherSeed = LongStream.range(0, 100).mapToObj(new SyntheticPolicies(properties)::row).toList();
+
+        // Assert
+        assertEquals(forward, List.of(backward));
+        assertNotEquals(forward, otherSeed);
+    }
+
+    @Test
+    void row_FollowsConfiguredDistributions() {
+        // Arrange
+        GeneratorProperties properties = new GeneratorProperties();
+        properties.setStatusWeights(Map.of(PolicyStatus.ACTIVE, 3.0, PolicyStatus.INACTIVE, 1.0));
+        properties.setCoverageStartFrom(LocalDate.of(2026, 1, 1));
+        properties.setCoverageStartDays(100);
+        properties.setMinCoverageDays(10);
+        properties.setMaxCoverageDays(20);
+        properties.setNameCardinality(50);
+        SyntheticPolicies policies = new SyntheticPolicies(properties);
+
+        // Act
+        List<Row> rows = LongStream.range(0, 20_000).mapToObj(policies::row).toList();
+
+        // Assert
+        long active = rows.stream().filter(row -> row.status() == PolicyStatus.ACTIVE).count();
+        assertEquals(0.75, active / 20_000.0, 0.02);
+        Set<String> names = new HashSet<>();
+        for (Row row : rows) {
+            names.add(row.policyName());
+            assertTrue(!row.coverageStartDate().isBefore(LocalDate.of(2026, 1, 1))
+                    && row.coverageStartDate().isBefore(LocalDate.of(2026, 4, 11)));
+            long days = row.coverageEndDate().toEpochDay() - row.coverageStartDate().toEpochDay();
+            assertTrue(days >= 10 && days <= 20);
+            assertTrue(!row.createdAt().isAfter(row.coverageStartDate()));
+        }
+        assertEquals(50, names.size());
+    }
+}
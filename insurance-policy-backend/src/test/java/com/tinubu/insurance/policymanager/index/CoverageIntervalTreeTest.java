@@ -0,0 +1,87 @@
+package com.tinubu.insurance.policymanager.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CoverageIntervalTreeTest {
+
+    private record Interval(long id, int start, int end) {
+    }
+
+    @Test
+    void overlapping_RandomIntervalsAndUpdates_MatchesLinearScan() {
+        // Arrange
+        Random random = new Random(42);
+        CoverageIntervalTree<Interval> tree = new CoverageIntervalTree<>();
+        Map<Long, Interval> expected = new HashMap<>();
+        long seq = 0;
+        for (int i = 0; i < 5000; i++) {
+            long id = random.nextInt(1500);
+            if (random.nextInt(5) == 0) {
+                tree.remove(id, ++seq);
+                expected.remove(id);
+            } else {
+                int start = random.nextInt(3650);
+                Interval interval = new Interval(id, start, start + random.nextInt(400));
+                tree.put(id, interval.start(), interval.end(), ++seq, interval);
+                expected.put(id, interval);
+            }
+        }
+
+        // Act & Assert
+        assertEquals(expected.size(), tree.size());
+        for (int q = 0; q < 300; q++) {
+            int from = random.nextInt(4000);
+            int to = from + random.nextInt(60);
+            List<Interval> linear = new ArrayList<>();
+            for (Interval interval : expected.values()) {
+                if (interval.start() <= to && interval.end() >= from) {
+                    linear.add(interval);
+                }
+            }
+            linear.sort(Comparator.comparingInt(Interval::start).thenComparingLong(Interval::id));
+            assertEquals(linear, tree.overlapping(from, to));
+        }
+    }
+
+    @Test
+    void overlapping_BoundariesAreInclusive() {
+        // Arrange
+        CoverageIntervalTree<String> tree = new CoverageIntervalTree<>();
+        tree.put(1, 10, 20, 1, "a");
+
+        // Act & Assert
+        assertEquals(List.of("a"), tree.overlapping(20, 20));
+        assertEquals(List.of("a"), tree.overlapping(0, 10));
+        assertEquals(List.of(), tree.overlapping(21, 30));
+        assertEquals(List.of(), tree.overlapping(0, 9));
+    }
+
+    @Test
+    void put_OlderChangeArrivingLate_IsIgnored() {
+        // Arrange
+        CoverageIntervalTree<String> tree = new CoverageIntervalTree<>();
+        tree.put(1, 10, 20, 5, "newer");
+
+        // Act
+        boolean replaced = tree.put(1, 30, 40, 4, "older");
+        boolean removed = tree.remove(1, 3);
+
+        // Assert
+        assertFalse(replaced);
+        assertFalse(removed);
+        assertEquals(List.of("newer"), tree.overlapping(15, 15));
+        assertTrue(tree.remove(1, 6));
+        assertEquals(0, tree.size());
+    }
+}
@@ -0,0 +1,117 @@
+package com.tinubu.insurance.policymanager.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Limit;
+
+import com.tinubu.insurance.policymanager.config.ShardingProperties;
+import com.tinubu.insurance.policymanager.config.SnapshotProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.service.PolicyMapper;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+import com.tinubu.insurance.policymanager.snapshot.PolicySnapshot;
+import com.tinubu.insurance.policymanager.snapshot.PolicySnapshotStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PolicyCoverageIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    @TempDir
+    Path directory;
+
+    private InsurancePolicyRepository policyRepository;
+    private PolicyTombstoneRepository tombstoneRepository;
+    private PolicySnapshotStore snapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        policyRepository = mock(InsurancePolicyRepository.class);
+        tombstoneRepository = mock(PolicyTombstoneRepository.class);
+        SnapshotProperties properties = new SnapshotProperties();
+        properties.setEnabled(true);
+        properties.setFile(directory.resolve("coverage-index.snap"));
+        properties.setCatchUpOverlap(2);
+        snapshotStore = new PolicySnapshotStore(properties);
+    }
+
+    @Test
+    void rebuild_WithSnapshot_OnlyReadsChangesSinceIt() {
+        // Arrange
+        snapshotStore.save(new PolicySnapshot(Instant.now(), new long[] { 6 }, List.of(
+                new PolicySnapshot.Entry(5, PolicyMapper.toDTO(policy(1L, 5L))),
+                new PolicySnapshot.Entry(6, PolicyMapper.toDTO(policy(2L, 6L))))));
+        when(policyRepository.findMaxChangeSeq()).thenReturn(8L);
+        when(tombstoneRepository.findMaxChangeSeq()).thenReturn(9L);
+        when(policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(eq(4L), any(Limit.class)))
+                .thenReturn(List.of(policy(1L, 5L), policy(3L, 8L)));
+        when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(eq(4L), any(Limit.class)))
+                .thenReturn(List.of(new PolicyTombstone(9L, 2L, Instant.now())));
+        PolicyCoverageIndex index = newIndex();
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertEquals(List.of(1L, 3L), index.overlapping(START, START).orElseThrow().stream()
+                .map(InsurancePolicyDTO::getId).toList());
+        verify(policyRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void rebuild_WithSnapshotNewerThanDatabase_LoadsTheWholeTable() {
+        // Arrange
+        snapshotStore.save(new PolicySnapshot(Instant.now(), new long[] { 6 }, List.of(
+                new PolicySnapshot.Entry(6, PolicyMapper.toDTO(policy(2L, 6L))))));
+        when(policyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(policy(1L, 1L)));
+        PolicyCoverageIndex index = newIndex();
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertEquals(List.of(1L), index.overlapping(START, START).orElseThrow().stream()
+                .map(InsurancePolicyDTO::getId).toList());
+    }
+
+    private PolicyCoverageIndex newIndex() {
+        return new PolicyCoverageIndex(policyRepository, tombstoneRepository,
+                new ShardRouter(new ShardingProperties()), snapshotStore, new SimpleMeterRegistry());
+    }
+
+    private static InsurancePolicy policy(Long id, Long changeSeq) {
+        return InsurancePolicy.builder()
+                .id(id)
+                .policyName("Policy " + id)
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(START)
+                .coverageEndDate(START.plusYears(1))
+                .createdAt(START)
+                .updatedAt(START)
+                .version(0L)
+                .changeSeq(changeSeq)
+                .build();
+    }
+}
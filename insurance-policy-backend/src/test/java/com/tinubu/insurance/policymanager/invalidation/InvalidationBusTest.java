@@ -0,0 +1,127 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.config.InvalidationProperties;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+class InvalidationBusTest {
+
+    private RecordingListener listenerA;
+    private RecordingListener listenerB;
+    private InvalidationBus nodeA;
+    private InvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        listenerA = new RecordingListener();
+        listenerB = new RecordingListener();
+        nodeA = startNode("node-a", listenerA);
+        nodeB = startNode("node-b", listenerB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void onPolicyChanged_AppliesLocallyAndOnOtherNodes() throws Exception {
+        // Act
+        nodeA.onPolicyChanged(PolicyChangedEvent.deleted(policy(42L), 1L));
+
+        // Assert
+        assertEquals(List.of(Set.of(42L)), listenerA.invalidatedIds);
+        assertTrue(listenerB.awaitInvalidation(), "other node should receive the event");
+        assertEquals(Set.of(42L), listenerB.invalidatedIds.get(0));
+        // The publishing node skips its own event when it comes back over the transport
+        assertEquals(1, listenerA.invalidatedIds.size());
+    }
+
+    @Test
+    void receive_BatchFromOtherNode_IsAppliedAsOneCall() {
+        // Act
+        nodeB.receive(List.of(
+                InvalidationEvent.policy("node-a", 1L),
+                InvalidationEvent.policy("node-a", 2L),
+                InvalidationEvent.policy("node-b", 3L),
+                InvalidationEvent.policy("node-a", 1L)));
+
+        // Assert
+        assertEquals(List.of(Set.of(1L, 2L)), listenerB.invalidatedIds);
+    }
+
+    @Test
+    void receive_BatchContainingAll_InvalidatesEverything() {
+        // Act
+        nodeB.receive(List.of(InvalidationEvent.policy("node-a", 1L), InvalidationEvent.all("node-a")));
+
+        // Assert
+        assertEquals(1, listenerB.invalidateAllCalls);
+        assertTrue(listenerB.invalidatedIds.isEmpty());
+    }
+
+    @Test
+    void encodeAndDecode_RoundTrip() {
+        InvalidationEvent single = InvalidationEvent.policy("node:1", 7L);
+        InvalidationEvent all = InvalidationEvent.all("node-2");
+
+        assertEquals(single, InvalidationEvent.decode(single.encode()));
+        assertEquals(all, InvalidationEvent.decode(all.encode()));
+    }
+
+    private static InvalidationBus startNode(String nodeId, InvalidationListener listener) {
+        InvalidationProperties properties = new InvalidationProperties();
+        properties.setNodeId(nodeId);
+        InvalidationBus bus = new InvalidationBus(new InJvmInvalidationTransport(), List.of(listener), properties);
+        bus.start();
+        return bus;
+    }
+
+    private static InsurancePolicy policy(Long id) {
+        return InsurancePolicy.builder()
+                .id(id)
+                .policyName("Policy " + id)
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build();
+    }
+
+    private static class RecordingListener implements InvalidationListener {
+        final List<Set<Long>> invalidatedIds = new CopyOnWriteArrayList<>();
+        volatile int invalidateAllCalls;
+
+        @Override
+        public void invalidatePolicies(Set<Long> policyIds) {
+            invalidatedIds.add(policyIds);
+        }
+
+        @Override
+        public void invalidateAll() {
+            invalidateAllCalls++;
+        }
+
+        boolean awaitInvalidation() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (invalidatedIds.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return !invalidatedIds.isEmpty();
+        }
+    }
+}
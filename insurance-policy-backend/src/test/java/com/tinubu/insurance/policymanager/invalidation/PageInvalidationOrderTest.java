@@ -0,0 +1,110 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.tinubu.insurance.policymanager.cache.PageResponseCache;
+import com.tinubu.insurance.policymanager.cache.PageResponseCache.CachedPage;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.readmodel.PolicyReadModel;
+import com.tinubu.insurance.policymanager.repository.ChangeSequenceRepository;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.service.InsurancePolicyService;
+
+/**
+ * A page request that lands right after the page cache moves to a new generation must
+ * already see the write behind it, or the stale page is kept for that generation.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PageInvalidationOrderTest {
+
+    @MockitoSpyBean
+    private PageResponseCache pageCache;
+
+    @Autowired
+    private PolicyReadModel readModel;
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private ChangeSequenceRepository changeSequence;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    private final List<String> pagesLoadedOnInvalidation = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!readModel.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(readModel.isReady(), "read model should load");
+        // Serve a page the moment the generation moves on, as a concurrent request would
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            pagesLoadedOnInvalidation.add(newestPage());
+            return null;
+        }).when(pageCache).invalidatePolicies(anySet());
+    }
+
+    @Test
+    void createPolicy_PageLoadedAsTheCacheIsInvalidated_SeesTheNewPolicy() {
+        // Act
+        InsurancePolicyDTO created = policyService.createPolicy(InsurancePolicyDTO.builder()
+                .policyName("Ordered local write")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build());
+
+        // Assert
+        assertTrue(pagesLoadedOnInvalidation.get(0).contains("\"id\":" + created.getId() + ","));
+        assertTrue(newestPage().contains("\"id\":" + created.getId() + ","), "the cached page should not be stale");
+    }
+
+    @Test
+    void receive_PageLoadedAsTheCacheIsInvalidated_SeesTheRemoteWrite() {
+        // Arrange: written by another node, so this node only learns of it from the bus
+        InsurancePolicy remote = policyRepository.save(InsurancePolicy.builder()
+                .policyName("Ordered remote write")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .createdAt(LocalDate.now())
+                .updatedAt(LocalDate.now())
+                .changeSeq(changeSequence.next())
+                .build());
+
+        // Act
+        invalidationBus.receive(List.of(InvalidationEvent.policy("other-node", remote.getId())));
+
+        // Assert
+        assertTrue(pagesLoadedOnInvalidation.get(0).contains("\"id\":" + remote.getId() + ","));
+        assertTrue(newestPage().contains("\"id\":" + remote.getId() + ","), "the cached page should not be stale");
+    }
+
+    private String newestPage() {
+        CachedPage page = pageCache.get(0, 5, "id", "desc", () -> policyService.loadPoliciesPage(0, 5, "id", "desc"));
+        return new String(page.body(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tinubu.insurance.policymanager.invalidation;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresInvalidationTransportTest {
+
+    @Mock
+    private DataSource pooledDataSource;
+
+    @Mock
+    private DataSource listenDataSource;
+
+    @Mock
+    private Connection listenConnection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Test
+    void start_ListensOnItsOwnConnection_AndClosesItOnStop() throws Exception {
+        // Arrange
+        when(listenDataSource.getConnection()).thenReturn(listenConnection);
+        when(listenConnection.createStatement()).thenReturn(statement);
+        when(listenConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        // Wait for notifications like the driver does, rather than spinning
+        when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        PostgresInvalidationTransport transport =
+                new PostgresInvalidationTransport(pooledDataSource, listenDataSource, "policy_invalidation");
+
+        // Act
+        transport.start(events -> { });
+        verify(pgConnection, timeout(5000).atLeastOnce()).getNotifications(anyInt());
+        transport.stop();
+
+        // Assert
+        verify(statement).execute("LISTEN policy_invalidation");
+        verify(listenConnection, timeout(5000)).close();
+        verifyNoInteractions(pooledDataSource);
+    }
+}
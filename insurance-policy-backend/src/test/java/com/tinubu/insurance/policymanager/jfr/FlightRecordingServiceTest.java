@@ -0,0 +1,62 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.config.FlightRecorderProperties;
+import com.tinubu.insurance.policymanager.dto.RecordingResponse;
+import com.tinubu.insurance.policymanager.exception.PolicyConflictException;
+import com.tinubu.insurance.policymanager.exception.RecordingNotFoundException;
+
+class FlightRecordingServiceTest {
+
+    private final FlightRecorderProperties properties = new FlightRecorderProperties();
+    private FlightRecordingService recordingService;
+
+    @AfterEach
+    void tearDown() {
+        recordingService.closeAll();
+    }
+
+    @Test
+    void start_DurationAboveMax_IsCappedAndSecondStartRejected() throws Exception {
+        // Arrange
+        properties.setMaxDuration(Duration.ofSeconds(30));
+        recordingService = new FlightRecordingService(properties);
+
+        // Act
+        RecordingResponse started = recordingService.start(Duration.ofHours(1));
+
+        // Assert
+        assertEquals("RUNNING", started.getState());
+        assertEquals(30L, started.getDurationSeconds());
+        assertThrows(PolicyConflictException.class, () -> recordingService.start(null));
+    }
+
+    @Test
+    void stopAndDump_WritesRecordingFile() throws Exception {
+        // Arrange
+        recordingService = new FlightRecordingService(properties);
+        long id = recordingService.start(Duration.ofSeconds(30)).getId();
+
+        // Act
+        RecordingResponse stopped = recordingService.stop(id);
+        Path file = recordingService.dump(id);
+
+        // Assert
+        assertEquals("STOPPED", stopped.getState());
+        assertTrue(Files.size(file) > 0);
+        Files.delete(file);
+        recordingService.discard(id);
+        assertTrue(recordingService.list().isEmpty());
+        assertThrows(RecordingNotFoundException.class, () -> recordingService.stop(id));
+    }
+}
@@ -0,0 +1,144 @@
+package com.tinubu.insurance.policymanager.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.service.InsurancePolicyService;
+import com.tinubu.insurance.policymanager.service.PolicyHistoryService;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PolicyEventAspectTest {
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private PolicyHistoryService historyService;
+
+    @Autowired
+    private PolicyEventAspect aspect;
+
+    @Test
+    void createPolicy_WhileRecording_EmitsOperationEventWithTimings() throws Exception {
+        // Arrange
+        Path file = Files.createTempFile("policy-events", ".jfr");
+        InsurancePolicyDTO created;
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(PolicyOperationEvent.class);
+            recording.start();
+            created = policyService.createPolicy(InsurancePolicyDTO.builder()
+                    .policyName("Recorded")
+                    .status(PolicyStatus.ACTIVE)
+                    .coverageStartDate(LocalDate.now())
+                    .coverageEndDate(LocalDate.now().plusYears(1))
+                    .build());
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        // Assert
+        RecordedEvent event = events.stream()
+                .filter(e -> "InsurancePolicyService.createPolicy".equals(e.getString("operation")))
+                .findFirst().orElseThrow();
+        assertEquals(created.getId(), event.getLong("policyId"));
+        assertEquals(1, event.getLong("rows"));
+        assertTrue(event.getDuration("databaseTime").toNanos() > 0);
+        assertTrue(event.getDuration("mappingTime").toNanos() > 0);
+        assertTrue(event.getDuration().compareTo(event.getDuration("databaseTime")) >= 0);
+    }
+
+    @Test
+    void getHistory_WhileRecording_TakesThePolicyIdFromTheMarkedParameter() throws Throwable {
+        // Arrange
+        InsurancePolicyDTO created = policyService.createPolicy(newPolicy("History"));
+
+        // Act
+        List<RecordedEvent> events = record(() -> historyService.getHistory(created.getId(), Long.MAX_VALUE - 1, 10));
+
+        // Assert
+        RecordedEvent event = events.stream()
+                .filter(e -> "PolicyHistoryService.getHistory".equals(e.getString("operation")))
+                .findFirst().orElseThrow();
+        assertEquals(created.getId(), event.getLong("policyId"));
+    }
+
+    @Test
+    void traceOperation_LongParameterThatIsNotAPolicyId_RecordsNoPolicyId() throws Throwable {
+        // Arrange
+        Method method = CursorService.class.getMethod("changesAfter", Long.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getDeclaringType()).thenReturn(CursorService.class);
+        when(signature.getName()).thenReturn(method.getName());
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {42L});
+        when(joinPoint.proceed()).thenReturn(List.of());
+
+        // Act
+        List<RecordedEvent> events = record(() -> aspect.traceOperation(joinPoint));
+
+        // Assert
+        RecordedEvent event = events.stream()
+                .filter(e -> "CursorService.changesAfter".equals(e.getString("operation")))
+                .findFirst().orElseThrow();
+        assertEquals(0, event.getLong("policyId"));
+    }
+
+    private static List<RecordedEvent> record(Operation operation) throws Throwable {
+        Path file = Files.createTempFile("policy-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PolicyOperationEvent.class);
+            recording.start();
+            operation.call();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        return events;
+    }
+
+    private static InsurancePolicyDTO newPolicy(String name) {
+        return InsurancePolicyDTO.builder()
+                .policyName(name)
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build();
+    }
+
+    private interface Operation {
+        Object call() throws Throwable;
+    }
+
+    static class CursorService {
+        public List<Long> changesAfter(Long cursor) {
+            return List.of();
+        }
+    }
+}
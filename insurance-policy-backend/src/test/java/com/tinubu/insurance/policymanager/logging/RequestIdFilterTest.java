@@ -0,0 +1,50 @@
+package com.tinubu.insurance.policymanager.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    void doFilter_WithCallerRequestId_LogsAndEchoesIt() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/policies/1");
+        request.addHeader(RequestIdFilter.HEADER, "client-42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> logged.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        // Assert
+        assertEquals("client-42", logged.get());
+        assertEquals("client-42", response.getHeader(RequestIdFilter.HEADER));
+        assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_WithUnsafeRequestId_GeneratesOne() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/policies/1");
+        request.addHeader(RequestIdFilter.HEADER, "forged\nlog line");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Assert
+        String requestId = response.getHeader(RequestIdFilter.HEADER);
+        assertNotEquals("forged\nlog line", requestId);
+        assertEquals(36, requestId.length());
+    }
+}
@@ -0,0 +1,93 @@
+package com.tinubu.insurance.policymanager.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.tinubu.insurance.policymanager.config.LoggingProperties;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class SqlCaptureDataSourceTest {
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger sqlLogger = (Logger) LoggerFactory.getLogger("policy.sql");
+    private final DriverManagerDataSource database =
+            new DriverManagerDataSource("jdbc:h2:mem:sql_capture;DB_CLOSE_DELAY=-1", "sa", "");
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        sqlLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlLogger.detachAppender(appender);
+    }
+
+    @Test
+    void slowStatement_IsLoggedWithItsBindValues() throws Exception {
+        // Arrange
+        LoggingProperties.Sql settings = new LoggingProperties.Sql();
+        settings.setSlowThreshold(Duration.ZERO);
+        settings.setMaxBindLength(5);
+        SqlCaptureDataSource dataSource = new SqlCaptureDataSource(database, settings);
+
+        // Act
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT ? + ?, ?")) {
+            statement.setInt(1, 40);
+            statement.setInt(2, 2);
+            statement.setString(3, "truncated");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                assertEquals(42, resultSet.getInt(1));
+            }
+        }
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertTrue(event.getFormattedMessage().endsWith("SELECT ? + ?, ?"));
+        Map<String, Object> keyValues = event.getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+        assertEquals("slow", keyValues.get("reason"));
+        assertEquals("[40, 2, trunc...]", keyValues.get("binds"));
+    }
+
+    @Test
+    void fastStatement_WithoutSampling_IsNotLogged() throws Exception {
+        // Arrange
+        LoggingProperties.Sql settings = new LoggingProperties.Sql();
+        settings.setSlowThreshold(Duration.ofMinutes(1));
+        SqlCaptureDataSource dataSource = new SqlCaptureDataSource(database, settings);
+
+        // Act
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : List.of("SELECT 1", "SELECT 2")) {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.execute();
+                }
+            }
+        }
+
+        // Assert
+        assertTrue(appender.list.isEmpty());
+    }
+}
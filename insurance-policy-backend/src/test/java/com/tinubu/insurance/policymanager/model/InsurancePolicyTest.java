@@ -58,15 +58,15 @@ class InsurancePolicyTest {
     }
     
     @Test
-    void validateDates_StartDateInPast_ChecksInvalidDates() throws Exception {
+    void validateDates_EndDateBeforeStartDate_ThrowsIllegalArgumentException() throws Exception {
         // Arrange
-        LocalDate pastDate = LocalDate.now().minusDays(1); // Yesterday
-        LocalDate endDate = LocalDate.now().plusMonths(6);
+        LocalDate startDate = LocalDate.now().plusDays(10);
+        LocalDate endDate = startDate.minusDays(1);
         
         InsurancePolicy policy = InsurancePolicy.builder()
                 .policyName("Test Policy")
                 .status(PolicyStatus.ACTIVE)
-                .coverageStartDate(pastDate)
+                .coverageStartDate(startDate)
                 .coverageEndDate(endDate)
                 .build();
         
@@ -82,7 +82,7 @@ class InsurancePolicyTest {
             // Assert - extract the actual exception from the InvocationTargetException
             Throwable cause = e.getCause();
             assertTrue(cause instanceof IllegalArgumentException);
-            assertEquals("Coverage start date cannot be in the past", cause.getMessage());
+            assertEquals("Coverage end date must be after start date", cause.getMessage());
         }
     }
     
@@ -0,0 +1,49 @@
+package com.tinubu.insurance.policymanager.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.config.PoolProperties.Adaptive;
+import com.tinubu.insurance.policymanager.pool.AdaptivePoolSizer.Sample;
+
+class AdaptivePoolSizerTest {
+
+    private static final long MS = 1_000_000;
+
+    private final Adaptive settings = new Adaptive();
+
+    @Test
+    void nextSize_ThreadsWaitingForConnections_GrowsUpToMax() {
+        // Arrange
+        Sample waiting = new Sample(20 * MS, 3, 10, 10 * MS);
+
+        // Act & Assert
+        assertEquals(12, AdaptivePoolSizer.nextSize(10, waiting, settings));
+        assertEquals(32, AdaptivePoolSizer.nextSize(31, waiting, settings));
+    }
+
+    @Test
+    void nextSize_HoldTimeAboveTarget_BacksOffEvenWhileThreadsWait() {
+        // Arrange
+        Sample slowDatabase = new Sample(50 * MS, 8, 20, 500 * MS);
+
+        // Act & Assert
+        assertEquals(16, AdaptivePoolSizer.nextSize(20, slowDatabase, settings));
+        assertEquals(4, AdaptivePoolSizer.nextSize(4, slowDatabase, settings));
+    }
+
+    @Test
+    void nextSize_MostlyIdle_ShrinksByOne() {
+        // Arrange
+        settings.setWaitTarget(Duration.ofMillis(5));
+        Sample idle = new Sample(0, 0, 2, MS);
+        Sample busy = new Sample(MS, 0, 8, MS);
+
+        // Act & Assert
+        assertEquals(9, AdaptivePoolSizer.nextSize(10, idle, settings));
+        assertEquals(10, AdaptivePoolSizer.nextSize(10, busy, settings));
+    }
+}
@@ -0,0 +1,49 @@
+package com.tinubu.insurance.policymanager.pool;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.service.InsurancePolicyService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class HoldTimingDataSourceTest {
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void createPolicy_ConnectionHoldTimedUnderServiceMethod() {
+        // Arrange
+        long before = holds("InsurancePolicyService.createPolicy");
+
+        // Act
+        policyService.createPolicy(InsurancePolicyDTO.builder()
+                .policyName("Hold timing")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build());
+
+        // Assert
+        assertTrue(holds("InsurancePolicyService.createPolicy") > before);
+        assertTrue(meterRegistry.find("hikaricp.connections.acquire").timer() != null);
+    }
+
+    private long holds(String operation) {
+        Timer timer = meterRegistry.find("policy.pool.connection.hold").tag("operation", operation).timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
@@ -0,0 +1,129 @@
+package com.tinubu.insurance.policymanager.readmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.tinubu.insurance.policymanager.config.ReadModelProperties;
+import com.tinubu.insurance.policymanager.config.ShardingProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.service.PolicyMapper;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PolicyReadModelTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    private final InsurancePolicyRepository policyRepository = mock(InsurancePolicyRepository.class);
+
+    @Test
+    void findPage_ByStatusAndStartDate_FollowsWritesAppliedAfterTheLoad() {
+        // Arrange
+        InsurancePolicy renamed = policy(2L, "Bravo", PolicyStatus.ACTIVE, 2L, 1);
+        when(policyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenReturn(List.of(
+                policy(1L, "Charlie", PolicyStatus.ACTIVE, 1L, 2), renamed,
+                policy(3L, "Alpha", PolicyStatus.INACTIVE, 3L, 0), policy(4L, "Bravo", PolicyStatus.ACTIVE, 4L, 1)));
+        PolicyReadModel readModel = newReadModel(false);
+        readModel.rebuild();
+        PageRequest byStartDesc = PageRequest.of(0, 10, Sort.by("coverageStartDate").descending());
+        assertEquals(List.of(1L, 2L, 4L), ids(readModel.findPage(byStartDesc, PolicyStatus.ACTIVE).orElseThrow()));
+
+        // Act
+        readModel.onPolicyChanged(PolicyChangedEvent.updated(renamed, renamed.toBuilder().policyName("Delta")
+                .status(PolicyStatus.INACTIVE).coverageStartDate(START.plusDays(3)).changeSeq(5L).build()));
+        readModel.onPolicyChanged(PolicyChangedEvent.deleted(policy(1L, "Charlie", PolicyStatus.ACTIVE, 1L, 2), 6L));
+        // Stale write from before the update, e.g. replayed after a load
+        readModel.onPolicyChanged(PolicyChangedEvent.created(renamed));
+
+        // Assert
+        assertEquals(List.of(4L), ids(readModel.findPage(byStartDesc, PolicyStatus.ACTIVE).orElseThrow()));
+        Page<InsurancePolicyDTO> inactive = readModel.findPage(byStartDesc, PolicyStatus.INACTIVE).orElseThrow();
+        assertEquals(List.of(2L, 3L), ids(inactive));
+        assertEquals("Delta", inactive.getContent().get(0).getPolicyName());
+        assertEquals(List.of(3L, 4L, 2L), ids(readModel.findPage(
+                PageRequest.of(0, 10, Sort.by("coverageStartDate")), null).orElseThrow()));
+    }
+
+    @Test
+    void findPage_ByName_IsLeftToTheDatabase() {
+        // Arrange
+        when(policyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(policy(1L, "alpha", PolicyStatus.ACTIVE, 1L), policy(2L, "Bravo", PolicyStatus.ACTIVE, 2L)));
+        PolicyReadModel readModel = newReadModel(false);
+        readModel.rebuild();
+
+        // Act & Assert
+        assertTrue(readModel.findPage(PageRequest.of(0, 10, Sort.by("policyName")), null).isEmpty());
+    }
+
+    @Test
+    void findAll_OffHeap_ReturnsTheSameValuesAsTheDatabase() {
+        // Arrange
+        List<InsurancePolicy> policies = List.of(policy(7L, "Alpha", PolicyStatus.ACTIVE, 1L),
+                policy(9L, "Bravo", PolicyStatus.INACTIVE, 2L));
+        when(policyRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenReturn(policies);
+        PolicyReadModel readModel = newReadModel(true);
+        assertTrue(readModel.findAll().isEmpty());
+
+        // Act
+        readModel.rebuild();
+        Page<Map<String, Object>> sparse = readModel.findPage(PageRequest.of(1, 1, Sort.by("id")), null,
+                EnumSet.of(PolicyField.ID, PolicyField.STATUS, PolicyField.COVERAGE_END_DATE)).orElseThrow();
+
+        // Assert
+        assertEquals(policies.stream().map(PolicyMapper::toDTO).toList(), readModel.findAll().orElseThrow());
+        assertEquals(List.of(Map.of("id", 9L, "status", PolicyStatus.INACTIVE, "coverageEndDate", START.plusYears(1))),
+                sparse.getContent());
+        assertEquals(2, sparse.getTotalPages());
+    }
+
+    private PolicyReadModel newReadModel(boolean offHeap) {
+        ReadModelProperties properties = new ReadModelProperties();
+        properties.setOffHeap(offHeap);
+        return new PolicyReadModel(policyRepository, new ShardRouter(new ShardingProperties()), properties,
+                new SimpleMeterRegistry());
+    }
+
+    private static List<Long> ids(Page<InsurancePolicyDTO> page) {
+        return page.getContent().stream().map(InsurancePolicyDTO::getId).toList();
+    }
+
+    private static InsurancePolicy policy(Long id, String name, PolicyStatus status, Long changeSeq) {
+        return policy(id, name, status, changeSeq, 0);
+    }
+
+    private static InsurancePolicy policy(Long id, String name, PolicyStatus status, Long changeSeq, int startDay) {
+        return InsurancePolicy.builder()
+                .id(id)
+                .policyName(name)
+                .status(status)
+                .coverageStartDate(START.plusDays(startDay))
+                .coverageEndDate(START.plusYears(1))
+                .createdAt(START)
+                .updatedAt(START)
+                .version(0L)
+                .changeSeq(changeSeq)
+                .build();
+    }
+}
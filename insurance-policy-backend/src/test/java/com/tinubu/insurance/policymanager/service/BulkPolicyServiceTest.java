@@ -0,0 +1,92 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tinubu.insurance.policymanager.dto.BulkOperationResponse;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+
+/**
+ * Runs the bulk statements against the embedded database, since most of their
+ * behaviour lives in SQL.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class BulkPolicyServiceTest {
+
+    private static final int POLICIES = 1100;
+    private static final LocalDate END = LocalDate.of(2090, 1, 1);
+
+    @Autowired
+    private BulkPolicyService bulkPolicyService;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private PolicyTombstoneRepository tombstoneRepository;
+
+    @Test
+    void updateStatusThenDeleteMatching_ManyPolicies_RunInChunks() {
+        // Arrange
+        List<InsurancePolicy> policies = new ArrayList<>();
+        for (int i = 0; i < POLICIES; i++) {
+            policies.add(InsurancePolicy.builder()
+                    .policyName("Bulk " + i)
+                    .status(PolicyStatus.ACTIVE)
+                    .coverageStartDate(LocalDate.now())
+                    .coverageEndDate(END)
+                    .createdAt(LocalDate.now())
+                    .updatedAt(LocalDate.now())
+                    .build());
+        }
+        List<Long> ids = policyRepository.saveAll(policies).stream().map(InsurancePolicy::getId).toList();
+
+        // Act
+        BulkOperationResponse updated = bulkPolicyService.updateStatus(ids, PolicyStatus.INACTIVE);
+        BulkOperationResponse repeated = bulkPolicyService.updateStatus(ids, PolicyStatus.INACTIVE);
+
+        // Assert
+        assertEquals(POLICIES, updated.getAffected());
+        assertEquals(3, updated.getChunks());
+        assertTrue(updated.isCompleted());
+        assertEquals(0, repeated.getAffected());
+        List<InsurancePolicy> reloaded = policyRepository.findAllById(ids);
+        assertTrue(reloaded.stream().allMatch(p -> p.getStatus() == PolicyStatus.INACTIVE && p.getVersion() == 1));
+        assertEquals(POLICIES, new HashSet<>(reloaded.stream().map(InsurancePolicy::getChangeSeq).toList()).size());
+
+        // Act
+        BulkOperationResponse deleted = bulkPolicyService.deleteMatching(PolicyStatus.INACTIVE, END.plusDays(1));
+
+        // Assert
+        assertEquals(POLICIES, deleted.getAffected());
+        assertTrue(deleted.isCompleted());
+        assertTrue(policyRepository.findAllById(ids).isEmpty());
+        assertEquals(POLICIES, tombstoneRepository.findByPolicyIdIn(ids).size());
+    }
+
+    @Test
+    void deleteMatching_WithoutCriteria_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> bulkPolicyService.deleteMatching(null, null));
+    }
+
+    @Test
+    void deleteMatching_NothingMatches_ReportsZero() {
+        BulkOperationResponse result = bulkPolicyService.deleteMatching(null, LocalDate.of(1970, 1, 1));
+
+        assertEquals(0, result.getAffected());
+        assertEquals(0, result.getChunks());
+    }
+}
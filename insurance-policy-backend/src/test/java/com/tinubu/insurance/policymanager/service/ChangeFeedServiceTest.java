@@ -0,0 +1,185 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.tinubu.insurance.policymanager.config.ShardingProperties;
+import com.tinubu.insurance.policymanager.dto.ChangeFeedResponse;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeDTO.Operation;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.repository.ChangeSequenceRepository;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    @Mock
+    private InsurancePolicyRepository policyRepository;
+
+    @Mock
+    private PolicyTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeSequenceRepository changeSequence;
+
+    @Mock
+    private ChangeFeedHorizon horizon;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @InjectMocks
+    private ChangeFeedService changeFeedService;
+
+    @Test
+    void getChangesSince_MergesUpsertsAndTombstonesInSequenceOrder() {
+        // Arrange
+        when(horizon.horizon()).thenReturn(new long[] {Long.MAX_VALUE});
+        when(policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, Limit.of(11)))
+                .thenReturn(List.of(policy(1L, 11L), policy(3L, 14L)));
+        when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, Limit.of(11)))
+                .thenReturn(List.of(tombstone(2L, 12L)));
+
+        // Act
+        ChangeFeedResponse response = changeFeedService.getChangesSince("10", 10);
+
+        // Assert
+        List<PolicyChangeDTO> changes = response.getChanges();
+        assertEquals(List.of(11L, 12L, 14L), changes.stream().map(PolicyChangeDTO::getSeq).toList());
+        assertEquals(Operation.UPSERT, changes.get(0).getOperation());
+        assertEquals("Policy 1", changes.get(0).getPolicy().getPolicyName());
+        assertEquals(Operation.DELETE, changes.get(1).getOperation());
+        assertEquals(2L, changes.get(1).getPolicyId());
+        assertNull(changes.get(1).getPolicy());
+        assertEquals("14", response.getNextSince());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    void getChangesSince_MoreChangesThanLimit_ReportsHasMore() {
+        // Arrange
+        when(horizon.horizon()).thenReturn(new long[] {Long.MAX_VALUE});
+        when(policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(policy(1L, 1L), policy(2L, 3L), policy(4L, 5L)));
+        when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(tombstone(3L, 4L)));
+
+        // Act
+        ChangeFeedResponse response = changeFeedService.getChangesSince("0", 2);
+
+        // Assert
+        assertEquals(List.of(1L, 3L), response.getChanges().stream().map(PolicyChangeDTO::getSeq).toList());
+        assertEquals("3", response.getNextSince());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    void getChangesSince_NoChanges_KeepsCursor() {
+        // Arrange
+        when(horizon.horizon()).thenReturn(new long[] {Long.MAX_VALUE});
+        when(policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(42L, Limit.of(101))).thenReturn(List.of());
+        when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(42L, Limit.of(101))).thenReturn(List.of());
+
+        // Act
+        ChangeFeedResponse response = changeFeedService.getChangesSince("42", 100);
+
+        // Assert
+        assertTrue(response.getChanges().isEmpty());
+        assertEquals("42", response.getNextSince());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    void getChangesSince_ChangesAboveHorizon_ReturnedLastWithoutMovingCursor() {
+        // Arrange
+        when(horizon.horizon()).thenReturn(new long[] {12L});
+        when(policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, Limit.of(11)))
+                .thenReturn(List.of(policy(1L, 11L), policy(3L, 14L)));
+        when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(10L, Limit.of(11)))
+                .thenReturn(List.of(tombstone(2L, 12L)));
+
+        // Act
+        ChangeFeedResponse response = changeFeedService.getChangesSince("10", 10);
+
+        // Assert
+        assertEquals(List.of(11L, 12L, 14L), response.getChanges().stream().map(PolicyChangeDTO::getSeq).toList());
+        assertEquals("12", response.getNextSince());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    void getChangesSince_FullPageOfSettledChanges_LeavesOutUnsettledOnes() {
+        // Arrange
+        when(horizon.horizon()).thenReturn(new long[] {3L});
+        when(policyRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(policy(1L, 1L), policy(2L, 2L), policy(4L, 5L)));
+        when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(tombstone(3L, 3L)));
+
+        // Act
+        ChangeFeedResponse response = changeFeedService.getChangesSince("0", 2);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), response.getChanges().stream().map(PolicyChangeDTO::getSeq).toList());
+        assertEquals("2", response.getNextSince());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    void getChangesSince_LimitOutOfRange_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getChangesSince("0", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> changeFeedService.getChangesSince("0", ChangeFeedService.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void parseCursor_OnePositionOrOnePerShard() {
+        assertArrayEquals(new long[] {7, 7, 7}, ChangeFeedService.parseCursor("7", 3));
+        assertArrayEquals(new long[] {120, 97, 31}, ChangeFeedService.parseCursor("120,97,31", 3));
+        assertEquals("120,97,31", ChangeFeedService.formatCursor(new long[] {120, 97, 31}));
+        assertThrows(IllegalArgumentException.class, () -> ChangeFeedService.parseCursor("1,2", 3));
+        assertThrows(IllegalArgumentException.class, () -> ChangeFeedService.parseCursor("1,x,3", 3));
+        assertThrows(IllegalArgumentException.class, () -> ChangeFeedService.parseCursor("-1", 3));
+    }
+
+    private static InsurancePolicy policy(Long id, Long changeSeq) {
+        return InsurancePolicy.builder()
+                .id(id)
+                .policyName("Policy " + id)
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .changeSeq(changeSeq)
+                .build();
+    }
+
+    private static PolicyTombstone tombstone(Long policyId, Long changeSeq) {
+        return PolicyTombstone.builder()
+                .policyId(policyId)
+                .changeSeq(changeSeq)
+                .deletedAt(Instant.now())
+                .build();
+    }
+}
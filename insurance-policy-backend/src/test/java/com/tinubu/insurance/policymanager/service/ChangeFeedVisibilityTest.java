@@ -0,0 +1,127 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tinubu.insurance.policymanager.dto.ChangeFeedResponse;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeDTO;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+
+/**
+ * Two writers commit in the opposite order of their change sequence values.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "policy.change-feed.visibility-window=2s",
+        "policy.change-feed.sample-interval=50ms"
+})
+class ChangeFeedVisibilityTest {
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ChangeFeedHorizon horizon;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void getChangesSince_LowerSequenceCommitsLast_IsStillDelivered() throws Exception {
+        // Arrange
+        InsurancePolicyDTO early = createPolicy("Commits late");
+        InsurancePolicyDTO late = createPolicy("Commits first");
+        awaitSettled(policyRepository.findMaxChangeSeq());
+        String cursor = readWholeFeed("0");
+        CountDownLatch stamped = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    policyService.updatePolicy(early.getId(), early.toBuilder().policyName("Late commit").build());
+                    stamped.countDown();
+                    await(release);
+                }));
+        assertTrue(stamped.await(10, TimeUnit.SECONDS));
+        policyService.updatePolicy(late.getId(), late.toBuilder().policyName("Early commit").build());
+
+        // Act
+        ChangeFeedResponse beforeSlowCommit = changeFeedService.getChangesSince(cursor, ChangeFeedService.MAX_LIMIT);
+        release.countDown();
+        slowWriter.get(10, TimeUnit.SECONDS);
+        ChangeFeedResponse afterSlowCommit = changeFeedService.getChangesSince(beforeSlowCommit.getNextSince(),
+                ChangeFeedService.MAX_LIMIT);
+
+        // Assert
+        Map<String, Long> seqs = afterSlowCommit.getChanges().stream()
+                .filter(change -> change.getPolicy() != null)
+                .collect(Collectors.toMap(change -> change.getPolicy().getPolicyName(), PolicyChangeDTO::getSeq,
+                        Math::max));
+        assertTrue(beforeSlowCommit.getChanges().stream()
+                .anyMatch(change -> change.getPolicyId().equals(late.getId())));
+        assertTrue(seqs.containsKey("Late commit"), "the change committed late is delivered");
+        assertTrue(seqs.containsKey("Early commit"), "changes above the horizon are returned again");
+        assertTrue(seqs.get("Late commit") < seqs.get("Early commit"));
+        assertEquals(String.valueOf(seqs.get("Early commit")), readWholeFeedOnceSettled(seqs.get("Early commit")));
+    }
+
+    /**
+     * Follows the feed until its cursor reaches {@code seq}, which happens once the
+     * visibility window has passed.
+     */
+    private String readWholeFeedOnceSettled(long seq) throws InterruptedException {
+        awaitSettled(seq);
+        return readWholeFeed("0");
+    }
+
+    private void awaitSettled(long seq) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && horizon.horizon()[0] < seq; attempt++) {
+            Thread.sleep(50);
+        }
+    }
+
+    private String readWholeFeed(String since) {
+        ChangeFeedResponse feed;
+        do {
+            feed = changeFeedService.getChangesSince(since, ChangeFeedService.MAX_LIMIT);
+            since = feed.getNextSince();
+        } while (feed.isHasMore());
+        return since;
+    }
+
+    private InsurancePolicyDTO createPolicy(String name) {
+        return policyService.createPolicy(InsurancePolicyDTO.builder()
+                .policyName(name)
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.exception.PolicyConflictException;
+import com.tinubu.insurance.policymanager.exception.PolicyPreconditionFailedException;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+/**
+ * Hammers a single policy with read-modify-write increments from several threads.
+ * With optimistic locking every increment either lands or is retried, so the final
+ * counter must equal the number of successful updates.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class InsurancePolicyConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 25;
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Test
+    void updatePolicy_ConcurrentIncrements_NoUpdateIsLost() throws Exception {
+        // Arrange
+        InsurancePolicyDTO created = policyService.createPolicy(InsurancePolicyDTO.builder()
+                .policyName("0")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.now())
+                .coverageEndDate(LocalDate.now().plusYears(1))
+                .build());
+        Long id = created.getId();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                int done = 0;
+                while (done < INCREMENTS_PER_THREAD) {
+                    InsurancePolicyDTO current = policyService.getPolicyById(id);
+                    InsurancePolicyDTO next = current.toBuilder()
+                            .policyName(String.valueOf(Integer.parseInt(current.getPolicyName()) + 1))
+                            .build();
+                    try {
+                        policyService.updatePolicy(id, next, current.getVersion());
+                        done++;
+                    } catch (PolicyConflictException | ObjectOptimisticLockingFailureException
+                            | PolicyPreconditionFailedException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        InsurancePolicyDTO result = policyService.getPolicyById(id);
+        int expected = THREADS * INCREMENTS_PER_THREAD;
+        assertEquals(String.valueOf(expected), result.getPolicyName());
+        assertEquals(created.getVersion() + expected, result.getVersion());
+        assertTrue(conflicts.get() > 0, "the test should actually produce contention");
+    }
+}
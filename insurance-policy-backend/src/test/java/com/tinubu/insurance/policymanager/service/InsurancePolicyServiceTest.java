@@ -2,6 +2,7 @@ package com.tinubu.insurance.policymanager.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -10,10 +11,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,20 +25,75 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.tinubu.insurance.policymanager.cache.PolicyCache;
+import com.tinubu.insurance.policymanager.config.ShardingProperties;
+import com.tinubu.insurance.policymanager.dto.BatchPolicyResponse;
 import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PagedResponse;
+import com.tinubu.insurance.policymanager.event.PolicyChangedEvent;
+import com.tinubu.insurance.policymanager.exception.PolicyConflictException;
 import com.tinubu.insurance.policymanager.exception.PolicyNotFoundException;
+import com.tinubu.insurance.policymanager.exception.PolicyPreconditionFailedException;
+import com.tinubu.insurance.policymanager.exception.PolicyValidationException;
+import com.tinubu.insurance.policymanager.index.PolicyCoverageIndex;
 import com.tinubu.insurance.policymanager.model.InsurancePolicy;
 import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.model.PolicyTombstone;
+import com.tinubu.insurance.policymanager.readmodel.PolicyReadModel;
+import com.tinubu.insurance.policymanager.repository.ChangeSequenceRepository;
 import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.shard.ShardRouter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class InsurancePolicyServiceTest {
 
+    private static final LocalDate TODAY = LocalDate.of(2031, 3, 1);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
     @Mock
     private InsurancePolicyRepository policyRepository;
 
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private PolicyCache policyCache = new PolicyCache(100);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeSequenceRepository changeSequence;
+
+    @Mock
+    private PolicyTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private PolicyCoverageIndex coverageIndex;
+
+    @Mock
+    private PolicyReadModel readModel;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @Spy
+    private PolicyValidator policyValidator = new PolicyValidator(CLOCK);
+
+    @Spy
+    private Clock clock = CLOCK;
+
     @InjectMocks
     private InsurancePolicyService policyService;
 
@@ -43,7 +102,7 @@ class InsurancePolicyServiceTest {
     
     @BeforeEach
     void setUp() {
-        LocalDate today = LocalDate.now();
+        LocalDate today = TODAY;
         
         testPolicy = InsurancePolicy.builder()
                 .id(1L)
@@ -107,6 +166,22 @@ class InsurancePolicyServiceTest {
         verify(policyRepository, times(1)).findById(999L);
     }
 
+    @Test
+    void findPolicyById_WithInvalidId_ReturnsNullWithoutThrowing() {
+        // Arrange
+        when(policyRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act
+        InsurancePolicyDTO result = policyService.findPolicyById(999L);
+
+        // Assert
+        assertNull(result);
+        PolicyNotFoundException notFound = assertThrows(PolicyNotFoundException.class,
+                () -> policyService.getPolicyById(999L));
+        assertEquals("Policy not found with id: 999", notFound.getMessage());
+        assertEquals(0, notFound.getStackTrace().length);
+    }
+
     @Test
     void createPolicy_WithValidData_ReturnsSavedPolicy() {
         // Arrange
@@ -122,25 +197,40 @@ class InsurancePolicyServiceTest {
         
         assertEquals(testPolicyDTO.getPolicyName(), capturedPolicy.getPolicyName());
         assertEquals(testPolicyDTO.getStatus(), capturedPolicy.getStatus());
-        assertNotNull(capturedPolicy.getCreatedAt());
-        assertNotNull(capturedPolicy.getUpdatedAt());
+        assertEquals(TODAY, capturedPolicy.getCreatedAt());
+        assertEquals(TODAY, capturedPolicy.getUpdatedAt());
         
         assertEquals(testPolicy.getId(), result.getId());
     }
 
+    @Test
+    void createPolicy_WithMissingFields_ThrowsBeforeTouchingTheDatabase() {
+        // Arrange
+        InsurancePolicyDTO invalid = InsurancePolicyDTO.builder().policyName(" ").build();
+
+        // Act
+        PolicyValidationException exception = assertThrows(PolicyValidationException.class,
+                () -> policyService.createPolicy(invalid));
+
+        // Assert
+        assertEquals(4, exception.getErrors().size());
+        verify(changeSequence, never()).next();
+        verify(policyRepository, never()).save(any(InsurancePolicy.class));
+    }
+
     @Test
     void updatePolicy_WithValidIdAndData_ReturnsUpdatedPolicy() {
         // Arrange
         Long policyId = 1L;
         when(policyRepository.findById(policyId)).thenReturn(Optional.of(testPolicy));
-        when(policyRepository.save(any(InsurancePolicy.class))).thenReturn(testPolicy);
+        when(policyRepository.saveAndFlush(any(InsurancePolicy.class))).thenReturn(testPolicy);
 
         // Create an updated DTO
         InsurancePolicyDTO updatedDTO = InsurancePolicyDTO.builder()
                 .policyName("Updated Policy")
                 .status(PolicyStatus.INACTIVE)
-                .coverageStartDate(LocalDate.now())
-                .coverageEndDate(LocalDate.now().plusMonths(12))
+                .coverageStartDate(TODAY)
+                .coverageEndDate(TODAY.plusMonths(12))
                 .build();
 
         // Act
@@ -157,14 +247,14 @@ class InsurancePolicyServiceTest {
         
         // Then verify the correct data was passed to the repository
         ArgumentCaptor<InsurancePolicy> policyCaptor = ArgumentCaptor.forClass(InsurancePolicy.class);
-        verify(policyRepository).save(policyCaptor.capture());
+        verify(policyRepository).saveAndFlush(policyCaptor.capture());
         
         InsurancePolicy savedPolicy = policyCaptor.getValue();
         assertEquals(updatedDTO.getPolicyName(), savedPolicy.getPolicyName());
         assertEquals(updatedDTO.getStatus(), savedPolicy.getStatus());
         assertEquals(updatedDTO.getCoverageStartDate(), savedPolicy.getCoverageStartDate());
         assertEquals(updatedDTO.getCoverageEndDate(), savedPolicy.getCoverageEndDate());
-        assertNotNull(savedPolicy.getUpdatedAt());
+        assertEquals(TODAY, savedPolicy.getUpdatedAt());
     }
 
     @Test
@@ -178,37 +268,199 @@ class InsurancePolicyServiceTest {
             policyService.updatePolicy(policyId, testPolicyDTO);
         });
         
-        verify(policyRepository, never()).save(any());
+        verify(policyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void updatePolicy_WithStaleIfMatchVersion_ThrowsPreconditionFailed() {
+        // Arrange
+        testPolicy.setVersion(3L);
+        when(policyRepository.findById(1L)).thenReturn(Optional.of(testPolicy));
+
+        // Act & Assert
+        assertThrows(PolicyPreconditionFailedException.class, () -> {
+            policyService.updatePolicy(1L, testPolicyDTO, 2L);
+        });
+
+        verify(policyRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updatePolicy_WithStaleBodyVersion_ThrowsConflict() {
+        // Arrange
+        testPolicy.setVersion(3L);
+        testPolicyDTO.setVersion(1L);
+        when(policyRepository.findById(1L)).thenReturn(Optional.of(testPolicy));
+
+        // Act & Assert
+        assertThrows(PolicyConflictException.class, () -> {
+            policyService.updatePolicy(1L, testPolicyDTO);
+        });
+
+        verify(policyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void updatePolicy_WithMatchingVersion_Saves() {
+        // Arrange
+        testPolicy.setVersion(3L);
+        testPolicyDTO.setVersion(3L);
+        when(policyRepository.findById(1L)).thenReturn(Optional.of(testPolicy));
+        when(policyRepository.saveAndFlush(testPolicy)).thenReturn(testPolicy);
+
+        // Act
+        InsurancePolicyDTO result = policyService.updatePolicy(1L, testPolicyDTO, 3L);
+
+        // Assert
+        assertEquals(3L, result.getVersion());
+        verify(policyRepository).saveAndFlush(testPolicy);
     }
 
     @Test
     void deletePolicy_WithValidId_DeletesPolicy() {
         // Arrange
         Long policyId = 1L;
-        when(policyRepository.existsById(policyId)).thenReturn(true);
-        doNothing().when(policyRepository).deleteById(policyId);
+        when(policyRepository.findById(policyId)).thenReturn(Optional.of(testPolicy));
+        doNothing().when(policyRepository).delete(testPolicy);
+        when(tombstoneRepository.save(any(PolicyTombstone.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         policyService.deletePolicy(policyId);
 
         // Assert
-        verify(policyRepository, times(1)).deleteById(policyId);
+        verify(policyRepository, times(1)).delete(testPolicy);
+        verify(tombstoneRepository).save(any(PolicyTombstone.class));
+        verify(eventPublisher).publishEvent(any(PolicyChangedEvent.class));
     }
 
     @Test
     void deletePolicy_WithInvalidId_ThrowsException() {
         // Arrange
         Long policyId = 999L;
-        when(policyRepository.existsById(policyId)).thenReturn(false);
+        when(policyRepository.findById(policyId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(PolicyNotFoundException.class, () -> {
             policyService.deletePolicy(policyId);
         });
         
-        verify(policyRepository, never()).deleteById(any());
+        verify(policyRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
     
+    @Test
+    void getPoliciesByIds_MixOfCachedLoadedAndMissing_KeepsRequestedOrder() {
+        // Arrange
+        policyCache.put(policyCache.startLoad(), InsurancePolicyDTO.builder().id(3L).policyName("Cached").build());
+        InsurancePolicy other = testPolicy.toBuilder().id(2L).policyName("Other").build();
+        when(policyRepository.findAllById(List.of(2L, 9L, 1L))).thenReturn(List.of(testPolicy, other));
+
+        // Act
+        BatchPolicyResponse result = policyService.getPoliciesByIds(List.of(2L, 3L, 9L, 1L, 2L));
+
+        // Assert
+        assertEquals(List.of(2L, 3L, 1L), result.getPolicies().stream().map(InsurancePolicyDTO::getId).toList());
+        assertEquals("Cached", result.getPolicies().get(1).getPolicyName());
+        assertEquals(List.of(9L), result.getMissingIds());
+        assertNotNull(policyCache.get(2L));
+    }
+
+    @Test
+    void getPoliciesByIds_ManyIds_QueriesInChunks() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().toList();
+        when(policyRepository.findAllById(any())).thenReturn(List.of());
+
+        // Act
+        BatchPolicyResponse result = policyService.getPoliciesByIds(ids);
+
+        // Assert
+        verify(policyRepository, times(2)).findAllById(any());
+        assertEquals(1000, result.getMissingIds().size());
+    }
+
+    @Test
+    void getPoliciesByIds_TooManyIds_ThrowsIllegalArgumentException() {
+        List<Long> ids = LongStream.rangeClosed(1, InsurancePolicyService.MAX_BATCH_IDS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> policyService.getPoliciesByIds(ids));
+    }
+
+    @Test
+    void getPoliciesInForce_IndexLoaded_DoesNotQueryDatabase() {
+        // Arrange
+        LocalDate date = testPolicy.getCoverageStartDate();
+        InsurancePolicyDTO indexed = InsurancePolicyDTO.builder().id(1L).build();
+        when(coverageIndex.overlapping(date, date)).thenReturn(Optional.of(List.of(indexed)));
+
+        // Act
+        List<InsurancePolicyDTO> result = policyService.getPoliciesInForce(date, date);
+
+        // Assert
+        assertEquals(List.of(indexed), result);
+        verify(policyRepository, never())
+                .findByCoverageStartDateLessThanEqualAndCoverageEndDateGreaterThanEqualOrderByCoverageStartDateAscIdAsc(any(), any());
+    }
+
+    @Test
+    void getPoliciesInForce_IndexNotLoaded_FallsBackToDatabase() {
+        // Arrange
+        LocalDate from = testPolicy.getCoverageStartDate();
+        LocalDate to = from.plusDays(10);
+        when(coverageIndex.overlapping(from, to)).thenReturn(Optional.empty());
+        when(policyRepository
+                .findByCoverageStartDateLessThanEqualAndCoverageEndDateGreaterThanEqualOrderByCoverageStartDateAscIdAsc(to, from))
+                .thenReturn(List.of(testPolicy));
+
+        // Act
+        List<InsurancePolicyDTO> result = policyService.getPoliciesInForce(from, to);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(testPolicy.getId(), result.get(0).getId());
+    }
+
+    @Test
+    void getPoliciesInForce_ToBeforeFrom_ThrowsIllegalArgumentException() {
+        LocalDate from = LocalDate.now();
+
+        assertThrows(IllegalArgumentException.class, () -> policyService.getPoliciesInForce(from, from.minusDays(1)));
+    }
+
+    @Test
+    void getPoliciesByStatus_ReadModelLoaded_DoesNotQueryDatabase() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("policyName").descending());
+        InsurancePolicyDTO inMemory = InsurancePolicyDTO.builder().id(1L).status(PolicyStatus.ACTIVE).build();
+        when(readModel.findPage(pageable, PolicyStatus.ACTIVE))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(inMemory), pageable, 1)));
+
+        // Act
+        PagedResponse<InsurancePolicyDTO> result = policyService.getPoliciesByStatus(PolicyStatus.ACTIVE, 0, 10,
+                "policyName", "desc");
+
+        // Assert
+        assertEquals(List.of(inMemory), result.getContent());
+        verify(policyRepository, never()).findByStatus(any(), any());
+    }
+
+    @Test
+    void getPoliciesByStatus_ReadModelNotLoaded_FallsBackToDatabase() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
+        when(policyRepository.findByStatus(PolicyStatus.ACTIVE, pageable))
+                .thenReturn(new PageImpl<>(List.of(testPolicy), pageable, 1));
+
+        // Act
+        PagedResponse<InsurancePolicyDTO> result = policyService.getPoliciesByStatus(PolicyStatus.ACTIVE, 0, 10,
+                "id", "asc");
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testPolicy.getId(), result.getContent().get(0).getId());
+    }
+
     @Test
     void convertToDTO_ReturnsCorrectDTO() {
         // This test indirectly tests the private convertToDTO method
@@ -0,0 +1,179 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.tinubu.insurance.policymanager.config.GroupCommitProperties;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.exception.PolicyValidationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PolicyCreateBatcherTest {
+
+    private final InsurancePolicyService policyService = mock(InsurancePolicyService.class);
+    private final PolicyValidator policyValidator = mock(PolicyValidator.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private PolicyCreateBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void create_ConcurrentCreates_CommittedTogether() throws Exception {
+        // Arrange
+        batcher = startBatcher(Duration.ofSeconds(5), 4);
+        when(policyService.createPolicies(anyList())).thenAnswer(invocation -> {
+            List<InsurancePolicyDTO> policies = invocation.getArgument(0);
+            return policies.stream().map(policy -> policy.toBuilder().id(idOf(policy)).build()).toList();
+        });
+
+        // Act
+        List<Future<InsurancePolicyDTO>> results = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            InsurancePolicyDTO policy = policy("Policy " + i);
+            results.add(executor.submit(() -> batcher.create(policy)));
+        }
+
+        // Assert
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, results.get(i - 1).get(5, TimeUnit.SECONDS).getId());
+        }
+        ArgumentCaptor<List<InsurancePolicyDTO>> batch = ArgumentCaptor.forClass(List.class);
+        verify(policyService).createPolicies(batch.capture());
+        assertEquals(4, batch.getValue().size());
+        assertEquals(4.0, meterRegistry.get("policy.create.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void create_FailedBatch_OnlyFailingPolicyReportsError() throws Exception {
+        // Arrange
+        batcher = startBatcher(Duration.ofSeconds(5), 2);
+        InsurancePolicyDTO good = policy("Policy 1");
+        InsurancePolicyDTO bad = policy("Policy 2");
+        when(policyService.createPolicies(anyList())).thenAnswer(invocation -> {
+            List<InsurancePolicyDTO> policies = invocation.getArgument(0);
+            if (policies.contains(bad)) {
+                throw new IllegalStateException("constraint violated");
+            }
+            return List.of(good.toBuilder().id(1L).build());
+        });
+
+        // Act
+        Future<InsurancePolicyDTO> goodResult = executor.submit(() -> batcher.create(good));
+        Future<InsurancePolicyDTO> badResult = executor.submit(() -> batcher.create(bad));
+
+        // Assert
+        assertEquals(1L, goodResult.get(5, TimeUnit.SECONDS).getId());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> badResult.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        assertEquals(1.0, meterRegistry.get("policy.create.batch.retried").counter().count());
+        verify(policyValidator, times(1)).validate(good);
+        verify(policyService, never()).createPolicy(any());
+    }
+
+    @Test
+    void create_BatchNotCommittedInTime_GivesUpInsteadOfBlocking() throws Exception {
+        // Arrange
+        batcher = startBatcher(Duration.ofMillis(1), 1, Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        when(policyService.createPolicies(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+
+        // Act
+        Future<InsurancePolicyDTO> result = executor.submit(() -> batcher.create(policy("Policy 1")));
+
+        // Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        release.countDown();
+    }
+
+    @Test
+    void create_InvalidPolicy_RejectedBeforeQueueing() {
+        // Arrange
+        batcher = startBatcher(Duration.ofMillis(1), 8);
+        InsurancePolicyDTO invalid = policy("");
+        doThrow(new PolicyValidationException(Map.of("policyName", "Policy name is required")))
+                .when(policyValidator).validate(invalid);
+
+        // Act & Assert
+        assertThrows(PolicyValidationException.class, () -> batcher.create(invalid));
+        verify(policyService, never()).createPolicies(anyList());
+    }
+
+    @Test
+    void create_Disabled_CreatesDirectly() {
+        // Arrange
+        batcher = new PolicyCreateBatcher(policyService, policyValidator, new GroupCommitProperties(), meterRegistry);
+        batcher.start();
+        InsurancePolicyDTO policy = policy("Policy 1");
+        when(policyService.createPolicy(any())).thenReturn(policy.toBuilder().id(1L).build());
+
+        // Act
+        InsurancePolicyDTO created = batcher.create(policy);
+
+        // Assert
+        assertEquals(1L, created.getId());
+        verify(policyService, times(1)).createPolicy(policy);
+        verify(policyService, never()).createPolicies(anyList());
+    }
+
+    private PolicyCreateBatcher startBatcher(Duration window, int maxBatchSize) {
+        return startBatcher(window, maxBatchSize, new GroupCommitProperties().getCommitTimeout());
+    }
+
+    private PolicyCreateBatcher startBatcher(Duration window, int maxBatchSize, Duration commitTimeout) {
+        GroupCommitProperties properties = new GroupCommitProperties();
+        properties.setCommitTimeout(commitTimeout);
+        properties.setEnabled(true);
+        properties.setWindow(window);
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setCommitters(1);
+        PolicyCreateBatcher started = new PolicyCreateBatcher(policyService, policyValidator, properties,
+                meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private static long idOf(InsurancePolicyDTO policy) {
+        return Long.parseLong(policy.getPolicyName().substring("Policy ".length()));
+    }
+
+    private static InsurancePolicyDTO policy(String name) {
+        return InsurancePolicyDTO.builder().policyName(name).build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.InsurancePolicy;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+
+/**
+ * The dates stored with a policy come from the application clock, not from the
+ * system clock at flush time.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PolicyStampClockTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2031, 3, 1);
+
+    @TestConfiguration
+    static class FixedClock {
+        @Bean
+        @Primary
+        Clock fixedClock() {
+            return Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        }
+    }
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private BulkPolicyService bulkPolicyService;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Test
+    void createUpdateAndBulkUpdate_StoreTheDatesOfTheInjectedClock() {
+        // Arrange
+        InsurancePolicyDTO policy = InsurancePolicyDTO.builder()
+                .policyName("Stamped")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(TODAY)
+                .coverageEndDate(TODAY.plusYears(1))
+                .build();
+
+        // Act
+        InsurancePolicyDTO created = policyService.createPolicy(policy);
+        InsurancePolicy afterCreate = policyRepository.findById(created.getId()).orElseThrow();
+        policyService.updatePolicy(created.getId(), policy.toBuilder().policyName("Stamped again").build());
+        InsurancePolicy afterUpdate = policyRepository.findById(created.getId()).orElseThrow();
+        bulkPolicyService.updateStatus(List.of(created.getId()), PolicyStatus.INACTIVE);
+        InsurancePolicy afterBulkUpdate = policyRepository.findById(created.getId()).orElseThrow();
+        // The database is shared with other tests that count inactive policies
+        policyService.deletePolicy(created.getId());
+
+        // Assert
+        assertEquals(TODAY, afterCreate.getCreatedAt());
+        assertEquals(TODAY, afterCreate.getUpdatedAt());
+        assertEquals(TODAY, afterUpdate.getCreatedAt());
+        assertEquals(TODAY, afterUpdate.getUpdatedAt());
+        assertEquals(TODAY, afterBulkUpdate.getUpdatedAt());
+    }
+}
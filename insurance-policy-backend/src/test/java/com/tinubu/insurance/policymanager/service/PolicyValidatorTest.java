@@ -0,0 +1,68 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.exception.PolicyValidationException;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+class PolicyValidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 15);
+
+    private final PolicyValidator validator = new PolicyValidator(
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    void validate_StartingTodayOnTheInjectedClock_Passes() {
+        assertDoesNotThrow(() -> validator.validate(policy(TODAY, TODAY.plusYears(1))));
+    }
+
+    @Test
+    void validate_MissingFields_ReportsEveryField() {
+        // Arrange
+        InsurancePolicyDTO policy = InsurancePolicyDTO.builder().policyName("").build();
+
+        // Act
+        PolicyValidationException exception = assertThrows(PolicyValidationException.class,
+                () -> validator.validate(policy));
+
+        // Assert
+        assertEquals(Map.of(
+                "policyName", "Policy name is required",
+                "status", "Status is required",
+                "coverageStartDate", "Coverage start date is required",
+                "coverageEndDate", "Coverage end date is required"), exception.getErrors());
+    }
+
+    @Test
+    void validate_DateRules_ThrowIllegalArgumentException() {
+        // Act
+        IllegalArgumentException past = assertThrows(IllegalArgumentException.class,
+                () -> validator.validate(policy(TODAY.minusDays(1), TODAY.plusYears(1))));
+        IllegalArgumentException reversed = assertThrows(IllegalArgumentException.class,
+                () -> validator.validate(policy(TODAY.plusDays(2), TODAY.plusDays(1))));
+
+        // Assert
+        assertEquals("Coverage start date cannot be in the past", past.getMessage());
+        assertEquals("Coverage end date must be after start date", reversed.getMessage());
+    }
+
+    private static InsurancePolicyDTO policy(LocalDate start, LocalDate end) {
+        return InsurancePolicyDTO.builder()
+                .policyName("Validated")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(start)
+                .coverageEndDate(end)
+                .build();
+    }
+}
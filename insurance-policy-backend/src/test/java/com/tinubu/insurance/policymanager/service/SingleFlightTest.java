@@ -0,0 +1,125 @@
+package com.tinubu.insurance.policymanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.tinubu.insurance.policymanager.exception.PolicyNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ConcurrentCallsForSameKey_ShareOneLoad() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "policy-1";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        while (coalescedCount() < 5) {
+            Thread.onSpinWait();
+        }
+        releaseLoader.countDown();
+
+        // Assert
+        assertEquals("policy-1", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("policy-1", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void execute_LoaderThrows_FollowersReceiveSameException() throws Exception {
+        // Arrange
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        PolicyNotFoundException notFound = new PolicyNotFoundException("Policy not found with id: 9");
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(9L, () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            throw notFound;
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> singleFlight.execute(9L, () -> "unused"));
+        while (coalescedCount() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        releaseLoader.countDown();
+
+        // Assert
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertSame(notFound, leaderFailure.getCause());
+        assertSame(notFound, followerFailure.getCause());
+    }
+
+    @Test
+    void execute_SequentialCalls_LoadEachTime() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute(1L, () -> "a" + loads.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "a" + loads.incrementAndGet());
+
+        // Assert - results are shared only while a load is in flight, never cached
+        assertEquals("a2", second);
+        assertEquals(2, loads.get());
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("policy.read.coalescing").tag("outcome", "coalesced").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.tinubu.insurance.policymanager.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class ShardMergeTest {
+
+    @Test
+    void merge_SortedRuns_SkipsAndLimitsAcrossRuns() {
+        // Arrange
+        List<List<Integer>> runs = List.of(List.of(1, 4, 7, 10), List.of(2, 5), List.of(), List.of(3, 6, 9));
+
+        // Act
+        List<Integer> merged = ShardMerge.merge(runs, Comparator.naturalOrder(), 3, 4);
+
+        // Assert
+        assertEquals(List.of(4, 5, 6, 7), merged);
+    }
+
+    @Test
+    void comparator_DescendingWithIdTieBreak_OrdersLikeTheDatabase() {
+        // Arrange
+        Sort sort = ShardMerge.withIdTieBreak(Sort.by("policyName").descending());
+        List<Map<String, Object>> shard0 = List.of(row(3L, "B"), row(9L, "A"));
+        List<Map<String, Object>> shard1 = List.of(row(1L, "B"), row(4L, "A"));
+
+        // Act
+        List<Map<String, Object>> merged = ShardMerge.merge(List.of(shard0, shard1),
+                ShardMerge.comparator(sort, Map::get), 0, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 3L, 4L, 9L), merged.stream().map(row -> row.get("id")).toList());
+    }
+
+    private static Map<String, Object> row(long id, String policyName) {
+        return Map.of("id", id, "policyName", policyName);
+    }
+}
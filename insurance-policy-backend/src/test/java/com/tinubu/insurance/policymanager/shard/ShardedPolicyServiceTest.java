@@ -0,0 +1,183 @@
+package com.tinubu.insurance.policymanager.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tinubu.insurance.policymanager.dto.ChangeFeedResponse;
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.dto.PagedResponse;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeDTO;
+import com.tinubu.insurance.policymanager.dto.PolicyChangeDTO.Operation;
+import com.tinubu.insurance.policymanager.dto.PolicyField;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+import com.tinubu.insurance.policymanager.repository.InsurancePolicyRepository;
+import com.tinubu.insurance.policymanager.repository.PolicyTombstoneRepository;
+import com.tinubu.insurance.policymanager.service.ChangeFeedService;
+import com.tinubu.insurance.policymanager.service.InsurancePolicyService;
+
+/**
+ * Runs the policy service over three in-memory H2 databases.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "policy.sharding.enabled=true",
+        "policy.sharding.shards[0].url=jdbc:h2:mem:policy_shard_0;DB_CLOSE_DELAY=-1",
+        "policy.sharding.shards[0].username=sa",
+        "policy.sharding.shards[1].url=jdbc:h2:mem:policy_shard_1;DB_CLOSE_DELAY=-1",
+        "policy.sharding.shards[1].username=sa",
+        "policy.sharding.shards[2].url=jdbc:h2:mem:policy_shard_2;DB_CLOSE_DELAY=-1",
+        "policy.sharding.shards[2].username=sa",
+        "policy.change-feed.visibility-window=0s"
+})
+class ShardedPolicyServiceTest {
+
+    @Autowired
+    private InsurancePolicyService policyService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private PolicyTombstoneRepository tombstoneRepository;
+
+    @Test
+    void createPolicy_SpreadsPoliciesOverShards_AndReadsThemBackById() {
+        // Arrange
+        long[] before = rowsPerShard();
+
+        // Act
+        List<InsurancePolicyDTO> created = createPolicies("Spread", 9);
+
+        // Assert
+        long[] after = rowsPerShard();
+        for (int shard = 0; shard < 3; shard++) {
+            assertEquals(before[shard] + 3, after[shard]);
+        }
+        for (InsurancePolicyDTO policy : created) {
+            int owner = shardRouter.shardOf(policy.getId());
+            assertTrue(shardRouter.onShard(owner, () -> policyRepository.existsById(policy.getId())));
+            assertEquals(policy.getPolicyName(), policyService.getPolicyById(policy.getId()).getPolicyName());
+        }
+    }
+
+    @Test
+    void getPoliciesPaginated_MergesShardsInSortOrder() {
+        // Arrange
+        createPolicies("Page", 20);
+        List<InsurancePolicyDTO> expected = new ArrayList<>(policyService.getAllPolicies());
+        expected.sort(Comparator.comparing(InsurancePolicyDTO::getPolicyName).reversed()
+                .thenComparing(InsurancePolicyDTO::getId));
+
+        // Act
+        List<InsurancePolicyDTO> paged = new ArrayList<>();
+        PagedResponse<InsurancePolicyDTO> page;
+        int number = 0;
+        do {
+            page = policyService.loadPoliciesPage(number++, 7, "policyName", "desc");
+            paged.addAll(page.getContent());
+        } while (!page.isLast());
+        PagedResponse<Map<String, Object>> sparse = policyService.getPoliciesPaginated(1, 7, "policyName", "desc",
+                EnumSet.of(PolicyField.ID, PolicyField.STATUS));
+
+        // Assert
+        assertEquals(expected.stream().map(InsurancePolicyDTO::getId).toList(),
+                paged.stream().map(InsurancePolicyDTO::getId).toList());
+        assertEquals(expected.size(), page.getTotalElements());
+        assertEquals(expected.subList(7, 14).stream().map(InsurancePolicyDTO::getId).toList(),
+                sparse.getContent().stream().map(row -> row.get("id")).toList());
+        assertEquals(Set.of("id", "status"), sparse.getContent().get(0).keySet());
+    }
+
+    @Test
+    void updateAndDelete_OnOwningShard_AppearInMergedChangeFeed() {
+        // Arrange
+        List<InsurancePolicyDTO> created = createPolicies("Feed", 2);
+        InsurancePolicyDTO updated = created.get(0);
+        InsurancePolicyDTO deleted = created.get(1);
+
+        // Act
+        policyService.updatePolicy(updated.getId(), updated.toBuilder().policyName("Feed renamed").build());
+        policyService.deletePolicy(deleted.getId());
+        ChangeFeedResponse feed = changeFeedService.getChangesSince("0", ChangeFeedService.MAX_LIMIT);
+
+        // Assert
+        assertEquals("Feed renamed", policyService.getPolicyById(updated.getId()).getPolicyName());
+        assertFalse(shardRouter.onShard(shardRouter.shardOf(deleted.getId()),
+                () -> tombstoneRepository.findByPolicyIdIn(List.of(deleted.getId()))).isEmpty());
+        List<PolicyChangeDTO> changes = feed.getChanges();
+        assertTrue(changes.stream().anyMatch(change -> change.getPolicyId().equals(deleted.getId())
+                && change.getOperation() == Operation.DELETE));
+        assertEquals(changes.size(), changes.stream().map(PolicyChangeDTO::getSeq).distinct().count());
+    }
+
+    @Test
+    void getChangesSince_QuietShardBehindBusyOne_StillDeliversItsLaterChanges() {
+        // Arrange
+        List<InsurancePolicyDTO> created = createPolicies("Cursor", 3);
+        InsurancePolicyDTO busy = created.stream().filter(policy -> shardRouter.shardOf(policy.getId()) == 0)
+                .findFirst().orElseThrow();
+        InsurancePolicyDTO quiet = created.stream().filter(policy -> shardRouter.shardOf(policy.getId()) == 1)
+                .findFirst().orElseThrow();
+        for (int i = 0; i < 20; i++) {
+            busy = policyService.updatePolicy(busy.getId(), busy.toBuilder().policyName("Busy " + i).build());
+        }
+        String cursor = readWholeFeed("0");
+
+        // Act
+        policyService.updatePolicy(quiet.getId(), quiet.toBuilder().policyName("Quiet renamed").build());
+        ChangeFeedResponse feed = changeFeedService.getChangesSince(cursor, ChangeFeedService.MAX_LIMIT);
+
+        // Assert
+        assertTrue(feed.getChanges().stream().anyMatch(change -> change.getPolicyId().equals(quiet.getId())
+                && change.getPolicy().getPolicyName().equals("Quiet renamed")));
+        assertEquals(3, feed.getNextSince().split(",").length);
+    }
+
+    private String readWholeFeed(String since) {
+        ChangeFeedResponse feed;
+        do {
+            feed = changeFeedService.getChangesSince(since, ChangeFeedService.MAX_LIMIT);
+            since = feed.getNextSince();
+        } while (feed.isHasMore());
+        return since;
+    }
+
+    private List<InsurancePolicyDTO> createPolicies(String prefix, int count) {
+        List<InsurancePolicyDTO> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            created.add(policyService.createPolicy(InsurancePolicyDTO.builder()
+                    .policyName(prefix + " " + (i * 7 % count))
+                    .status(PolicyStatus.ACTIVE)
+                    .coverageStartDate(LocalDate.now())
+                    .coverageEndDate(LocalDate.now().plusYears(1))
+                    .build()));
+        }
+        return created;
+    }
+
+    private long[] rowsPerShard() {
+        long[] rows = new long[shardRouter.shardCount()];
+        for (int shard = 0; shard < rows.length; shard++) {
+            rows[shard] = shardRouter.onShard(shard, policyRepository::count);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tinubu.insurance.policymanager.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tinubu.insurance.policymanager.dto.InsurancePolicyDTO;
+import com.tinubu.insurance.policymanager.model.PolicyStatus;
+
+class PolicySnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeThenRead_RoundTripsEveryField() throws IOException {
+        // Arrange
+        Path file = directory.resolve("policies.snap");
+        InsurancePolicyDTO full = InsurancePolicyDTO.builder()
+                .id(7L)
+                .policyName("Habitation Île-de-France")
+                .status(PolicyStatus.INACTIVE)
+                .coverageStartDate(LocalDate.of(2026, 1, 1))
+                .coverageEndDate(LocalDate.of(2027, 1, 1))
+                .createdAt(LocalDate.of(2025, 12, 1))
+                .updatedAt(LocalDate.of(2025, 12, 2))
+                .version(3L)
+                .build();
+        InsurancePolicyDTO sparse = InsurancePolicyDTO.builder()
+                .id(8L)
+                .policyName("")
+                .status(PolicyStatus.ACTIVE)
+                .coverageStartDate(LocalDate.of(2026, 2, 1))
+                .coverageEndDate(LocalDate.of(2026, 2, 1))
+                .build();
+        PolicySnapshot snapshot = new PolicySnapshot(Instant.ofEpochMilli(1_700_000_000_000L), new long[] { 41, 12 },
+                List.of(new PolicySnapshot.Entry(41, full), new PolicySnapshot.Entry(12, sparse)));
+
+        // Act
+        PolicySnapshotFile.write(file, snapshot);
+        PolicySnapshot read = PolicySnapshotFile.read(file);
+
+        // Assert
+        assertEquals(snapshot.createdAt(), read.createdAt());
+        assertArrayEquals(snapshot.watermarks(), read.watermarks());
+        assertEquals(snapshot.entries(), read.entries());
+    }
+
+    @Test
+    void read_CorruptedFile_IsRejected() throws IOException {
+        // Arrange
+        Path file = directory.resolve("policies.snap");
+        PolicySnapshotFile.write(file, new PolicySnapshot(Instant.now(), new long[] { 1 },
+                List.of(new PolicySnapshot.Entry(1, InsurancePolicyDTO.builder()
+                        .id(1L)
+                        .policyName("Auto")
+                        .status(PolicyStatus.ACTIVE)
+                        .coverageStartDate(LocalDate.of(2026, 1, 1))
+                        .coverageEndDate(LocalDate.of(2027, 1, 1))
+                        .build()))));
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(raw.length() - 12);
+            raw.write('X');
+        }
+
+        // Act & Assert
+        IOException error = assertThrows(IOException.class, () -> PolicySnapshotFile.read(file));
+        assertEquals("Snapshot checksum mismatch in " + file, error.getMessage());
+    }
+}
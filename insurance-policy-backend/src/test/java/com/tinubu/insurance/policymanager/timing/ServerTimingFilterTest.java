@@ -0,0 +1,104 @@
+package com.tinubu.insurance.policymanager.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.tinubu.insurance.policymanager.config.ServerTimingProperties;
+import com.tinubu.insurance.policymanager.timing.RequestTiming.Phase;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingProperties properties = new ServerTimingProperties();
+    private final ServerTimingFilter filter = new ServerTimingFilter(properties);
+
+    private final FilterChain handler = (request, response) -> {
+        RequestTiming.current().add(Phase.DATABASE, 3_000_000);
+        RequestTiming.current().add(Phase.MAPPING, 250_000);
+        response.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    void doFilter_PolicyRequest_AddsPhasesAndKeepsBody() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/policies/1");
+        request.addHeader("Origin", "http://localhost:5173");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, handler);
+
+        // Assert
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertTrue(header.startsWith("app;desc=\"Application\";dur="));
+        assertTrue(header.contains("db;desc=\"Repository and SQL\";dur=3.00"));
+        assertTrue(header.contains("map;desc=\"DTO mapping\";dur=0.25"));
+        assertFalse(header.contains("json;"));
+        assertEquals("http://localhost:5173", response.getHeader("Timing-Allow-Origin"));
+        assertEquals("{\"id\":1}", response.getContentAsString());
+        assertNull(RequestTiming.current());
+    }
+
+    @Test
+    void doFilter_LargeBody_HeaderSetBeforeBodyWithoutBuffering() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/policies");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = new byte[64 * 1024];
+        AtomicReference<String> headerAtCommit = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            res.getOutputStream().write(body);
+            res.flushBuffer();
+            headerAtCommit.set(response.isCommitted() ? response.getHeader(ServerTimingFilter.HEADER) : null);
+        });
+
+        // Assert
+        assertNotNull(headerAtCommit.get());
+        assertEquals(body.length, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_NoBody_StillAddsHeader() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/policies/1"), response,
+                (request, res) -> ((HttpServletResponse) res).setStatus(204));
+
+        // Assert
+        assertNotNull(response.getHeader(ServerTimingFilter.HEADER));
+    }
+
+    @Test
+    void doFilter_NotSampledOrEventStream_NoHeader() throws Exception {
+        // Arrange
+        MockHttpServletResponse events = new MockHttpServletResponse();
+        MockHttpServletResponse unsampled = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/policies/events"), events,
+                (request, response) -> assertNull(RequestTiming.current()));
+        properties.setSampleRate(0);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/policies"), unsampled,
+                (request, response) -> assertNull(RequestTiming.current()));
+
+        // Assert
+        assertNull(events.getHeader(ServerTimingFilter.HEADER));
+        assertNull(unsampled.getHeader(ServerTimingFilter.HEADER));
+    }
+}
@@ -4,14 +4,18 @@ import {
   DEFAULT_PAGE_SIZE,
   DEFAULT_SORT_DIRECTION,
   DEFAULT_SORT_FIELD,
+  PAGE_CACHE_FRESH_MS,
+  PAGE_CACHE_MAX_ENTRIES,
 } from "../constants/paginationConfig";
 import {
   ApiResponse,
   CreatePolicyRequest,
   PagedResponse,
   Policy,
+  PolicyChangeEvent,
   UpdatePolicyRequest,
 } from "../types";
+import { LoadResult, RequestCache } from "./requestCache";
 
 // Get API base URL from window.ENV or Vite environment or fallback to localhost
 const getApiBaseUrl = () => {
@@ -31,6 +35,37 @@ const apiInstance = axios.create({
   },
 });
 
+// Pages of the policy list, revalidated with the ETag the backend sends
+const pageCache = new RequestCache<PagedResponse<Policy>>(
+  PAGE_CACHE_FRESH_MS,
+  PAGE_CACHE_MAX_ENTRIES
+);
+
+const pageKey = (
+  page: number,
+  size: number,
+  sort: string,
+  direction: string
+) => `${page}:${size}:${sort}:${direction}`;
+
+const pageLoader =
+  (page: number, size: number, sort: string, direction: string) =>
+  async (etag: string | null): Promise<LoadResult<PagedResponse<Policy>>> => {
+    const response = await apiInstance.get<PagedResponse<Policy>>(
+      "/policies/paged",
+      {
+        params: { page, size, sort, direction },
+        headers: etag ? { "If-None-Match": etag } : undefined,
+        validateStatus: (status) =>
+          (status >= 200 && status < 300) || status === 304,
+      }
+    );
+    return {
+      data: response.status === 304 ? null : response.data,
+      etag: (response.headers["etag"] as string | undefined) ?? null,
+    };
+  };
+
 // Policy API endpoints
 export const policyApi = {
   getAll: async (): Promise<ApiResponse<Policy[]>> => {
@@ -44,15 +79,34 @@ export const policyApi = {
     sort: string = DEFAULT_SORT_FIELD,
     direction: string = DEFAULT_SORT_DIRECTION
   ): Promise<PagedResponse<Policy>> => {
-    const response = await apiInstance.get<PagedResponse<Policy>>(
-      "/policies/paged",
-      {
-        params: { page, size, sort, direction },
-      }
+    const result = await pageCache.get(
+      pageKey(page, size, sort, direction),
+      pageLoader(page, size, sort, direction)
     );
-    return response.data;
+    // Load the following page while this one is being read, so "Next" is instant
+    if (!result.last) {
+      pageCache.prefetch(
+        pageKey(page + 1, size, sort, direction),
+        pageLoader(page + 1, size, sort, direction)
+      );
+    }
+    return result;
   },
 
+  // The cached copy of a page, possibly stale, for rendering without waiting
+  peekPaginated: (
+    page: number = DEFAULT_PAGE,
+    size: number = DEFAULT_PAGE_SIZE,
+    sort: string = DEFAULT_SORT_FIELD,
+    direction: string = DEFAULT_SORT_DIRECTION
+  ): PagedResponse<Policy> | undefined =>
+    pageCache.peek(pageKey(page, size, sort, direction)),
+
+  // Called when a background revalidation brought a newer copy of a cached page.
+  // Returns a function that removes the listener.
+  onPageRevalidated: (listener: () => void): (() => void) =>
+    pageCache.subscribe(() => listener()),
+
   getById: async (id: number): Promise<ApiResponse<Policy>> => {
     const response = await apiInstance.get<ApiResponse<Policy>>(
       `/policies/${id}`
@@ -65,6 +119,7 @@ export const policyApi = {
       "/policies",
       policy
     );
+    pageCache.clear();
     return response.data;
   },
 
@@ -73,6 +128,7 @@ export const policyApi = {
       `/policies/${policy.id}`,
       policy
     );
+    pageCache.clear();
     return response.data;
   },
 
@@ -80,6 +136,23 @@ export const policyApi = {
     const response = await apiInstance.delete<ApiResponse<void>>(
       `/policies/${id}`
     );
+    pageCache.clear();
     return response.data;
   },
+
+  // Subscribes to the server-sent stream of committed policy changes, which also
+  // marks cached pages stale. Returns a function that closes the stream.
+  subscribeToChanges: (
+    onChange: (event: PolicyChangeEvent) => void
+  ): (() => void) => {
+    const source = new EventSource(`${getApiBaseUrl()}/policies/events`);
+    const listener = (message: MessageEvent<string>) => {
+      pageCache.invalidate();
+      onChange(JSON.parse(message.data) as PolicyChangeEvent);
+    };
+    ["created", "updated", "deleted"].forEach((type) =>
+      source.addEventListener(type, listener)
+    );
+    return () => source.close();
+  },
 };
@@ -0,0 +1,142 @@
+/**
+ * Result of loading a resource. `data` is null when the server answered
+ * 304 Not Modified to the ETag that was sent.
+ */
+export interface LoadResult<T> {
+  data: T | null;
+  etag: string | null;
+}
+
+export type Loader<T> = (etag: string | null) => Promise<LoadResult<T>>;
+
+interface Entry<T> {
+  data: T;
+  etag: string | null;
+  fetchedAt: number;
+}
+
+/**
+ * Stale-while-revalidate cache for GET requests, keyed by the request parameters.
+ *
+ * - Fresh entries are served without a request.
+ * - Stale entries are served at once and revalidated in the background with
+ *   If-None-Match; listeners are told when that brings new data.
+ * - Concurrent loads of one key share a single request.
+ */
+export class RequestCache<T> {
+  private readonly entries = new Map<string, Entry<T>>();
+  private readonly inflight = new Map<string, Promise<T>>();
+  private readonly listeners = new Set<(key: string) => void>();
+  // Bumped by invalidate() so loads started before it are not stored as fresh
+  private generation = 0;
+
+  constructor(
+    private readonly freshForMs: number,
+    private readonly maxEntries: number
+  ) {}
+
+  peek(key: string): T | undefined {
+    return this.entries.get(key)?.data;
+  }
+
+  async get(key: string, load: Loader<T>): Promise<T> {
+    const entry = this.entries.get(key);
+    if (entry) {
+      if (Date.now() - entry.fetchedAt >= this.freshForMs) {
+        this.revalidate(key, load);
+      }
+      return entry.data;
+    }
+    return this.load(key, load);
+  }
+
+  /**
+   * Loads a key that is missing or stale, ignoring failures: a prefetch must never
+   * surface an error for a page nobody asked for yet.
+   */
+  prefetch(key: string, load: Loader<T>): void {
+    const entry = this.entries.get(key);
+    if (!entry || Date.now() - entry.fetchedAt >= this.freshForMs) {
+      this.load(key, load).catch(() => undefined);
+    }
+  }
+
+  /**
+   * Marks every entry stale. They are still served, but revalidated on next use.
+   */
+  invalidate(): void {
+    this.generation++;
+    this.entries.forEach((entry) => {
+      entry.fetchedAt = 0;
+    });
+  }
+
+  /**
+   * Drops every entry, for changes made by this client: showing a copy it knows to
+   * be wrong would undo what the user just did.
+   */
+  clear(): void {
+    this.generation++;
+    this.entries.clear();
+  }
+
+  /**
+   * Calls the listener with the key of every entry a background revalidation
+   * changed. Returns a function that removes the listener.
+   */
+  subscribe(listener: (key: string) => void): () => void {
+    this.listeners.add(listener);
+    return () => {
+      this.listeners.delete(listener);
+    };
+  }
+
+  private revalidate(key: string, load: Loader<T>): void {
+    const before = this.entries.get(key);
+    this.load(key, load)
+      .then((data) => {
+        if (data !== before?.data) {
+          this.listeners.forEach((listener) => listener(key));
+        }
+      })
+      .catch((err) => console.error("Error revalidating cached request:", err));
+  }
+
+  private load(key: string, load: Loader<T>): Promise<T> {
+    const pending = this.inflight.get(key);
+    if (pending) {
+      return pending;
+    }
+    const generation = this.generation;
+    const cached = this.entries.get(key);
+    const request = load(cached?.etag ?? null)
+      .then((result) => {
+        const data = result.data ?? cached?.data;
+        if (data === undefined) {
+          throw new Error(`Not Modified without a cached copy for ${key}`);
+        }
+        this.store(key, {
+          data,
+          etag: result.etag ?? cached?.etag ?? null,
+          // A change announced while loading may not be in this response
+          fetchedAt: generation === this.generation ? Date.now() : 0,
+        });
+        return data;
+      })
+      .finally(() => this.inflight.delete(key));
+    this.inflight.set(key, request);
+    return request;
+  }
+
+  private store(key: string, entry: Entry<T>): void {
+    // Maps iterate in insertion order, so re-inserting keeps the oldest first
+    this.entries.delete(key);
+    this.entries.set(key, entry);
+    if (this.entries.size > this.maxEntries) {
+      const oldest = this.entries.keys().next().value;
+      if (oldest !== undefined) {
+        this.entries.delete(oldest);
+      }
+    }
+  }
+}
@@ -8,3 +8,8 @@ export const DEFAULT_SORT_FIELD = "id";
 export const DEFAULT_SORT_DIRECTION = "asc";
 
 export const PAGE_SIZE_OPTIONS = [5, 10, 20, 50];
+
+// Client-side page cache: pages younger than this are reused without a request,
+// older ones are shown at once and revalidated in the background
+export const PAGE_CACHE_FRESH_MS = 15_000;
+export const PAGE_CACHE_MAX_ENTRIES = 50;
@@ -1,4 +1,4 @@
-import { useCallback, useEffect, useState } from "react";
+import { useCallback, useEffect, useRef, useState } from "react";
 import { Link } from "react-router-dom";
 import { policyApi } from "../api/insuranceApiService";
 import Alert from "../components/Alert";
@@ -10,11 +10,12 @@ import {
   DEFAULT_SORT_FIELD,
   PAGE_SIZE_OPTIONS,
 } from "../constants/paginationConfig";
-import { Policy } from "../types";
+import { PagedResponse, Policy } from "../types";
 
 const Policies = () => {
   const [policies, setPolicies] = useState<Policy[]>([]);
-  const [loading, setLoading] = useState(true);
+  // No spinner when a copy of the first page is already cached
+  const [loading, setLoading] = useState(() => !policyApi.peekPaginated());
   const [error, setError] = useState<string | null>(null);
 
   // Pagination state
@@ -25,45 +26,89 @@ const Policies = () => {
   const [sortField, setSortField] = useState(DEFAULT_SORT_FIELD);
   const [sortDirection, setSortDirection] = useState(DEFAULT_SORT_DIRECTION);
 
-  const fetchPolicies = useCallback(async () => {
+  // Responses to superseded requests are dropped when paging quickly
+  const latestRequest = useRef(0);
+
+  const showPage = useCallback((response: PagedResponse<Policy>) => {
+    setPolicies(response.content);
+    setTotalPages(response.totalPages);
+    setTotalElements(response.totalElements);
+    setError(null);
+  }, []);
+
+  const fetchPolicies = useCallback(async (silent: boolean = false) => {
+    const request = ++latestRequest.current;
+    // Show the cached copy at once; the request below revalidates it if stale
+    const cached = policyApi.peekPaginated(
+      currentPage,
+      pageSize,
+      sortField,
+      sortDirection
+    );
     try {
-      setLoading(true);
+      if (cached) {
+        showPage(cached);
+        setLoading(false);
+      } else if (!silent) {
+        setLoading(true);
+      }
       const response = await policyApi.getPaginated(
         currentPage,
         pageSize,
         sortField,
         sortDirection
       );
+      if (request !== latestRequest.current) {
+        return;
+      }
 
       if (response && response.content) {
-        setPolicies(response.content);
-        setTotalPages(response.totalPages);
-        setTotalElements(response.totalElements);
-        setError(null);
+        showPage(response);
       } else {
         console.error("Unexpected response format:", response);
         setError("Failed to load policies. Unexpected response format.");
         setPolicies([]);
       }
     } catch (err) {
+      if (request !== latestRequest.current) {
+        return;
+      }
       console.error("Error fetching policies:", err);
       setError("Failed to load policies. Please try again later.");
       setPolicies([]);
     } finally {
-      setLoading(false);
+      if (request === latestRequest.current) {
+        setLoading(false);
+      }
     }
-  }, [currentPage, pageSize, sortField, sortDirection]);
+  }, [currentPage, pageSize, sortField, sortDirection, showPage]);
 
   useEffect(() => {
     fetchPolicies();
   }, [fetchPolicies]);
 
+  // Keep the page live: reload it in the background whenever a policy changes.
+  // The stream is opened once; the ref always points at the current page's fetch.
+  const fetchPoliciesRef = useRef(fetchPolicies);
+  useEffect(() => {
+    fetchPoliciesRef.current = fetchPolicies;
+  }, [fetchPolicies]);
+
+  useEffect(() => {
+    return policyApi.subscribeToChanges(() => fetchPoliciesRef.current(true));
+  }, []);
+
+  // A stale page was shown while it was revalidated; show the newer copy
+  useEffect(() => {
+    return policyApi.onPageRevalidated(() => fetchPoliciesRef.current(true));
+  }, []);
+
   const handleDeletePolicy = async (id: number) => {
     if (window.confirm("Are you sure you want to delete this policy?")) {
       try {
         await policyApi.delete(id);
-        // Refresh the current page after deletion
-        fetchPolicies();
+        // The change stream refreshes the page; drop the row right away meanwhile
+        setPolicies((current) => current.filter((policy) => policy.id !== id));
       } catch (err) {
         console.error("Error deleting policy:", err);
         setError("Failed to delete policy. Please try again later.");
@@ -38,3 +38,11 @@ export interface PagedResponse<T> {
   totalPages: number;
   last: boolean;
 }
+
+export type PolicyChangeType = "CREATED" | "UPDATED" | "DELETED";
+
+export interface PolicyChangeEvent {
+  type: PolicyChangeType;
+  policyId: number;
+  policy: Policy | null;
+}